@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates address books for benchmarks, in the style of {@code SampleDataUtil}. The same arguments always give
+ * the same address book, so that results of different runs and releases can be compared.
+ */
+class BenchmarkAddressBooks {
+
+    private static final long SEED = 2103;
+    private static final LocalDate FIRST_PAYMENT_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDateTime RECORDED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan"};
+    private static final String[][] TAGS = {{"friends"}, {"colleagues", "friends"}, {"neighbours"}, {"family"},
+        {"classmates"}, {}};
+    private static final String[] REMARKS = {null, "Membership fee", "Welfare pack", "Camp deposit"};
+
+    /**
+     * Returns an address book of {@code personCount} persons with {@code averagePayments} payments each on average.
+     * The number of payments varies from person to person, between none and twice the average.
+     */
+    static AddressBook generate(int personCount, int averagePayments) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            int paymentCount = random.nextInt(2 * averagePayments + 1);
+            List<Payment> payments = new ArrayList<>(paymentCount);
+            for (int j = 0; j < paymentCount; j++) {
+                Amount amount = new Amount(BigDecimal.valueOf(100 + random.nextInt(10_000), Amount.SCALE));
+                payments.add(new Payment(amount, FIRST_PAYMENT_DATE.plusDays(random.nextInt(365)),
+                        REMARKS[random.nextInt(REMARKS.length)], RECORDED_AT.plusMinutes(j)));
+            }
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + toLetters(i);
+            persons.add(new Person(new Name(name),
+                    new Phone(String.format("9%07d", i)),
+                    new Email("member" + i + "@example.com"),
+                    new MatriculationNumber(String.format("A%07d%c", i, (char) ('A' + i % 26))),
+                    SampleDataUtil.getTagSet(TAGS[i % TAGS.length]), i % 10 == 0, payments));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code number} written in letters, since names cannot hold digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
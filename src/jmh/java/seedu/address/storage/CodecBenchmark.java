@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares writing and reading a JSON data file with {@link JsonPersonCodec} against going through
+ * {@code JsonAdaptedPerson}s with Jackson databind. Both write the same JSON, and both read a data file whose
+ * checksum matches, as a data file saved by the app does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CodecBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    @Param({"0", "5", "20"})
+    public int averagePayments;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private AddressBook addressBook;
+    private byte[] json;
+
+    /**
+     * Generates the address book, and writes it as the JSON that is read.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = BenchmarkAddressBooks.generate(personCount, averagePayments);
+        json = write(true);
+    }
+
+    @Benchmark
+    public byte[] writeWithCodec() throws IOException {
+        return write(true);
+    }
+
+    @Benchmark
+    public byte[] writeWithDatabind() throws IOException {
+        return write(false);
+    }
+
+    @Benchmark
+    public AddressBook readWithCodec() throws IOException, IllegalValueException {
+        return read(true);
+    }
+
+    @Benchmark
+    public AddressBook readWithDatabind() throws IOException, IllegalValueException {
+        return read(false);
+    }
+
+    private byte[] write(boolean useCodec) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            JsonSerializableAddressBook.writeTo(addressBook, generator, useCodec);
+        }
+        return out.toByteArray();
+    }
+
+    private AddressBook read(boolean useCodec) throws IOException, IllegalValueException {
+        try (JsonParser parser = jsonFactory.createParser(new ByteArrayInputStream(json))) {
+            return JsonSerializableAddressBook.readFrom(parser, useCodec);
+        }
+    }
+}
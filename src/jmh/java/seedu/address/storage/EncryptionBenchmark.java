@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures how much encrypting the data file adds to saving and loading it, compared with plain data files.
+ * The key is derived once in the setup, as it is once per run of the app.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionBenchmark {
+
+    @Param({"1000", "10000"})
+    public int personCount;
+
+    @Param({"NONE", "GZIP"})
+    public Compression compression;
+
+    @Param({"false", "true"})
+    public boolean encrypted;
+
+    private Path directory;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Writes the data file once, which also derives the key if it is encrypted.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("encryption-benchmark");
+        addressBook = BenchmarkAddressBooks.generate(personCount, 5);
+        Passphrase passphrase = encrypted ? new Passphrase("benchmark passphrase".toCharArray()) : null;
+        storage = new JsonAddressBookStorage(directory.resolve("addressbook.json"), false, false, compression,
+                StorageSettings.DEFAULT_COMPRESSION_LEVEL, passphrase);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data file and its temporary directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws Exception {
+        return storage.readAddressBook().get();
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures how saving and loading a JSON data file scale with the number of persons and payments.
+ * <p>
+ * A load is split into its two steps: deserializing the JSON into {@code JsonAdaptedPerson}s, and converting those
+ * into the model's persons with {@code toModelType}. The round trip saves and loads a data file through
+ * {@code JsonAddressBookStorage}, as the app does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    @Param({"0", "5", "20"})
+    public int averagePayments;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private Path directory;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+    private byte[] json;
+    private JsonSerializableAddressBook adaptedAddressBook;
+
+    /**
+     * Generates the address book, and prepares the input of each step of a load.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        storage = new JsonAddressBookStorage(directory.resolve("addressbook.json"));
+        addressBook = BenchmarkAddressBooks.generate(personCount, averagePayments);
+        json = serialize();
+        adaptedAddressBook = deserialize();
+    }
+
+    /**
+     * Deletes the data file and its temporary directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Writes the address book as JSON into memory, the way the data file is written.
+     */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            JsonSerializableAddressBook.writeTo(addressBook, generator);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Parses the JSON of the address book into {@code JsonAdaptedPerson}s, without converting them.
+     */
+    @Benchmark
+    public JsonSerializableAddressBook deserialize() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(new ByteArrayInputStream(json))) {
+            return JsonUtil.readValue(parser, JsonSerializableAddressBook.class);
+        }
+    }
+
+    /**
+     * Converts parsed {@code JsonAdaptedPerson}s into the model's persons, checking every field.
+     */
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return adaptedAddressBook.toModelType();
+    }
+
+    /**
+     * Saves the address book to the data file and loads it back.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook roundTrip() throws Exception {
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+}
@@ -7,27 +7,34 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.BackupSettings;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Passphrase;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookFileWatcher;
+import seedu.address.logic.AddressBookLoader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookBackupManager;
+import seedu.address.storage.AddressBookFormatConverter;
+import seedu.address.storage.AddressBookSaveWorker;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PaymentArchive;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WorkspaceBook;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +45,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** The environment variable that holds the passphrase data files are encrypted with, if any. */
+    public static final String PASSPHRASE_ENVIRONMENT_VARIABLE = "TREASURA_PASSPHRASE";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,6 +55,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AddressBookLoader addressBookLoader;
+    protected AddressBookFileWatcher addressBookFileWatcher; // null if the data is not kept in a single file
 
     @Override
     public void init() throws Exception {
@@ -57,40 +69,76 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        StorageSettings storageSettings = initEncryption(userPrefs.getStorageSettings());
+        BackupSettings backupSettings = initBackupSettings(userPrefs);
+        storage = new StorageManager(addressBookFilePath, userPrefsStorage,
+                filePath -> openBook(filePath, storageSettings, backupSettings));
+        // Shards, databases and encrypted files are not meant to be replaced by hand, so only a single plain data
+        // file is watched
+        boolean isSingleDataFile = storage.getAddressBookFilePath().equals(addressBookFilePath)
+                && !storageSettings.isEncrypted();
+
+        // The address book is loaded in the background once the window is shown
+        model = new ModelManager(new AddressBook(), userPrefs);
+        addressBookLoader = new AddressBookLoader(model, storage);
+        if (isSingleDataFile) {
+            addressBookFileWatcher = new AddressBookFileWatcher(model, addressBookFilePath);
+        }
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, addressBookLoader);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns {@code storageSettings} with the passphrase in {@link #PASSPHRASE_ENVIRONMENT_VARIABLE}, if it is set.
+     * The passphrase is only ever taken from the environment, so that it is not saved with the preferences.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+    private static StorageSettings initEncryption(StorageSettings storageSettings) {
+        String passphrase = System.getenv(PASSPHRASE_ENVIRONMENT_VARIABLE);
+        if (passphrase == null || passphrase.isEmpty()) {
+            return storageSettings;
+        }
+        if (storageSettings.getDataFormat() != StorageSettings.DataFormat.JSON) {
+            logger.warning("Only JSON data files can be encrypted, so the " + storageSettings.getDataFormat()
+                    + " data is not encrypted; only its backups are");
+        }
+        logger.info("Data files are encrypted with the passphrase in " + PASSPHRASE_ENVIRONMENT_VARIABLE);
+        return storageSettings.withPassphrase(new Passphrase(passphrase.toCharArray()));
+    }
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+    /**
+     * Returns the backup settings of {@code userPrefs}, or the default backup settings if they are invalid.
+     */
+    private static BackupSettings initBackupSettings(UserPrefs userPrefs) {
+        BackupSettings backupSettings = userPrefs.getBackupSettings();
+        if (!backupSettings.isValid()) {
+            logger.warning("Invalid backup settings " + backupSettings + ". Using default backup settings.");
+            return new BackupSettings();
         }
+        return backupSettings;
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Returns the storage of the book of the workspace whose data file is at {@code addressBookFilePath},
+     * laid out as described by {@code storageSettings} and backed up as described by {@code backupSettings}.
+     */
+    private static WorkspaceBook openBook(Path addressBookFilePath, StorageSettings storageSettings,
+                                          BackupSettings backupSettings) {
+        AddressBookStorage addressBookStorage = AddressBookFormatConverter.prepareStorage(addressBookFilePath,
+                storageSettings);
+        AddressBookBackupManager backupManager = null;
+        if (backupSettings.isEnabled()) {
+            backupManager = new AddressBookBackupManager(
+                    AddressBookBackupManager.getBackupDirectory(addressBookFilePath), backupSettings,
+                    storageSettings.getPassphrase().orElse(null));
+            addressBookStorage = backupManager.backingUp(addressBookStorage);
+        }
+        PaymentArchive paymentArchive = new PaymentArchive(PaymentArchive.getArchiveDirectory(addressBookFilePath),
+                storageSettings.getPassphrase().orElse(null));
+        return new WorkspaceBook(addressBookStorage, new AddressBookSaveWorker(addressBookStorage), backupManager,
+                paymentArchive);
     }
 
     private void initLogging(Config config) {
@@ -172,15 +220,25 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        addressBookLoader.start();
+        addressBookLoader.whenLoaded(addressBookLoader::startPreloading);
+        if (addressBookFileWatcher != null) {
+            addressBookLoader.whenLoaded(addressBookFileWatcher::start);
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (addressBookFileWatcher != null) {
+            addressBookFileWatcher.stop();
+        }
+        storage.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        logger.info("Unchanged JSON files not rewritten: " + JsonUtil.getAvoidedWriteCount());
     }
 }
@@ -0,0 +1,119 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the automatic backups of the address book.
+ * Guarantees: immutable.
+ */
+public class BackupSettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS = "Backups must be taken at least once per chain, "
+            + "at least one chain must be retained, and no more chains can be detailed than are retained";
+
+    private static final int DEFAULT_FULL_BACKUP_INTERVAL = 50;
+    private static final int DEFAULT_RETAINED_CHAINS = 10;
+    private static final int DEFAULT_DETAILED_CHAINS = 2;
+
+    private final boolean enabled;
+    private final int fullBackupInterval; // the number of change backups after which a full backup is taken
+    private final int retainedChains; // chains older than these are deleted
+    private final int detailedChains; // older chains are compacted into their last state
+
+    /**
+     * Constructs a {@code BackupSettings} with the default settings.
+     */
+    public BackupSettings() {
+        this(true, DEFAULT_FULL_BACKUP_INTERVAL, DEFAULT_RETAINED_CHAINS, DEFAULT_DETAILED_CHAINS);
+    }
+
+    /**
+     * Constructs a {@code BackupSettings} with the specified settings.
+     */
+    public BackupSettings(boolean enabled, int fullBackupInterval, int retainedChains, int detailedChains) {
+        checkArgument(isValidBackupSettings(fullBackupInterval, retainedChains, detailedChains), MESSAGE_CONSTRAINTS);
+        this.enabled = enabled;
+        this.fullBackupInterval = fullBackupInterval;
+        this.retainedChains = retainedChains;
+        this.detailedChains = detailedChains;
+    }
+
+    /**
+     * Returns true if the given numbers make a valid retention policy.
+     */
+    public static boolean isValidBackupSettings(int fullBackupInterval, int retainedChains, int detailedChains) {
+        return fullBackupInterval > 0 && retainedChains > 0 && detailedChains > 0 && detailedChains <= retainedChains;
+    }
+
+    /**
+     * Returns true if these settings make a valid retention policy.
+     * Settings read from a preferences file are not checked while they are read.
+     */
+    public boolean isValid() {
+        return isValidBackupSettings(fullBackupInterval, retainedChains, detailedChains);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of backups of changes that are taken after a full backup before the next full backup.
+     */
+    public int getFullBackupInterval() {
+        return fullBackupInterval;
+    }
+
+    /**
+     * Returns the number of most recent backup chains that are kept. Older chains are deleted.
+     */
+    public int getRetainedChains() {
+        return retainedChains;
+    }
+
+    /**
+     * Returns the number of most recent backup chains that keep every backup in them.
+     * Older chains that are still retained are compacted into a single full backup of their last state.
+     */
+    public int getDetailedChains() {
+        return detailedChains;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackupSettings)) {
+            return false;
+        }
+
+        BackupSettings otherBackupSettings = (BackupSettings) other;
+        return enabled == otherBackupSettings.enabled
+                && fullBackupInterval == otherBackupSettings.fullBackupInterval
+                && retainedChains == otherBackupSettings.retainedChains
+                && detailedChains == otherBackupSettings.detailedChains;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, fullBackupInterval, retainedChains, detailedChains);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("enabled", enabled)
+                .add("fullBackupInterval", fullBackupInterval)
+                .add("retainedChains", retainedChains)
+                .add("detailedChains", detailedChains)
+                .toString();
+    }
+}
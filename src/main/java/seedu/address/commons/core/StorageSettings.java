@@ -0,0 +1,241 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.Passphrase;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of how the address book is stored.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * The file formats the address book data file can be written in.
+     */
+    public enum DataFormat {
+        /** Human-readable JSON. */
+        JSON,
+        /** Compact, length-prefixed binary records. */
+        BINARY,
+        /** Tables in an embedded database file, updated row by row. */
+        SQL
+    }
+
+    /**
+     * The ways a JSON data file can be compressed.
+     */
+    public enum Compression {
+        /** Plain, uncompressed JSON. */
+        NONE,
+        /** The gzip file format. */
+        GZIP,
+        /** The zlib format, i.e. raw deflate data with a small header and checksum. */
+        DEFLATE
+    }
+
+    public static final String MESSAGE_INVALID_COMPRESSION_LEVEL =
+            "Compression level must be between 0 and 9, or -1 for the default level";
+
+    /** Lets the compressor pick its default balance between speed and size. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = -1;
+
+    private static final DataFormat DEFAULT_DATA_FORMAT = DataFormat.JSON;
+
+    private final DataFormat dataFormat;
+    // Mapped files cannot be replaced on some platforms (e.g. Windows) until the mapping is garbage collected
+    private final boolean memoryMappedLoading;
+    private final int shardCount; // 0 keeps all persons in a single data file
+    private final Compression compression;
+    private final int compressionLevel; // 0 (fastest) to 9 (smallest), or DEFAULT_COMPRESSION_LEVEL
+    private final boolean lazyPaymentLoading;
+    // Only ever given at runtime, so it is neither saved with the preferences nor part of equality
+    private final transient Passphrase passphrase;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default settings.
+     */
+    public StorageSettings() {
+        this(DEFAULT_DATA_FORMAT);
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified data format and default values otherwise.
+     */
+    public StorageSettings(DataFormat dataFormat) {
+        this(dataFormat, false, 0, Compression.NONE, DEFAULT_COMPRESSION_LEVEL, false, null);
+    }
+
+    private StorageSettings(DataFormat dataFormat, boolean memoryMappedLoading, int shardCount,
+                            Compression compression, int compressionLevel, boolean lazyPaymentLoading,
+                            Passphrase passphrase) {
+        requireNonNull(dataFormat);
+        requireNonNull(compression);
+        checkArgument(shardCount >= 0, "Shard count must not be negative");
+        checkArgument(isValidCompressionLevel(compressionLevel), MESSAGE_INVALID_COMPRESSION_LEVEL);
+        this.dataFormat = dataFormat;
+        this.memoryMappedLoading = memoryMappedLoading;
+        this.shardCount = shardCount;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.lazyPaymentLoading = lazyPaymentLoading;
+        this.passphrase = passphrase;
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} is a level the compressor accepts.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel == DEFAULT_COMPRESSION_LEVEL || (compressionLevel >= 0 && compressionLevel <= 9);
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    /**
+     * Returns true if the data file should be loaded by mapping it into memory instead of reading it.
+     */
+    public boolean isMemoryMappedLoading() {
+        return memoryMappedLoading;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns true if persons are spread over several shard files instead of a single data file.
+     */
+    public boolean isSharded() {
+        return shardCount > 0;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Returns true if the payments of each person are only loaded once they are needed,
+     * instead of when the address book is loaded.
+     */
+    public boolean isLazyPaymentLoading() {
+        return lazyPaymentLoading;
+    }
+
+    /**
+     * Returns the passphrase that data files are encrypted with, or {@code Optional.empty()} if they are not
+     * encrypted.
+     */
+    public Optional<Passphrase> getPassphrase() {
+        return Optional.ofNullable(passphrase);
+    }
+
+    /**
+     * Returns true if data files are encrypted.
+     */
+    public boolean isEncrypted() {
+        return passphrase != null;
+    }
+
+    /**
+     * Returns a copy of these settings with the data format replaced by {@code dataFormat}.
+     */
+    public StorageSettings withDataFormat(DataFormat dataFormat) {
+        return new StorageSettings(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading, passphrase);
+    }
+
+    /**
+     * Returns a copy of these settings that loads with memory mapping if {@code memoryMappedLoading} is true.
+     */
+    public StorageSettings withMemoryMappedLoading(boolean memoryMappedLoading) {
+        return new StorageSettings(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading, passphrase);
+    }
+
+    /**
+     * Returns a copy of these settings that spreads persons over {@code shardCount} shard files,
+     * or keeps them in a single data file if {@code shardCount} is 0.
+     */
+    public StorageSettings withShardCount(int shardCount) {
+        return new StorageSettings(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading, passphrase);
+    }
+
+    /**
+     * Returns a copy of these settings that compresses JSON data files with {@code compression}
+     * at {@code compressionLevel}.
+     */
+    public StorageSettings withCompression(Compression compression, int compressionLevel) {
+        return new StorageSettings(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading, passphrase);
+    }
+
+    /**
+     * Returns a copy of these settings that loads payments only once they are needed if
+     * {@code lazyPaymentLoading} is true.
+     */
+    public StorageSettings withLazyPaymentLoading(boolean lazyPaymentLoading) {
+        return new StorageSettings(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading, passphrase);
+    }
+
+    /**
+     * Returns a copy of these settings that encrypts data files with {@code passphrase},
+     * or leaves them unencrypted if {@code passphrase} is null.
+     */
+    public StorageSettings withPassphrase(Passphrase passphrase) {
+        return new StorageSettings(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading, passphrase);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return dataFormat == otherStorageSettings.dataFormat
+                && memoryMappedLoading == otherStorageSettings.memoryMappedLoading
+                && shardCount == otherStorageSettings.shardCount
+                && compression == otherStorageSettings.compression
+                && compressionLevel == otherStorageSettings.compressionLevel
+                && lazyPaymentLoading == otherStorageSettings.lazyPaymentLoading;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataFormat, memoryMappedLoading, shardCount, compression, compressionLevel,
+                lazyPaymentLoading);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("dataFormat", dataFormat)
+                .add("memoryMappedLoading", memoryMappedLoading)
+                .add("shardCount", shardCount)
+                .add("compression", compression)
+                .add("compressionLevel", compressionLevel)
+                .add("lazyPaymentLoading", lazyPaymentLoading)
+                .add("encrypted", isEncrypted())
+                .toString();
+    }
+}
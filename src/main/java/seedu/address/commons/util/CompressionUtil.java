@@ -0,0 +1,127 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
+
+/**
+ * Compresses content written to files, and recognises compressed files by their first bytes when reading them.
+ */
+public class CompressionUtil {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC = 0x1f8b;
+    private static final int ZLIB_DEFLATE_METHOD = 8;
+    private static final int ZLIB_HEADER_CHECK_DIVISOR = 31;
+
+    /**
+     * Returns a {@code ContentWriter} that passes the content of {@code contentWriter} through
+     * {@code compression} at {@code compressionLevel}. The compressed data is finished when {@code contentWriter}
+     * returns, but the stream given to the returned writer is not closed.
+     */
+    public static FileUtil.ContentWriter compressing(Compression compression, int compressionLevel,
+                                                    FileUtil.ContentWriter contentWriter) {
+        requireNonNull(compression);
+        requireNonNull(contentWriter);
+        if (compression == Compression.NONE) {
+            return contentWriter;
+        }
+
+        return out -> {
+            if (!StorageSettings.isValidCompressionLevel(compressionLevel)) {
+                throw new IOException(StorageSettings.MESSAGE_INVALID_COMPRESSION_LEVEL);
+            }
+            Deflater deflater = new Deflater(compressionLevel, compression == Compression.GZIP);
+            try {
+                DeflaterOutputStream compressed = createCompressingStream(compression, deflater, out);
+                contentWriter.writeContent(compressed);
+                compressed.finish();
+            } finally {
+                deflater.end();
+            }
+        };
+    }
+
+    /**
+     * Returns a stream of the decompressed content of {@code in} if it starts like gzip or zlib data,
+     * or a stream of the content of {@code in} as it is otherwise.
+     */
+    public static InputStream decompressIfCompressed(InputStream in) throws IOException {
+        requireNonNull(in);
+        PushbackInputStream peekable = new PushbackInputStream(in, 2);
+        int first = peekable.read();
+        int second = first == -1 ? -1 : peekable.read();
+        if (second != -1) {
+            peekable.unread(second);
+        }
+        if (first != -1) {
+            peekable.unread(first);
+        }
+
+        switch (detectCompression(first, second)) {
+        case GZIP:
+            return new GZIPInputStream(peekable, BUFFER_SIZE);
+        case DEFLATE:
+            return new InflaterInputStream(peekable);
+        case NONE:
+            return peekable;
+        default:
+            throw new AssertionError("Unknown compression");
+        }
+    }
+
+    /**
+     * Returns the compression that content starting with the bytes {@code first} and {@code second} is in.
+     * Bytes are given as by {@link InputStream#read()}, with -1 for the end of the content.
+     * Neither gzip nor zlib data can start like a JSON document, which starts with '{', '[' or whitespace.
+     */
+    static Compression detectCompression(int first, int second) {
+        if (first == -1 || second == -1) {
+            return Compression.NONE;
+        }
+        int header = (first << 8) | second;
+        if (header == GZIP_MAGIC) {
+            return Compression.GZIP;
+        }
+        if ((first & 0x0f) == ZLIB_DEFLATE_METHOD && header % ZLIB_HEADER_CHECK_DIVISOR == 0) {
+            return Compression.DEFLATE;
+        }
+        return Compression.NONE;
+    }
+
+    private static DeflaterOutputStream createCompressingStream(Compression compression, Deflater deflater,
+                                                                OutputStream out) throws IOException {
+        switch (compression) {
+        case GZIP:
+            return new GzipStream(out, deflater);
+        case DEFLATE:
+            return new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+        default:
+            throw new AssertionError("Not a compression: " + compression);
+        }
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses with the given {@code Deflater}, so that its level can be set.
+     * The gzip header and trailer are written by {@code GZIPOutputStream}; the deflater must produce raw data.
+     */
+    private static class GzipStream extends GZIPOutputStream {
+        GzipStream(OutputStream out, Deflater deflater) throws IOException {
+            super(out, BUFFER_SIZE);
+            // The deflater created by GZIPOutputStream has not compressed anything yet
+            def.end();
+            def = deflater;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Splits and joins lines of comma-separated values, as written by spreadsheets.
+ * <p>
+ * A field may be enclosed in double quotes to hold commas, and a double quote inside such a field is written twice.
+ * Fields cannot span lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by other text";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of {@code line}, with the quotes around quoted fields removed.
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by text other than a separator.
+     */
+    public static List<String> splitLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end < 0 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Appends the content of the quoted field that starts at {@code start}, just after its opening quote, to
+     * {@code field}, and returns the position just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Returns {@code fields} joined into one line, quoting the fields that need it.
+     * A null field is written as an empty one.
+     */
+    public static String joinLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        if (field == null) {
+            return;
+        }
+        boolean needsQuotes = field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            line.append(field);
+            return;
+        }
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            // Line breaks would split the record, since fields cannot span lines
+            line.append(c == '\n' || c == '\r' ? ' ' : c);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+        }
+        line.append(QUOTE);
+    }
+}
@@ -0,0 +1,344 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Encrypts content written to files with AES-GCM under a key derived from a {@link Passphrase}, and recognises
+ * encrypted files by their first bytes when reading them.
+ * <p>
+ * The content is encrypted in chunks of {@link #CHUNK_SIZE} bytes as it is written, and decrypted chunk by chunk
+ * as it is read, so neither needs more memory than a chunk. An encrypted file starts with a header that holds
+ * the salt and rounds the key was derived with and a random nonce prefix. Each chunk is encrypted with a nonce
+ * made of that prefix and the index of the chunk, and authenticated together with the header and whether it is
+ * the last chunk. Chunks that were changed, reordered, dropped or cut off therefore fail to decrypt instead of
+ * yielding other content.
+ */
+public class EncryptionUtil {
+
+    public static final String MESSAGE_NO_PASSPHRASE = "The file is encrypted, but no passphrase was given";
+    public static final String MESSAGE_CANNOT_DECRYPT =
+            "The file could not be decrypted: the passphrase is wrong, or the file was changed or cut short";
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    // Neither JSON, gzip, zlib nor binary address book files can start with 0xAE
+    private static final byte[] MAGIC = {(byte) 0xAE, 'T', 'R', 'S'};
+    private static final int VERSION = 1;
+    private static final int NONCE_PREFIX_LENGTH = 8;
+    private static final int HEADER_LENGTH = MAGIC.length + 1 + Integer.BYTES + Passphrase.SALT_LENGTH
+            + NONCE_PREFIX_LENGTH;
+    private static final int TAG_BITS = 128;
+    private static final int TAG_LENGTH = TAG_BITS / 8;
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final SecureRandom random = new SecureRandom();
+
+    /**
+     * Returns a {@code ContentWriter} that encrypts the content of {@code contentWriter} with {@code passphrase}.
+     * The encrypted data is finished when {@code contentWriter} returns, but the stream given to the returned
+     * writer is not closed.
+     */
+    public static FileUtil.ContentWriter encrypting(Passphrase passphrase, FileUtil.ContentWriter contentWriter) {
+        requireNonNull(passphrase);
+        requireNonNull(contentWriter);
+        return out -> {
+            EncryptingStream encrypted = new EncryptingStream(out, passphrase);
+            contentWriter.writeContent(encrypted);
+            encrypted.finish();
+        };
+    }
+
+    /**
+     * Returns a stream of the decrypted content of {@code in} if it starts like an encrypted file,
+     * or a stream of the content of {@code in} as it is otherwise.
+     *
+     * @param passphrase the passphrase the content was encrypted with, or null if none is known.
+     * @throws IOException if {@code in} is encrypted and {@code passphrase} is null, or if the header of
+     *     the encrypted content is damaged. Damaged chunks only fail once they are read.
+     */
+    public static InputStream decryptIfEncrypted(InputStream in, Passphrase passphrase) throws IOException {
+        requireNonNull(in);
+        PushbackInputStream peekable = new PushbackInputStream(in, MAGIC.length);
+        byte[] start = peekable.readNBytes(MAGIC.length);
+        if (!Arrays.equals(start, MAGIC)) {
+            peekable.unread(start);
+            return peekable;
+        }
+        if (passphrase == null) {
+            throw new IOException(MESSAGE_NO_PASSPHRASE);
+        }
+        return new DecryptingStream(peekable, passphrase);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like an encrypted file.
+     */
+    public static boolean isEncrypted(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Returns {@code text} encrypted with {@code passphrase}, as a single line of Base64 for line-based files.
+     */
+    public static String encryptToLine(String text, Passphrase passphrase) throws IOException {
+        requireNonNull(text);
+        requireNonNull(passphrase);
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        encrypting(passphrase, out -> out.write(text.getBytes(StandardCharsets.UTF_8))).writeContent(encrypted);
+        return Base64.getEncoder().encodeToString(encrypted.toByteArray());
+    }
+
+    /**
+     * Returns the text in {@code line}, as encrypted by {@link #encryptToLine}.
+     *
+     * @param passphrase the passphrase the line was encrypted with, or null if none is known.
+     * @throws IOException if the line cannot be decrypted.
+     */
+    public static String decryptLine(String line, Passphrase passphrase) throws IOException {
+        requireNonNull(line);
+        byte[] encrypted;
+        try {
+            encrypted = Base64.getDecoder().decode(line.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(MESSAGE_CANNOT_DECRYPT, e);
+        }
+        if (!Arrays.equals(Arrays.copyOf(encrypted, MAGIC.length), MAGIC)) {
+            throw new IOException(MESSAGE_CANNOT_DECRYPT);
+        }
+        try (InputStream in = decryptIfEncrypted(new ByteArrayInputStream(encrypted), passphrase)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] getNonce(byte[] noncePrefix, int chunkIndex) {
+        return ByteBuffer.allocate(NONCE_PREFIX_LENGTH + Integer.BYTES)
+                .put(noncePrefix)
+                .putInt(chunkIndex)
+                .array();
+    }
+
+    private static Cipher createCipher() throws IOException {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("AES-GCM is not available", e);
+        }
+    }
+
+    /**
+     * Encrypts what is written to it chunk by chunk. A full chunk is only encrypted once more content follows,
+     * since the last chunk is marked as such; {@link #finish()} encrypts the last chunk.
+     */
+    private static class EncryptingStream extends OutputStream {
+        private final OutputStream out;
+        private final SecretKey key;
+        private final byte[] header;
+        private final byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+        private final Cipher cipher;
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final byte[] encryptedChunk = new byte[CHUNK_SIZE + TAG_LENGTH];
+        private int chunkLength;
+        private int chunkIndex;
+
+        EncryptingStream(OutputStream out, Passphrase passphrase) throws IOException {
+            this.out = out;
+            this.cipher = createCipher();
+            byte[] salt = passphrase.getSalt();
+            this.key = passphrase.getKey(salt, passphrase.getIterations());
+            random.nextBytes(noncePrefix);
+
+            ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(HEADER_LENGTH);
+            DataOutputStream headerOut = new DataOutputStream(headerBytes);
+            headerOut.write(MAGIC);
+            headerOut.writeByte(VERSION);
+            headerOut.writeInt(passphrase.getIterations());
+            headerOut.write(salt);
+            headerOut.write(noncePrefix);
+            this.header = headerBytes.toByteArray();
+            out.write(header);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (chunkLength == CHUNK_SIZE) {
+                writeChunk(false);
+            }
+            chunk[chunkLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (chunkLength == CHUNK_SIZE) {
+                    writeChunk(false);
+                }
+                int copied = Math.min(len, CHUNK_SIZE - chunkLength);
+                System.arraycopy(b, off, chunk, chunkLength, copied);
+                chunkLength += copied;
+                off += copied;
+                len -= copied;
+            }
+        }
+
+        /**
+         * Encrypts the rest of the content as the last chunk. Nothing may be written afterwards.
+         */
+        void finish() throws IOException {
+            writeChunk(true);
+        }
+
+        private void writeChunk(boolean isLast) throws IOException {
+            assert chunkIndex >= 0 : "too many chunks for the nonce";
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, getNonce(noncePrefix,
+                        chunkIndex)));
+                cipher.updateAAD(header);
+                cipher.updateAAD(new byte[] {(byte) (isLast ? 1 : 0)});
+                int encryptedLength = cipher.doFinal(chunk, 0, chunkLength, encryptedChunk, 0);
+                out.write(encryptedChunk, 0, encryptedLength);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Chunk could not be encrypted", e);
+            }
+            chunkLength = 0;
+            chunkIndex++;
+        }
+    }
+
+    /**
+     * Decrypts an encrypted file whose magic bytes have been read, chunk by chunk as it is read.
+     * A full chunk is the last one if nothing follows it.
+     */
+    private static class DecryptingStream extends InputStream {
+        private final PushbackInputStream in;
+        private final SecretKey key;
+        private final byte[] header;
+        private final byte[] noncePrefix;
+        private final Cipher cipher;
+        private final byte[] encryptedChunk = new byte[CHUNK_SIZE + TAG_LENGTH];
+        private final byte[] chunk = new byte[CHUNK_SIZE + TAG_LENGTH];
+        private int chunkLength;
+        private int position;
+        private int chunkIndex;
+        private boolean isLastChunkRead;
+
+        DecryptingStream(PushbackInputStream in, Passphrase passphrase) throws IOException {
+            this.in = in;
+            this.cipher = createCipher();
+            byte[] rest = in.readNBytes(HEADER_LENGTH - MAGIC.length);
+            if (rest.length < HEADER_LENGTH - MAGIC.length) {
+                throw new EOFException(MESSAGE_CANNOT_DECRYPT);
+            }
+            DataInputStream headerIn = new DataInputStream(new ByteArrayInputStream(rest));
+            int version = headerIn.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported encrypted file version: " + version);
+            }
+            int iterations = headerIn.readInt();
+            byte[] salt = headerIn.readNBytes(Passphrase.SALT_LENGTH);
+            this.noncePrefix = headerIn.readNBytes(NONCE_PREFIX_LENGTH);
+            this.key = passphrase.getKey(salt, iterations);
+
+            this.header = new byte[HEADER_LENGTH];
+            System.arraycopy(MAGIC, 0, header, 0, MAGIC.length);
+            System.arraycopy(rest, 0, header, MAGIC.length, rest.length);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!hasContent()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!hasContent()) {
+                return -1;
+            }
+            int copied = Math.min(len, chunkLength - position);
+            System.arraycopy(chunk, position, b, off, copied);
+            position += copied;
+            return copied;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * Decrypts chunks until there is unread content, and returns false if there is none left.
+         */
+        private boolean hasContent() throws IOException {
+            while (position == chunkLength) {
+                if (isLastChunkRead) {
+                    return false;
+                }
+                readChunk();
+            }
+            return true;
+        }
+
+        private void readChunk() throws IOException {
+            int encryptedLength = in.readNBytes(encryptedChunk, 0, encryptedChunk.length);
+            boolean isLast = encryptedLength < encryptedChunk.length;
+            if (!isLast) {
+                int next = in.read();
+                if (next == -1) {
+                    isLast = true;
+                } else {
+                    in.unread(next);
+                }
+            }
+            if (encryptedLength < TAG_LENGTH) {
+                throw new EOFException(MESSAGE_CANNOT_DECRYPT);
+            }
+
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, getNonce(noncePrefix,
+                        chunkIndex)));
+                cipher.updateAAD(header);
+                cipher.updateAAD(new byte[] {(byte) (isLast ? 1 : 0)});
+                chunkLength = cipher.doFinal(encryptedChunk, 0, encryptedLength, chunk, 0);
+            } catch (AEADBadTagException e) {
+                throw new IOException(MESSAGE_CANNOT_DECRYPT, e);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Chunk could not be decrypted", e);
+            }
+            position = 0;
+            chunkIndex++;
+            isLastChunkRead = isLast;
+        }
+    }
+}
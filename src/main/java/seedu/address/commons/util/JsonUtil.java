@@ -3,25 +3,43 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +57,30 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Content last written to or read from each file by saveJsonFile and readJsonFile, by absolute path
+    private static final Map<Path, FileContent> knownContents = new ConcurrentHashMap<>();
+    private static final AtomicLong avoidedWriteCount = new AtomicLong();
+
+    // Values written into an open generator should only reach the file when its buffer is full
+    private static final ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    /**
+     * Writes JSON content into a {@code JsonGenerator}, piece by piece.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeContent(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads JSON content from a {@code JsonParser}, piece by piece, and converts it into an object.
+     */
+    @FunctionalInterface
+    public interface JsonContentReader<T> {
+        T readContent(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -68,7 +110,9 @@ public class JsonUtil {
         T jsonFile;
 
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            byte[] content = Files.readAllBytes(filePath);
+            jsonFile = fromJsonString(new String(content, StandardCharsets.UTF_8), classOfObjectToDeserialize);
+            rememberContent(filePath, content);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataLoadingException(e);
@@ -77,9 +121,67 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the object read from the given file by {@code contentReader}, or {@code Optional.empty()}
+     * if the file is not found. The file is streamed through a parser, so it is never held in memory as a whole.
+     *
+     * @param filePath cannot be null.
+     * @param contentReader reads the content from the parser; cannot be null.
+     * @throws DataLoadingException if the file is not valid JSON, or its content violates data constraints.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonContentReader<T> contentReader)
+            throws DataLoadingException {
+        return readJsonFile(filePath, contentReader, false);
+    }
+
+    /**
+     * Similar to {@link #readJsonFile(Path, JsonContentReader)}, but maps the file into memory and parses
+     * the UTF-8 bytes straight from the mapping if {@code isMemoryMapped} is true.
+     * Files compressed by {@link #writeJsonFileAtomically(Path, boolean, Compression, int, JsonContentWriter)}
+     * are recognised by their first bytes and decompressed while parsing. Encrypted files cannot be read.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonContentReader<T> contentReader,
+                                               boolean isMemoryMapped) throws DataLoadingException {
+        return readJsonFile(filePath, contentReader, isMemoryMapped, null);
+    }
+
+    /**
+     * Similar to {@link #readJsonFile(Path, JsonContentReader, boolean)}, but also decrypts files encrypted by
+     * {@link #writeJsonFileAtomically(Path, boolean, Compression, int, Passphrase, JsonContentWriter)} with
+     * {@code passphrase}, which may be null if no passphrase is known.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonContentReader<T> contentReader,
+                                               boolean isMemoryMapped, Passphrase passphrase)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(contentReader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = CompressionUtil.decompressIfCompressed(EncryptionUtil.decryptIfEncrypted(
+                    isMemoryMapped
+                            ? new ByteBufferBackedInputStream(FileUtil.mapReadOnly(filePath))
+                            : Files.newInputStream(filePath),
+                    passphrase));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return Optional.of(contentReader.readContent(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The write is skipped if the file still holds exactly the JSON of the object, as last written to or read
+     * from it by this class; such skipped writes are counted by {@link #getAvoidedWriteCount()}.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -88,9 +190,127 @@ public class JsonUtil {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        String json = toJsonString(jsonFile);
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        FileContent known = knownContents.get(filePath.toAbsolutePath().normalize());
+        if (known != null && known.isStillIn(filePath) && known.hasDigest(digestOf(content))) {
+            avoidedWriteCount.incrementAndGet();
+            logger.fine("Skipped writing unchanged JSON file " + filePath);
+            return;
+        }
+
+        FileUtil.writeToFile(filePath, json);
+        rememberContent(filePath, content);
+    }
+
+    /**
+     * Returns the number of writes that {@link #saveJsonFile(Object, Path)} skipped since the app started,
+     * because the file already held the same content.
+     */
+    public static long getAvoidedWriteCount() {
+        return avoidedWriteCount.get();
+    }
+
+    /**
+     * Remembers that {@code filePath} holds {@code content}, as it was just written or read.
+     */
+    private static void rememberContent(Path filePath, byte[] content) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        knownContents.put(filePath.toAbsolutePath().normalize(),
+                new FileContent(digestOf(content), attributes.size(), attributes.lastModifiedTime()));
+    }
+
+    private static byte[] digestOf(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is available on every Java platform", e);
+        }
+    }
+
+    /**
+     * Writes JSON to the specified file by streaming it through a generator, so the document is never held
+     * in memory as a whole. The content is written to a temporary file next to {@code filePath}, which then
+     * replaces {@code filePath} atomically; an interrupted write never leaves a partially written file behind.
+     *
+     * @param filePath cannot be null
+     * @param isCompact whether to leave out the line breaks and indentation of pretty printing
+     * @param contentWriter writes the content into the generator; cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFileAtomically(Path filePath, boolean isCompact, JsonContentWriter contentWriter)
+            throws IOException {
+        writeJsonFileAtomically(filePath, isCompact, Compression.NONE, StorageSettings.DEFAULT_COMPRESSION_LEVEL,
+                contentWriter);
     }
 
+    /**
+     * Similar to {@link #writeJsonFileAtomically(Path, boolean, JsonContentWriter)}, but compresses the JSON
+     * with {@code compression} at {@code compressionLevel} on its way to the file.
+     */
+    public static void writeJsonFileAtomically(Path filePath, boolean isCompact, Compression compression,
+                                               int compressionLevel, JsonContentWriter contentWriter)
+            throws IOException {
+        writeJsonFileAtomically(filePath, isCompact, compression, compressionLevel, null, contentWriter);
+    }
+
+    /**
+     * Similar to {@link #writeJsonFileAtomically(Path, boolean, Compression, int, JsonContentWriter)}, but also
+     * encrypts the compressed JSON with {@code passphrase} unless it is null.
+     */
+    public static void writeJsonFileAtomically(Path filePath, boolean isCompact, Compression compression,
+                                               int compressionLevel, Passphrase passphrase,
+                                               JsonContentWriter contentWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        requireNonNull(contentWriter);
+
+        FileUtil.ContentWriter jsonWriter = CompressionUtil.compressing(compression, compressionLevel, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                // the stream stays open until the written data has been forced to the disk
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                contentWriter.writeContent(generator);
+            }
+        });
+        // Encrypted data does not compress, so the content is compressed before it is encrypted
+        FileUtil.writeAtomically(filePath, passphrase == null
+                ? jsonWriter
+                : EncryptionUtil.encrypting(passphrase, jsonWriter));
+    }
+
+    /**
+     * Writes {@code value} into {@code generator} at its current position, using the same
+     * settings as the rest of this class.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
+    /**
+     * Reads the JSON value that starts at the current token of {@code parser} as an instance of
+     * {@code valueClass}, using the same settings as the rest of this class.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> valueClass) throws IOException {
+        return objectMapper.readValue(parser, valueClass);
+    }
+
+    /**
+     * Reads the JSON value that starts at the current token of {@code parser} as a tree.
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        return objectMapper.readTree(parser);
+    }
+
+    /**
+     * Converts {@code node}, a JSON value read as a tree, into an instance of {@code valueClass},
+     * using the same settings as the rest of this class.
+     */
+    public static <T> T treeToValue(JsonNode node, Class<T> valueClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(node, valueClass);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +331,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON string, without any pretty printing.
+     * Useful for line-oriented files where every line holds one JSON record.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -141,4 +372,33 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * The digest of the content known to be in a file, with the size and modification time the file had then.
+     * A file whose size and modification time are unchanged is taken to still hold that content, which saves
+     * reading it back; a file that was changed or deleted by anything else no longer matches.
+     */
+    private static class FileContent {
+        private final byte[] digest;
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        FileContent(byte[] digest, long size, FileTime lastModifiedTime) {
+            this.digest = digest;
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        boolean hasDigest(byte[] otherDigest) {
+            return MessageDigest.isEqual(digest, otherDigest);
+        }
+
+        boolean isStillIn(Path filePath) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+                return attributes.size() == size && attributes.lastModifiedTime().equals(lastModifiedTime);
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A passphrase that files are encrypted with by {@link EncryptionUtil}, and the AES keys derived from it.
+ * <p>
+ * Keys are derived with PBKDF2, which is slow on purpose. Each key is derived once for a salt and then kept,
+ * and everything written with the same {@code Passphrase} uses the same salt, so only the first save and the
+ * first read of a file written elsewhere pay for a derivation.
+ */
+public class Passphrase {
+
+    public static final String MESSAGE_EMPTY_PASSPHRASE = "Passphrase must not be empty";
+
+    static final int SALT_LENGTH = 16;
+    static final int DEFAULT_ITERATIONS = 310_000;
+    // Limits the work that a damaged or forged file header can ask for
+    static final int MAX_ITERATIONS = 10_000_000;
+
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_BITS = 256;
+    private static final SecureRandom random = new SecureRandom();
+
+    private final char[] characters;
+    private final int iterations;
+    private final byte[] salt = new byte[SALT_LENGTH];
+    private final Map<String, SecretKey> keys = new HashMap<>();
+
+    /**
+     * Creates a {@code Passphrase} from {@code characters}, which are copied.
+     */
+    public Passphrase(char[] characters) {
+        this(characters, DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * Creates a {@code Passphrase} that derives the keys it encrypts with in {@code iterations} rounds.
+     */
+    Passphrase(char[] characters, int iterations) {
+        requireNonNull(characters);
+        checkArgument(characters.length > 0, MESSAGE_EMPTY_PASSPHRASE);
+        checkArgument(iterations > 0 && iterations <= MAX_ITERATIONS, "Iterations out of range");
+        this.characters = characters.clone();
+        this.iterations = iterations;
+        random.nextBytes(salt);
+    }
+
+    /**
+     * Returns the salt that keys for encrypting are derived with.
+     */
+    byte[] getSalt() {
+        return salt.clone();
+    }
+
+    int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the key derived from this passphrase with {@code salt} in {@code iterations} rounds.
+     */
+    synchronized SecretKey getKey(byte[] salt, int iterations) throws IOException {
+        if (iterations <= 0 || iterations > MAX_ITERATIONS) {
+            throw new IOException("Unsupported number of key derivation rounds: " + iterations);
+        }
+        String keyId = iterations + ":" + Base64.getEncoder().encodeToString(salt);
+        SecretKey key = keys.get(keyId);
+        if (key == null) {
+            key = deriveKey(salt, iterations);
+            keys.put(keyId, key);
+        }
+        return key;
+    }
+
+    private SecretKey deriveKey(byte[] salt, int iterations) throws IOException {
+        PBEKeySpec spec = new PBEKeySpec(characters, salt, iterations, KEY_BITS);
+        try {
+            byte[] encoded = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(spec).getEncoded();
+            return new SecretKeySpec(encoded, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Key could not be derived from the passphrase", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    @Override
+    public String toString() {
+        // The passphrase ends up in logs through the settings that hold it
+        return "Passphrase[hidden]";
+    }
+}
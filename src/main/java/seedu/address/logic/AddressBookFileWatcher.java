@@ -0,0 +1,280 @@
+package seedu.address.logic;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings.DataFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookFormatConverter;
+
+/**
+ * Watches the data file for changes made outside the application, and applies the persons that were changed
+ * in the file to the model.
+ * <p>
+ * Each time the file changes, it is read and compared to the contents it had when last read, by matriculation
+ * number, on the watcher's own thread. Only the persons that differ are handed over to the model thread, where a
+ * person is replaced only if the model still holds the version from the file's previous contents. Persons that
+ * were edited in the application since are kept as they are, so the application's own saves never undo newer
+ * edits. Persons that disappeared from the file are kept too, since members are archived rather than deleted.
+ * Changes are only applied while the watched file's book is the one open in the model.
+ */
+public class AddressBookFileWatcher {
+
+    /** How long the file must stay unchanged before it is read, so that a file being written is not read. */
+    private static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileWatcher.class);
+
+    private final Model model;
+    private final Path filePath;
+    private final Executor modelThread;
+
+    private Map<MatriculationNumber, Person> lastRead = Collections.emptyMap(); // only used on the watcher thread
+    private WatchService watchService;
+    private boolean isStopped;
+
+    /**
+     * Creates an {@code AddressBookFileWatcher} that applies changes to the data file at {@code filePath}
+     * to {@code model}.
+     */
+    public AddressBookFileWatcher(Model model, Path filePath) {
+        this(model, filePath, Platform::runLater);
+    }
+
+    /**
+     * Creates an {@code AddressBookFileWatcher} that applies changes to the data file at {@code filePath}
+     * to {@code model}, changing the model only through {@code modelThread}.
+     */
+    AddressBookFileWatcher(Model model, Path filePath, Executor modelThread) {
+        requireNonNull(model);
+        requireNonNull(filePath);
+        requireNonNull(modelThread);
+        this.model = model;
+        this.filePath = filePath.toAbsolutePath();
+        this.modelThread = modelThread;
+    }
+
+    /**
+     * Starts watching the data file on a background thread. Its current contents are taken to be the ones
+     * the model was loaded from.
+     */
+    public void start() {
+        Thread thread = new Thread(this::watch, "addressbook-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public synchronized void stop() {
+        isStopped = true;
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Reads the current contents of the data file, which later contents are compared against.
+     */
+    void readInitialContents() {
+        readFile().ifPresent(persons -> lastRead = persons);
+    }
+
+    private void watch() {
+        readInitialContents();
+        try {
+            WatchService watchService = openWatchService();
+            if (watchService == null) {
+                return;
+            }
+            logger.info("Watching " + filePath + " for changes");
+            while (true) {
+                if (isDataFileChanged(watchService.take())) {
+                    // Wait for the writer to finish before reading what it wrote
+                    WatchKey key;
+                    while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                        isDataFileChanged(key);
+                    }
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.fine("Stopped watching " + filePath);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.warning("Could not watch " + filePath + " for changes: " + e);
+        }
+    }
+
+    private synchronized WatchService openWatchService() throws IOException {
+        if (isStopped) {
+            return null;
+        }
+        watchService = filePath.getFileSystem().newWatchService();
+        filePath.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        return watchService;
+    }
+
+    private boolean isDataFileChanged(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isChanged |= filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    /**
+     * Reads the data file and hands the persons that changed since it was last read over to the model thread.
+     * A file that cannot be read is skipped, and compared against its last readable contents next time.
+     */
+    void reload() {
+        Optional<Map<MatriculationNumber, Person>> read = readFile();
+        if (!read.isPresent()) {
+            return;
+        }
+        Map<MatriculationNumber, Person> current = read.get();
+        List<PersonChange> changes = new ArrayList<>();
+        for (Person person : current.values()) {
+            Person lastReadPerson = lastRead.get(person.getMatriculationNumber());
+            if (!isSameRecord(lastReadPerson, person)) {
+                changes.add(new PersonChange(lastReadPerson, person));
+            }
+        }
+        long removedCount = lastRead.keySet().stream().filter(key -> !current.containsKey(key)).count();
+        if (removedCount > 0) {
+            logger.info(removedCount + " persons were removed from " + filePath + " and are kept in the app");
+        }
+        lastRead = current;
+        if (!changes.isEmpty()) {
+            logger.info(changes.size() + " persons were changed in " + filePath);
+            modelThread.execute(() -> apply(changes));
+        }
+    }
+
+    private Optional<Map<MatriculationNumber, Person>> readFile() {
+        try {
+            Optional<DataFormat> format = AddressBookFormatConverter.detectFormat(filePath);
+            if (!format.isPresent()) {
+                return Optional.empty();
+            }
+            Optional<ReadOnlyAddressBook> addressBook = AddressBookFormatConverter
+                    .createStorage(filePath, format.get()).readAddressBook();
+            return addressBook.map(book -> indexByMatriculationNumber(book.getPersonList()));
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Changed data file " + filePath + " could not be read, ignoring it: " + e);
+            return Optional.empty();
+        }
+    }
+
+    private void apply(List<PersonChange> changes) {
+        if (!filePath.equals(model.getAddressBookFilePath().toAbsolutePath())) {
+            logger.info("Not applying changes to " + filePath + ", since another book is open");
+            return;
+        }
+        Set<MatriculationNumber> changedKeys = new HashSet<>();
+        for (PersonChange change : changes) {
+            changedKeys.add(change.changedPerson.getMatriculationNumber());
+        }
+        Map<MatriculationNumber, Person> inModel = new HashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (changedKeys.contains(person.getMatriculationNumber())) {
+                inModel.put(person.getMatriculationNumber(), person);
+            }
+        }
+
+        int appliedCount = 0;
+        int keptCount = 0;
+        for (PersonChange change : changes) {
+            Person lastReadPerson = change.lastReadPerson;
+            Person changedPerson = change.changedPerson;
+            Person modelPerson = inModel.get(changedPerson.getMatriculationNumber());
+            if (isSameRecord(modelPerson, changedPerson)) {
+                continue;
+            }
+            if (!isSameRecord(modelPerson, lastReadPerson)) {
+                keptCount++;
+            } else if (modelPerson == null) {
+                model.addPerson(changedPerson);
+                appliedCount++;
+            } else {
+                model.setPerson(modelPerson, changedPerson);
+                appliedCount++;
+            }
+        }
+        logger.info("Applied " + appliedCount + " persons changed in " + filePath + ", kept " + keptCount
+                + " persons edited in the app since");
+    }
+
+    /**
+     * Returns true if both persons hold the same details and payments, or both are null.
+     * {@code Person#equals} leaves out the payments, which also matter here.
+     */
+    private static boolean isSameRecord(Person person, Person otherPerson) {
+        if (person == otherPerson) {
+            return true;
+        }
+        if (person == null || otherPerson == null) {
+            return false;
+        }
+        return person.equals(otherPerson) && person.getPayments().equals(otherPerson.getPayments());
+    }
+
+    /**
+     * Indexes {@code persons} in the order they are in the file, so that new persons are added in that order.
+     */
+    private static Map<MatriculationNumber, Person> indexByMatriculationNumber(List<Person> persons) {
+        Map<MatriculationNumber, Person> index = new LinkedHashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            index.put(person.getMatriculationNumber(), person);
+        }
+        return index;
+    }
+
+    /**
+     * A person as it was when the data file was last read, or null if it was not in the file then,
+     * and as it is in the file now.
+     */
+    private static class PersonChange {
+        private final Person lastReadPerson;
+        private final Person changedPerson;
+
+        private PersonChange(Person lastReadPerson, Person changedPerson) {
+            this.lastReadPerson = lastReadPerson;
+            this.changedPerson = changedPerson;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookWorkspace;
+import seedu.address.storage.SalvagedAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the address book from storage into the model on a background thread, so that the window can be shown
+ * before the data file has been read.
+ * <p>
+ * Once the data file has been read, the persons are added to the model in batches on the JavaFX application
+ * thread, so the person list fills in progressively while the window stays responsive. Progress is reported to the
+ * progress listener on the JavaFX application thread.
+ */
+public class AddressBookLoader {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** The number of other books of the workspace that are read ahead of being switched to. */
+    public static final int PRELOADED_BOOKS = 3;
+
+    /** The total reported while the data file is still being read, before the number of persons is known. */
+    public static final int UNKNOWN_TOTAL = -1;
+
+    /** The number of skipped records that are described one by one in the load report. */
+    public static final int REPORTED_PROBLEMS = 10;
+
+    public static final String MESSAGE_SALVAGED = "The data file was damaged. %d record(s) could not be loaded "
+            + "and were moved to %s:";
+    public static final String MESSAGE_MORE_PROBLEMS = "... and %d more.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    /**
+     * Is told how far loading has come.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called after {@code loadedCount} of {@code totalCount} persons have been added to the model.
+         * {@code totalCount} is {@link #UNKNOWN_TOTAL} while the data file is being read.
+         * Loading is complete when {@code loadedCount} equals {@code totalCount}.
+         */
+        void onProgress(int loadedCount, int totalCount);
+    }
+
+    private final Model model;
+    private final Storage storage;
+    private final int batchSize;
+    private final Executor modelThread;
+
+    private final List<Runnable> loadedActions = new ArrayList<>();
+
+    private volatile boolean isLoaded;
+    private volatile ProgressListener progressListener = (loadedCount, totalCount) -> { };
+    private volatile Consumer<String> loadReportHandler = report -> { };
+    private String loadReport; // null => nothing was skipped
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads {@code storage}'s address book into {@code model},
+     * {@link #DEFAULT_BATCH_SIZE} persons at a time.
+     */
+    public AddressBookLoader(Model model, Storage storage) {
+        this(model, storage, DEFAULT_BATCH_SIZE, Platform::runLater);
+    }
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads {@code storage}'s address book into {@code model},
+     * {@code batchSize} persons at a time, changing the model only through {@code modelThread}.
+     */
+    AddressBookLoader(Model model, Storage storage, int batchSize, Executor modelThread) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(modelThread);
+        assert batchSize > 0 : "batch size must be positive";
+        this.model = model;
+        this.storage = storage;
+        this.batchSize = batchSize;
+        this.modelThread = modelThread;
+    }
+
+    /**
+     * Sets the listener that is told about the progress of loading.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        requireNonNull(progressListener);
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Sets the handler that is given a report of the records that were skipped because the data file was damaged.
+     */
+    public void setLoadReportHandler(Consumer<String> loadReportHandler) {
+        requireNonNull(loadReportHandler);
+        this.loadReportHandler = loadReportHandler;
+    }
+
+    /**
+     * Returns true once all persons have been added to the model.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Runs {@code action} on the model thread once all persons have been added to the model,
+     * or right away if they already have been.
+     */
+    public void whenLoaded(Runnable action) {
+        requireNonNull(action);
+        synchronized (loadedActions) {
+            if (!isLoaded) {
+                loadedActions.add(action);
+                return;
+            }
+        }
+        modelThread.execute(action);
+    }
+
+    /**
+     * Starts loading on a background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "addressbook-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads the address book and hands its persons over to the model thread in batches.
+     * The data from the sample address book is used instead if the address book is not found. If it is damaged,
+     * its intact persons are salvaged, and saved again once loaded so that the data file is repaired.
+     * An empty address book is used instead if nothing can be salvaged.
+     */
+    void load() {
+        modelThread.execute(() -> progressListener.onProgress(0, UNKNOWN_TOTAL));
+        List<Person> persons = new ArrayList<>(readInitialData().getPersonList());
+        String report = loadReport;
+        int totalCount = persons.size();
+        logger.info("Adding " + totalCount + " persons to the model in batches of " + batchSize);
+
+        for (int from = 0; from < totalCount; from += batchSize) {
+            int to = Math.min(from + batchSize, totalCount);
+            List<Person> batch = persons.subList(from, to);
+            modelThread.execute(() -> {
+                model.addPersons(batch);
+                progressListener.onProgress(to, totalCount);
+            });
+        }
+        modelThread.execute(() -> {
+            List<Runnable> actions;
+            synchronized (loadedActions) {
+                isLoaded = true;
+                actions = new ArrayList<>(loadedActions);
+                loadedActions.clear();
+            }
+            progressListener.onProgress(totalCount, totalCount);
+            if (report != null) {
+                loadReportHandler.accept(report);
+                saveSalvagedData();
+            }
+            actions.forEach(Runnable::run);
+        });
+    }
+
+    private void saveSalvagedData() {
+        try {
+            storage.requestSaveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Salvaged data could not be saved to " + storage.getAddressBookFilePath() + ": " + e);
+        }
+    }
+
+    /**
+     * Starts reading the most recently changed other books of the workspace on a background thread, and keeps
+     * them in the model, so that switching to them does not wait for storage.
+     */
+    public void startPreloading() {
+        Path currentFilePath = model.getAddressBookFilePath();
+        Thread thread = new Thread(() -> preload(currentFilePath), "addressbook-preloader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads up to {@link #PRELOADED_BOOKS} books of the workspace other than the one at {@code currentFilePath},
+     * most recently changed first, and hands them over to the model thread. Books that cannot be read are skipped.
+     */
+    void preload(Path currentFilePath) {
+        if (!storage.supportsWorkspace()) {
+            return;
+        }
+
+        List<Path> books;
+        try {
+            books = AddressBookWorkspace.listBooks(currentFilePath);
+        } catch (IOException e) {
+            logger.warning("Could not list the books to preload: " + e);
+            return;
+        }
+
+        Path currentBook = currentFilePath.toAbsolutePath().normalize();
+        int preloadedCount = 0;
+        for (Path book : books) {
+            if (preloadedCount == PRELOADED_BOOKS) {
+                break;
+            }
+            if (book.toAbsolutePath().normalize().equals(currentBook)) {
+                continue;
+            }
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = storage.readWorkspaceBook(book);
+                if (addressBook.isPresent()) {
+                    modelThread.execute(() -> model.cacheAddressBook(book, addressBook.get()));
+                    preloadedCount++;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Book " + book + " could not be preloaded: " + e.getMessage());
+            }
+        }
+        logger.info("Preloaded " + preloadedCount + " other books");
+    }
+
+    private ReadOnlyAddressBook readInitialData() {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Salvaging the persons that are intact.");
+            return salvageInitialData();
+        } catch (RuntimeException e) {
+            // Keep the application usable instead of leaving it loading forever
+            logger.severe("Unexpected error while loading " + storage.getAddressBookFilePath() + ": " + e);
+            return new AddressBook();
+        }
+    }
+
+    private ReadOnlyAddressBook salvageInitialData() {
+        Optional<SalvagedAddressBook> salvaged;
+        try {
+            salvaged = storage.salvageAddressBook();
+        } catch (DataLoadingException | RuntimeException e) {
+            logger.warning("Nothing could be salvaged from " + storage.getAddressBookFilePath() + ": " + e
+                    + ". Will be starting with an empty AddressBook.");
+            return new AddressBook();
+        }
+        if (!salvaged.isPresent()) {
+            return new AddressBook();
+        }
+
+        if (salvaged.get().hasProblems()) {
+            loadReport = toReport(salvaged.get());
+            logger.warning(loadReport);
+        }
+        return salvaged.get().getAddressBook();
+    }
+
+    private static String toReport(SalvagedAddressBook salvaged) {
+        List<String> problems = salvaged.getProblems();
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SALVAGED, problems.size(),
+                salvaged.getQuarantineFilePath()));
+        problems.stream().limit(REPORTED_PROBLEMS).forEach(problem -> report.append('\n').append(problem));
+        if (problems.size() > REPORTED_PROBLEMS) {
+            report.append('\n').append(String.format(MESSAGE_MORE_PROBLEMS, problems.size() - REPORTED_PROBLEMS));
+        }
+        return report.toString();
+    }
+}
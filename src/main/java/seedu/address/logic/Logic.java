@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -47,4 +48,22 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given an error message whenever saving data in the background fails.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Sets the listener that is told how far loading the address book has come, on the JavaFX application thread.
+     * The listener is never called if the address book was loaded before this {@code Logic} was created.
+     */
+    void setLoadProgressListener(AddressBookLoader.ProgressListener listener);
+
+    /**
+     * Sets the handler that is given a report of the records that were skipped because the data file was damaged,
+     * on the JavaFX application thread once loading has finished. The handler is not called if nothing was skipped.
+     */
+    void setLoadReportHandler(Consumer<String> handler);
 }
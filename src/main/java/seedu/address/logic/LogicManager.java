@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -27,18 +30,32 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_STILL_LOADING =
+            "The data file is still being loaded. Please try again once loading has finished.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookLoader addressBookLoader;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The model is taken to be fully loaded already.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose model is being
+     * filled by {@code addressBookLoader}. Commands other than help and exit are rejected until it has finished.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader addressBookLoader) {
         this.model = model;
         this.storage = storage;
+        this.addressBookLoader = addressBookLoader;
         addressBookParser = new AddressBookParser();
     }
 
@@ -49,24 +66,38 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
 
+        boolean isLoading = addressBookLoader != null && !addressBookLoader.isLoaded();
+        if (isLoading && !(command instanceof HelpCommand || command instanceof ExitCommand)) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
+
         if (command.isMutating()) {
             model.saveSnapshot();
             model.clearRedo(); // for a later redo if needed
         }
 
-        commandResult = command.execute(model);
+        commandResult = command.execute(model, storage);
+
+        if (!command.isDataChanging()) {
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.requestSaveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -91,4 +122,23 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setLoadProgressListener(AddressBookLoader.ProgressListener listener) {
+        if (addressBookLoader != null) {
+            addressBookLoader.setProgressListener(listener);
+        }
+    }
+
+    @Override
+    public void setLoadReportHandler(Consumer<String> handler) {
+        if (addressBookLoader != null) {
+            addressBookLoader.setLoadReportHandler(handler);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setSaveFailureHandler(ioe -> handler.accept(getSaveErrorMessage(ioe)));
+    }
 }
@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookWorkspace;
+import seedu.address.storage.Storage;
+
+/**
+ * Lists the books of the workspace, or switches to one of them.
+ * <p>
+ * Usage:
+ * book
+ * book NAME
+ */
+public class BookCommand extends Command {
+
+    public static final String COMMAND_WORD = "book";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the books, or switches to the book with the given name, creating it if there is none.\n"
+            + "Format: " + COMMAND_WORD + " [NAME]\n"
+            + "Example: " + COMMAND_WORD + " chess-club";
+
+    public static final String MESSAGE_NO_WORKSPACE = "Books cannot be switched here.";
+    public static final String MESSAGE_LIST_HEADER = "Books, most recently changed first. Switch with: "
+            + COMMAND_WORD + " NAME";
+    public static final String MESSAGE_LIST_FAILED = "Could not list the books: %s";
+    public static final String MESSAGE_ALREADY_OPEN = "Book %s is already open.";
+    public static final String MESSAGE_READ_FAILED = "Could not read book %s: %s";
+    public static final String MESSAGE_CREATE_FAILED = "Could not create book %s: %s";
+    public static final String MESSAGE_SWITCHED = "Switched to book %s with %d members.";
+    public static final String MESSAGE_CREATED = "Created and switched to the new book %s.";
+
+    private final String bookName; // null => list the books
+
+    /**
+     * Creates a {@code BookCommand} that switches to the book named {@code bookName}.
+     */
+    public BookCommand(String bookName) {
+        requireNonNull(bookName);
+        this.bookName = bookName;
+    }
+
+    private BookCommand() {
+        this.bookName = null;
+    }
+
+    /**
+     * Returns a {@code BookCommand} that lists the books instead of switching to one.
+     */
+    public static BookCommand forListing() {
+        return new BookCommand();
+    }
+
+    /**
+     * Books are kept in storage, so there is nothing to list or switch to without it.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_NO_WORKSPACE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        Path currentFilePath = model.getAddressBookFilePath();
+        if (bookName == null) {
+            return listBooks(currentFilePath);
+        }
+        if (!storage.supportsWorkspace()) {
+            throw new CommandException(MESSAGE_NO_WORKSPACE);
+        }
+
+        Path bookFilePath = AddressBookWorkspace.getBookFilePath(currentFilePath, bookName);
+        if (bookFilePath.toAbsolutePath().normalize().equals(currentFilePath.toAbsolutePath().normalize())) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_OPEN, bookName));
+        }
+
+        Optional<ReadOnlyAddressBook> book = model.getCachedAddressBook(bookFilePath);
+        try {
+            if (!book.isPresent()) {
+                book = storage.readWorkspaceBook(bookFilePath);
+            }
+            storage.switchAddressBook(bookFilePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, bookName, e.getMessage()), e);
+        }
+        model.switchAddressBook(bookFilePath, book.orElseGet(AddressBook::new));
+
+        if (book.isPresent()) {
+            return new CommandResult(String.format(MESSAGE_SWITCHED, bookName,
+                    model.getAddressBook().getPersonList().size()));
+        }
+        try {
+            storage.requestSaveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CREATE_FAILED, bookName, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_CREATED, bookName));
+    }
+
+    private static CommandResult listBooks(Path currentFilePath) throws CommandException {
+        List<Path> books;
+        try {
+            books = AddressBookWorkspace.listBooks(currentFilePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_LIST_FAILED, e.getMessage()), e);
+        }
+
+        String currentBookName = AddressBookWorkspace.getBookName(currentFilePath);
+        StringBuilder sb = new StringBuilder(MESSAGE_LIST_HEADER);
+        sb.append(String.format("%n%s (open)", currentBookName));
+        for (Path book : books) {
+            String name = AddressBookWorkspace.getBookName(book);
+            if (!name.equals(currentBookName)) {
+                sb.append(String.format("%n%s", name));
+            }
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BookCommand)) {
+            return false;
+        }
+
+        BookCommand otherBookCommand = (BookCommand) other;
+        return Objects.equals(bookName, otherBookCommand.bookName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(bookName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("bookName", bookName)
+                .toString();
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.payment.ClosedYear;
+import seedu.address.model.person.Person;
+import seedu.address.storage.Storage;
+
+/**
+ * Closes a year: moves the payments dated in it, or earlier, out of the address book into the archive of closed
+ * years, which keeps them in storage and summarises them by member.
+ * <p>
+ * Usage:
+ * closeyear YEAR
+ */
+public class CloseYearCommand extends Command {
+
+    public static final String COMMAND_WORD = "closeyear";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Archives all payments dated in or before the given year, which must have ended. Archived payments "
+            + "can still be viewed and found, but not edited. This cannot be undone.\n"
+            + "Parameters: YEAR\n"
+            + "Example: " + COMMAND_WORD + " 2024";
+
+    public static final String MESSAGE_NO_STORAGE = "Years cannot be closed here.";
+    public static final String MESSAGE_NOT_ENDED = "%d has not ended yet.";
+    public static final String MESSAGE_ALREADY_CLOSED = "Payments up to %d have already been archived.";
+    public static final String MESSAGE_FAILED = "Could not archive the payments up to %d: %s";
+    public static final String MESSAGE_SUCCESS = "Closed %d: archived %d payment(s) of %d member(s), "
+            + "totalling $%s. This cannot be undone.";
+
+    private static final Logger logger = LogsCenter.getLogger(CloseYearCommand.class);
+
+    private final int year;
+
+    /**
+     * Creates a {@code CloseYearCommand} that closes {@code year}.
+     */
+    public CloseYearCommand(int year) {
+        this.year = year;
+    }
+
+    /**
+     * Archived payments are kept in storage, so years cannot be closed without it.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_NO_STORAGE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        if (year >= LocalDate.now().getYear()) {
+            throw new CommandException(String.format(MESSAGE_NOT_ENDED, year));
+        }
+
+        // A save requested before must not overwrite the address book saved below
+        storage.flushPendingSaves();
+        ClosedYear closedYear;
+        try {
+            List<ClosedYear> closedYears = storage.getClosedYears();
+            if (!closedYears.isEmpty() && closedYears.get(closedYears.size() - 1).getYear() >= year) {
+                throw new CommandException(String.format(MESSAGE_ALREADY_CLOSED,
+                        closedYears.get(closedYears.size() - 1).getYear()));
+            }
+            closedYear = storage.closeYear(year, new ArrayList<>(model.getAddressBook().getPersonList()));
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not close " + year + ": " + e);
+            throw new CommandException(String.format(MESSAGE_FAILED, year, e.getMessage()), e);
+        }
+
+        // The archived payments are in storage now, so they are removed from the address book for good. The
+        // address book is saved right away, so that they are never kept both in the data file and in the archive.
+        List<Person> persons = model.getAddressBook().getPersonList().stream()
+                .map(person -> closedYear.getTotal(person.getMatriculationNumber()).isPresent()
+                        ? person.withPaymentsAfter(closedYear.getLastDay())
+                        : person)
+                .collect(Collectors.toList());
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        addressBook.setPersons(persons);
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Could not save the address book after closing " + year + ": " + e);
+            reopen(storage);
+            throw new CommandException(String.format(MESSAGE_FAILED, year, e.getMessage()), e);
+        }
+        model.setAddressBook(addressBook);
+        model.clearHistory();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, year, closedYear.getPaymentCount(),
+                closedYear.getTotals().size(), closedYear.getAmount().toPlainString()));
+    }
+
+    /**
+     * Reopens the year that was just closed, as its payments are still in the data file.
+     */
+    private void reopen(Storage storage) {
+        try {
+            storage.reopenYear(year);
+        } catch (IOException e) {
+            logger.severe("Could not reopen " + year + "; its payments are both archived and in the data file: "
+                    + e);
+        }
+    }
+
+    /**
+     * Closing a year removes payments from the address book that are kept only in the archive afterwards, so it
+     * is not undoable; no snapshot is taken and the undo history is cleared instead.
+     */
+    @Override
+    public boolean isDataChanging() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CloseYearCommand)) {
+            return false;
+        }
+
+        CloseYearCommand otherCloseYearCommand = (CloseYearCommand) other;
+        return year == otherCloseYearCommand.year;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(year);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("year", year)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.Storage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,7 +18,28 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command with access to {@code storage}, for commands that work with stored data beyond the
+     * address book in the model. Other commands just execute on the model.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param storage {@code Storage} that holds the stored data.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
     public boolean isMutating() {
         return false;
     }
+
+    /**
+     * Returns true if the address book may have changed after this command, i.e. it has to be written to storage.
+     * Every mutating command changes data; undo and redo change data without taking a snapshot.
+     */
+    public boolean isDataChanging() {
+        return isMutating();
+    }
 }
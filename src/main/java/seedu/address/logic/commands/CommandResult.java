@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +21,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback to show once the work that the command left running in the background is done. */
+    private final CompletionStage<String> followUp; // null => nothing is left running
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +31,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.followUp = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, to be followed by the
+     * feedback that {@code followUp} completes with.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> followUp) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.followUp = requireNonNull(followUp);
     }
 
     /**
@@ -48,6 +65,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletionStage<String>> getFollowUp() {
+        return Optional.ofNullable(followUp);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -129,7 +129,7 @@ public class EditCommand extends Command {
                 updatedMatriculationNumber,
                 updatedTags,
                 personToEdit.isArchived(),
-                personToEdit.getPayments()
+                personToEdit.getPaymentLedger()
         );
     }
 
@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBERS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PaymentExporter;
+import seedu.address.storage.Storage;
+
+/**
+ * Exports the payments of all members to a CSV or JSON Lines file, in the background. Payments of closed years
+ * are read from the archive and exported first.
+ * <p>
+ * Usage:
+ * export FILE [from/DATE] [to/DATE] [members/active|archived|all]
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the payments of all members to a CSV (.csv) or JSON Lines (.jsonl) file. Dates are "
+            + "inclusive; by default, payments of active and archived members are exported.\n"
+            + "Parameters: FILE [" + PREFIX_FROM_DATE + "DATE] [" + PREFIX_TO_DATE + "DATE] ["
+            + PREFIX_MEMBERS + "active|archived|all]\n"
+            + "Example: " + COMMAND_WORD + " payments.csv " + PREFIX_FROM_DATE + "2025-01-01 "
+            + PREFIX_TO_DATE + "2025-06-30 " + PREFIX_MEMBERS + "active";
+
+    public static final String MESSAGE_NO_STORAGE = "Payments cannot be exported here.";
+    public static final String MESSAGE_STARTED = "Exporting the payments of %d members to %s...";
+    public static final String MESSAGE_SUCCESS = "Exported %d payments to %s.";
+    public static final String MESSAGE_FAILED = "Could not export payments to %s: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * The members whose payments are exported.
+     */
+    public enum Members {
+        ACTIVE(Model.PREDICATE_SHOW_ACTIVE_PERSONS),
+        ARCHIVED(Model.PREDICATE_SHOW_ARCHIVED_PERSONS),
+        ALL(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        private final Predicate<Person> predicate;
+
+        Members(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+    }
+
+    private final Path filePath;
+    private final PaymentExporter.Format format;
+    private final LocalDate fromDate; // null => no earliest date
+    private final LocalDate toDate; // null => no latest date
+    private final Members members;
+
+    /**
+     * Creates an {@code ExportCommand} that exports the payments of {@code members} dated from {@code fromDate} to
+     * {@code toDate}, both inclusive, to {@code filePath} in {@code format}. Either date may be null for no limit.
+     */
+    public ExportCommand(Path filePath, PaymentExporter.Format format, LocalDate fromDate, LocalDate toDate,
+                         Members members) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(members);
+        assert fromDate == null || toDate == null || !fromDate.isAfter(toDate) : "date range must not be empty";
+        this.filePath = filePath;
+        this.format = format;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.members = members;
+    }
+
+    /**
+     * Payments are exported by storage, so they cannot be exported without it.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_NO_STORAGE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+
+        // Persons are immutable, so the export can go through this list on its own thread
+        List<Person> persons = model.getAddressBook().getPersonList().stream()
+                .filter(members.predicate)
+                .collect(Collectors.toList());
+        logger.info(String.format("Exporting payments of %d members to %s", persons.size(), filePath));
+
+        // Payments dated from fromDate onwards can only be archived in the segments of its year and later ones
+        int fromYear = fromDate == null ? Integer.MIN_VALUE : fromDate.getYear();
+        CompletionStage<String> followUp = storage
+                .exportPayments(persons, this::isExported, fromYear, filePath, format)
+                .handle((count, e) -> e == null
+                        ? String.format(MESSAGE_SUCCESS, count, filePath)
+                        : String.format(MESSAGE_FAILED, filePath, getCause(e).getMessage()));
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath), followUp);
+    }
+
+    private boolean isExported(Payment payment) {
+        LocalDate date = payment.getDate();
+        return (fromDate == null || !date.isBefore(fromDate)) && (toDate == null || !date.isAfter(toDate));
+    }
+
+    private static Throwable getCause(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getCause() != null ? cause.getCause() : cause;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && Objects.equals(fromDate, otherExportCommand.fromDate)
+                && Objects.equals(toDate, otherExportCommand.toDate)
+                && members == otherExportCommand.members;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("fromDate", fromDate)
+                .add("toDate", toDate)
+                .add("members", members)
+                .toString();
+    }
+}
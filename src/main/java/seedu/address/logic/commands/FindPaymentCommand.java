@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -12,11 +13,13 @@ import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.payment.Amount;
 import seedu.address.model.payment.Payment;
 import seedu.address.model.person.Person;
+import seedu.address.storage.Storage;
 
 /**
  * Finds and displays payments of a specific person identified by index,
@@ -54,6 +57,8 @@ public class FindPaymentCommand extends Command {
     public static final String MESSAGE_NOT_FOUND =
             "No payments found for %s matching %s.";
 
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Could not read the archived payments: %s";
+
     private static final Logger logger = LogsCenter.getLogger(FindPaymentCommand.class);
 
     private final Index targetIndex;
@@ -87,9 +92,33 @@ public class FindPaymentCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        Person target = getTargetPerson(model);
+        return find(target, target.getPayments());
+    }
 
+    /**
+     * Also searches the archived payments of the person that the filter can match: those of the years closed
+     * from the year of the date filter onwards, or those of all closed years for the other filters.
+     * The archived payments are read from storage only if the person has any in those years.
+     */
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
         Person target = getTargetPerson(model);
-        List<Payment> matchedPayments = findMatchingPayments(target.getPayments());
+
+        List<Payment> payments = new ArrayList<>(target.getPayments());
+        try {
+            payments.addAll(storage.readArchivedPayments(target.getMatriculationNumber(),
+                    date == null ? Integer.MIN_VALUE : date.getYear()));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+        return find(target, payments);
+    }
+
+    private CommandResult find(Person target, List<Payment> payments) {
+        List<Payment> matchedPayments = findMatchingPayments(payments);
 
         if (matchedPayments.isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NOT_FOUND, target.getName(), describeFilter()));
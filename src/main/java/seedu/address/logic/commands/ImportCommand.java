@@ -0,0 +1,457 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddPaymentCommandParser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Imports members and payments from a CSV file.
+ * <p>
+ * The file is read a batch of lines at a time, and the lines of each batch are checked on all cores. Nothing is
+ * changed unless every line is valid; the members and payments are then added in one go, so that the import
+ * takes a single snapshot for {@code undo} and a single save.
+ * <p>
+ * Usage:
+ * import FILE
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports members and payments from a CSV file with a header line. A line with a name, phone and "
+            + "email adds a member; a line with an amount and date adds a payment to the member with its "
+            + "matriculation number.\n"
+            + "Columns: matric, and name, phone, email, tags (separated by ;) and/or amount, date, remarks\n"
+            + "Format: " + COMMAND_WORD + " FILE\n"
+            + "Example: " + COMMAND_WORD + " data/members.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %d members and %d payments from %s.";
+    public static final String MESSAGE_READ_FAILED = "Could not read %s: %s";
+    public static final String MESSAGE_EMPTY_FILE = "%s has no header line.";
+    public static final String MESSAGE_INVALID_LINES = "Nothing was imported, as %d lines of %s are invalid:";
+    public static final String MESSAGE_MORE_INVALID_LINES = "... and %d more.";
+    public static final String MESSAGE_INVALID_LINE = "Line %d: %s";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column: %s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column %s appears more than once";
+    public static final String MESSAGE_MISSING_COLUMNS = "The header needs a matric column, and name, phone and "
+            + "email columns for members and/or amount and date columns for payments.";
+    public static final String MESSAGE_FIELD_COUNT = "Expected %d fields but found %d";
+    public static final String MESSAGE_NOTHING_TO_IMPORT = "Has neither member nor payment details";
+    public static final String MESSAGE_MISSING_FIELD = "Missing %s";
+    public static final String MESSAGE_DUPLICATE_MEMBER = "A member with matriculation number %s already exists";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "No member has matriculation number %s";
+
+    /** At most this many invalid lines are listed. */
+    static final int MAX_REPORTED_LINES = 20;
+    /** Lines are read and checked in batches of this many. */
+    static final int BATCH_SIZE = 4096;
+    /** Ranges of at most this many lines are checked on a single thread. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private static final String TAG_SEPARATOR = ";";
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    /**
+     * Columns that a CSV file can have, by the name in its header line.
+     */
+    enum Column {
+        MATRIC, NAME, PHONE, EMAIL, TAGS, AMOUNT, DATE, REMARKS;
+
+        String getHeader() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code ImportCommand} that imports the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Importing " + filePath);
+
+        Map<MatriculationNumber, Person> existing = new HashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            existing.put(person.getMatriculationNumber(), person);
+        }
+
+        Import result = readFile(existing);
+        if (result.errorCount > 0) {
+            logger.warning(result.errorCount + " invalid lines in " + filePath + "; nothing imported");
+            throw new CommandException(formatErrors(result));
+        }
+
+        List<Person> added = new ArrayList<>();
+        for (Person member : result.members.values()) {
+            added.add(member.withAddedPayments(result.payments.getOrDefault(member.getMatriculationNumber(),
+                    List.of())));
+        }
+        int paymentCount = result.payments.values().stream().mapToInt(List::size).sum();
+
+        // The whole list is replaced at once, as replacing members one by one takes a search of the list each
+        List<Person> persons = new ArrayList<>(existing.size() + added.size());
+        for (Person person : model.getAddressBook().getPersonList()) {
+            List<Payment> payments = result.payments.get(person.getMatriculationNumber());
+            persons.add(payments == null ? person : person.withAddedPayments(payments));
+        }
+        persons.addAll(added);
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        addressBook.setPersons(persons);
+        model.setAddressBook(addressBook);
+
+        logger.info(String.format("Imported %d members and %d payments from %s", added.size(), paymentCount,
+                filePath));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, added.size(), paymentCount, filePath));
+    }
+
+    /**
+     * Reads and checks every line of the file, against {@code existing} members and the members added by earlier
+     * lines.
+     */
+    private Import readFile(Map<MatriculationNumber, Person> existing) throws CommandException {
+        Import result = new Import();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+            Column[] columns = parseHeader(stripByteOrderMark(header));
+
+            int lineNumber = 1;
+            List<String> lines = new ArrayList<>(BATCH_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == BATCH_SIZE) {
+                    checkBatch(columns, lines, lineNumber + 1, existing, result);
+                    lineNumber += lines.size();
+                    lines.clear();
+                }
+            }
+            checkBatch(columns, lines, lineNumber + 1, existing, result);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        }
+        return result;
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    /**
+     * Returns the column of each field of the {@code header} line.
+     */
+    static Column[] parseHeader(String header) throws CommandException {
+        List<String> names;
+        try {
+            names = CsvUtil.splitLine(header);
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LINE, 1, e.getMessage()));
+        }
+
+        Column[] columns = new Column[names.size()];
+        for (int i = 0; i < columns.length; i++) {
+            String name = names.get(i).trim();
+            columns[i] = Arrays.stream(Column.values())
+                    .filter(column -> column.getHeader().equalsIgnoreCase(name))
+                    .findFirst()
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_UNKNOWN_COLUMN, name)));
+            for (int j = 0; j < i; j++) {
+                if (columns[j] == columns[i]) {
+                    throw new CommandException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+                }
+            }
+        }
+
+        List<Column> present = Arrays.asList(columns);
+        boolean hasMembers = present.containsAll(List.of(Column.NAME, Column.PHONE, Column.EMAIL));
+        boolean hasPayments = present.containsAll(List.of(Column.AMOUNT, Column.DATE));
+        if (!present.contains(Column.MATRIC) || !(hasMembers || hasPayments)) {
+            throw new CommandException(MESSAGE_MISSING_COLUMNS);
+        }
+        return columns;
+    }
+
+    /**
+     * Checks {@code lines}, the first of which is line {@code firstLineNumber} of the file, on all cores, and then
+     * adds them to {@code result} in order. Only the latter step depends on earlier lines, so it is done here.
+     */
+    private static void checkBatch(Column[] columns, List<String> lines, int firstLineNumber,
+                                   Map<MatriculationNumber, Person> existing, Import result) {
+        ImportLine[] checked = new ImportLine[lines.size()];
+        String[] errors = new String[lines.size()];
+        new CheckTask(columns, lines, checked, errors, 0, lines.size()).invoke();
+
+        for (int i = 0; i < checked.length; i++) {
+            int lineNumber = firstLineNumber + i;
+            if (errors[i] != null) {
+                result.addError(lineNumber, errors[i]);
+            } else if (checked[i] != null) {
+                result.add(checked[i], lineNumber, existing);
+            }
+        }
+    }
+
+    /**
+     * Returns the member and/or payment on {@code line}, or null if the line is blank.
+     *
+     * @throws ParseException if the line is not valid on its own.
+     */
+    static ImportLine parseLine(Column[] columns, String line) throws ParseException {
+        if (line.isBlank()) {
+            return null;
+        }
+        List<String> fields;
+        try {
+            fields = CsvUtil.splitLine(line);
+        } catch (IllegalValueException e) {
+            throw new ParseException(e.getMessage());
+        }
+        if (fields.size() != columns.length) {
+            throw new ParseException(String.format(MESSAGE_FIELD_COUNT, columns.length, fields.size()));
+        }
+
+        Map<Column, String> values = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            String value = fields.get(i).trim();
+            if (!value.isEmpty()) {
+                values.put(columns[i], value);
+            }
+        }
+
+        boolean isMember = values.containsKey(Column.NAME) || values.containsKey(Column.PHONE)
+                || values.containsKey(Column.EMAIL) || values.containsKey(Column.TAGS);
+        boolean isPayment = values.containsKey(Column.AMOUNT) || values.containsKey(Column.DATE)
+                || values.containsKey(Column.REMARKS);
+        if (!isMember && !isPayment) {
+            throw new ParseException(MESSAGE_NOTHING_TO_IMPORT);
+        }
+
+        MatriculationNumber matric = ParserUtil.parseAddress(require(values, Column.MATRIC));
+        Person member = null;
+        if (isMember) {
+            member = new Person(ParserUtil.parseName(require(values, Column.NAME)),
+                    ParserUtil.parsePhone(require(values, Column.PHONE)),
+                    ParserUtil.parseEmail(require(values, Column.EMAIL)),
+                    matric, parseTags(values.get(Column.TAGS)));
+        }
+        Payment payment = null;
+        if (isPayment) {
+            payment = new Payment(parseAmount(require(values, Column.AMOUNT)),
+                    parseDate(require(values, Column.DATE)), values.get(Column.REMARKS));
+        }
+        return new ImportLine(matric, member, payment);
+    }
+
+    private static String require(Map<Column, String> values, Column column) throws ParseException {
+        String value = values.get(column);
+        if (value == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, column.getHeader()));
+        }
+        return value;
+    }
+
+    private static Set<Tag> parseTags(String tags) throws ParseException {
+        if (tags == null) {
+            return Set.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (String name : tags.split(TAG_SEPARATOR)) {
+            if (!name.isBlank()) {
+                names.add(name);
+            }
+        }
+        return ParserUtil.parseTags(names);
+    }
+
+    private static Amount parseAmount(String amount) throws ParseException {
+        try {
+            return Amount.parse(amount);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(AddPaymentCommandParser.MESSAGE_INVALID_AMOUNT, e);
+        }
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
+        try {
+            LocalDate parsed = LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
+            if (parsed.isAfter(LocalDate.now())) {
+                throw new ParseException(AddPaymentCommandParser.MESSAGE_INVALID_DATE);
+            }
+            return parsed;
+        } catch (DateTimeParseException e) {
+            throw new ParseException(AddPaymentCommandParser.MESSAGE_INVALID_DATE, e);
+        }
+    }
+
+    private String formatErrors(Import result) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_LINES, result.errorCount, filePath));
+        result.errors.forEach(error -> message.append('\n').append(error));
+        if (result.errorCount > result.errors.size()) {
+            message.append('\n').append(String.format(MESSAGE_MORE_INVALID_LINES,
+                    result.errorCount - result.errors.size()));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The member and/or payment on a valid line of the file.
+     */
+    static class ImportLine {
+        final MatriculationNumber matric;
+        final Person member; // null => the line only has a payment
+        final Payment payment; // null => the line only has a member
+
+        ImportLine(MatriculationNumber matric, Person member, Payment payment) {
+            this.matric = matric;
+            this.member = member;
+            this.payment = payment;
+        }
+    }
+
+    /**
+     * The members and payments read so far, and the first of the lines that are invalid.
+     */
+    private static class Import {
+        private final Map<MatriculationNumber, Person> members = new LinkedHashMap<>();
+        private final Map<MatriculationNumber, List<Payment>> payments = new LinkedHashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private int errorCount;
+
+        void addError(int lineNumber, String error) {
+            if (errors.size() < MAX_REPORTED_LINES) {
+                errors.add(String.format(MESSAGE_INVALID_LINE, lineNumber, error));
+            }
+            errorCount++;
+        }
+
+        /**
+         * Adds the member and/or payment of a line that is valid on its own, if they fit with the existing
+         * members and earlier lines.
+         */
+        void add(ImportLine line, int lineNumber, Map<MatriculationNumber, Person> existing) {
+            if (line.member != null) {
+                if (existing.containsKey(line.matric) || members.containsKey(line.matric)) {
+                    addError(lineNumber, String.format(MESSAGE_DUPLICATE_MEMBER, line.matric));
+                    return;
+                }
+                members.put(line.matric, line.member);
+            }
+            if (line.payment != null) {
+                if (!existing.containsKey(line.matric) && !members.containsKey(line.matric)) {
+                    addError(lineNumber, String.format(MESSAGE_UNKNOWN_MEMBER, line.matric));
+                    return;
+                }
+                payments.computeIfAbsent(line.matric, unused -> new ArrayList<>()).add(line.payment);
+            }
+        }
+    }
+
+    /**
+     * Checks the lines in {@code [from, to)} of a batch, splitting the range in halves until it is small enough.
+     * An invalid line is recorded at its position instead of stopping the checks of the other lines.
+     */
+    private static class CheckTask extends RecursiveAction {
+        private final Column[] columns;
+        private final List<String> lines;
+        private final ImportLine[] checked;
+        private final String[] errors;
+        private final int from;
+        private final int to;
+
+        CheckTask(Column[] columns, List<String> lines, ImportLine[] checked, String[] errors, int from, int to) {
+            this.columns = columns;
+            this.lines = lines;
+            this.checked = checked;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CheckTask(columns, lines, checked, errors, from, middle),
+                        new CheckTask(columns, lines, checked, errors, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    checked[i] = parseLine(columns, lines.get(i));
+                } catch (ParseException e) {
+                    errors[i] = e.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -56,4 +56,9 @@ public class RedoCommand extends Command {
     public int hashCode() {
         return getClass().hashCode();
     }
+
+    @Override
+    public boolean isDataChanging() {
+        return true;
+    }
 }
@@ -0,0 +1,150 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ACTIVE_PERSONS;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookBackup;
+import seedu.address.storage.Storage;
+
+/**
+ * Lists the backups of the address book, or replaces the address book with one of them.
+ * <p>
+ * Usage:
+ * restore
+ * restore BACKUP_ID
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the backups of the address book, or restores the backup with the given ID.\n"
+            + "Format: " + COMMAND_WORD + " [BACKUP_ID]\n"
+            + "Example: " + COMMAND_WORD + " 12";
+
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups to restore.";
+    public static final String MESSAGE_LIST_HEADER = "Backups, newest first. Restore one with: "
+            + COMMAND_WORD + " BACKUP_ID";
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup with ID %d.";
+    public static final String MESSAGE_LIST_FAILED = "Could not list the backups: %s";
+    public static final String MESSAGE_RESTORE_FAILED = "Could not read backup %d: %s";
+    public static final String MESSAGE_SUCCESS = "Restored the address book to backup %d. Use undo to revert.";
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Integer backupId; // null => list the backups
+
+    /**
+     * Creates a {@code RestoreCommand} that restores the backup with {@code backupId}.
+     */
+    public RestoreCommand(int backupId) {
+        this.backupId = backupId;
+    }
+
+    private RestoreCommand() {
+        this.backupId = null;
+    }
+
+    /**
+     * Returns a {@code RestoreCommand} that lists the backups instead of restoring one.
+     */
+    public static RestoreCommand forListing() {
+        return new RestoreCommand();
+    }
+
+    /**
+     * Backups are kept in storage, so there is nothing to list or restore without it.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_NO_BACKUPS);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        if (backupId == null) {
+            return listBackups(storage);
+        }
+
+        Optional<ReadOnlyAddressBook> backup;
+        try {
+            backup = storage.readBackup(backupId);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_FAILED, backupId, e.getMessage()), e);
+        }
+        if (!backup.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_BACKUP_NOT_FOUND, backupId));
+        }
+
+        model.setAddressBook(backup.get());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ACTIVE_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, backupId));
+    }
+
+    private static CommandResult listBackups(Storage storage) throws CommandException {
+        List<AddressBookBackup> backups;
+        try {
+            backups = storage.listBackups();
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_LIST_FAILED, e.getMessage()), e);
+        }
+        if (backups.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_BACKUPS);
+        }
+
+        StringBuilder sb = new StringBuilder(MESSAGE_LIST_HEADER);
+        for (int i = backups.size() - 1; i >= 0; i--) {
+            AddressBookBackup backup = backups.get(i);
+            sb.append(String.format("%n%d. %s (%s)", backup.getId(), CREATED_AT_FORMAT.format(backup.getCreatedAt()),
+                    backup.isFull() ? "full" : "changes"));
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    /**
+     * Only restoring a backup changes the address book; listing the backups does not.
+     */
+    @Override
+    public boolean isMutating() {
+        return backupId != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return Objects.equals(backupId, otherRestoreCommand.backupId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(backupId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backupId", backupId)
+                .toString();
+    }
+}
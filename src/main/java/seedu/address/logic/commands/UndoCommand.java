@@ -54,4 +54,9 @@ public class UndoCommand extends Command {
     public int hashCode() {
         return getClass().hashCode();
     }
+
+    @Override
+    public boolean isDataChanging() {
+        return true;
+    }
 }
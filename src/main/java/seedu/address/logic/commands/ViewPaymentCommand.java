@@ -2,41 +2,66 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.payment.Payment;
 import seedu.address.model.person.Person;
+import seedu.address.storage.Storage;
 
 /**
  * Shows payments for one person by index, or for everyone if 'all' is used.
+ * A year can be given to show the payments of one person dated in that year, including archived ones.
  * <p>
  * Usage:
- * viewpayment INDEX
+ * viewpayment INDEX [y/YEAR]
  * viewpayment all
  */
 public class ViewPaymentCommand extends Command {
 
     public static final String COMMAND_WORD = "viewpayment";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows recorded payments.\n"
-            + "Parameters: INDEX (positive integer) OR 'all'\n"
-            + "Examples: " + COMMAND_WORD + " 1    |    " + COMMAND_WORD + " all";
+            + "Parameters: INDEX (positive integer) [" + PREFIX_YEAR + "YEAR] OR 'all'\n"
+            + "Examples: " + COMMAND_WORD + " 1    |    " + COMMAND_WORD + " 1 " + PREFIX_YEAR + "2024    |    "
+            + COMMAND_WORD + " all";
+
+    public static final String MESSAGE_ARCHIVED_TOTALS = "Archived in closed years: %s";
+    public static final String MESSAGE_ARCHIVED_TOTAL = "up to %d: %d payment(s), $%s";
+    public static final String MESSAGE_NO_PAYMENTS_IN_YEAR = "%s has no payments dated in %d.";
+    public static final String MESSAGE_PAYMENTS_IN_YEAR = "Payments for %s dated in %d (%d). Total: $%s\n%s\n\n"
+            + "Note: Payments shown here are not indexed. Archived payments cannot be edited or deleted.";
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Could not read the archived payments: %s";
 
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final Logger logger = LogsCenter.getLogger(ViewPaymentCommand.class);
 
     private final Index index; // null => all
+    private final Integer year; // null => all current payments
 
     public ViewPaymentCommand(Index index) {
+        this(index, null);
+    }
+
+    /**
+     * Creates a {@code ViewPaymentCommand} for the person at {@code index} that shows their payments dated in
+     * {@code year}, or all their current payments if {@code year} is null.
+     */
+    public ViewPaymentCommand(Index index, Integer year) {
+        assert index != null || year == null : "a year can only be given for one person";
         this.index = index;
+        this.year = year;
     }
 
     public static ViewPaymentCommand forIndex(Index index) {
@@ -47,6 +72,10 @@ public class ViewPaymentCommand extends Command {
         return new ViewPaymentCommand(null);
     }
 
+    public static ViewPaymentCommand forYear(Index index, int year) {
+        return new ViewPaymentCommand(index, year);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -59,17 +88,11 @@ public class ViewPaymentCommand extends Command {
         // 'all' mode: show per-person totals and a grand total
         if (index == null) {
             String perPerson = people.stream()
-                    .map(p -> {
-                        BigDecimal total = p.getPayments().stream()
-                                .map(pay -> pay.getAmount().asBigDecimal())
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
-                        return String.format("- %s: $%s", p.getName(), total.toPlainString());
-                    })
+                    .map(p -> String.format("- %s: $%s", p.getName(), p.getPaymentTotal().toPlainString()))
                     .collect(Collectors.joining("\n"));
 
             BigDecimal grand = people.stream()
-                    .flatMap(p -> p.getPayments().stream())
-                    .map(pay -> pay.getAmount().asBigDecimal())
+                    .map(Person::getPaymentTotal)
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             String header = String.format(
@@ -85,6 +108,9 @@ public class ViewPaymentCommand extends Command {
         }
 
         Person person = people.get(index.getZeroBased());
+        if (year != null) {
+            return showYear(person, person.getPayments());
+        }
         List<Payment> sorted = Payment.inDisplayOrder(person.getPayments());
 
         if (sorted.isEmpty()) {
@@ -119,6 +145,67 @@ public class ViewPaymentCommand extends Command {
         return new CommandResult(header + "\n" + body);
     }
 
+    /**
+     * Also shows the archived payments of the person: the totals of each closed year, or the archived payments
+     * dated in the year asked for, which are then read from storage.
+     */
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        if (index == null) {
+            return execute(model);
+        }
+
+        List<Person> people = model.getFilteredPersonList();
+        if (index.getZeroBased() >= people.size()) {
+            throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        Person person = people.get(index.getZeroBased());
+        try {
+            if (year != null) {
+                List<Payment> payments = new ArrayList<>(person.getPayments());
+                payments.addAll(storage.readArchivedPayments(person.getMatriculationNumber(), year));
+                return showYear(person, payments);
+            }
+
+            String archivedTotals = storage.getClosedYears().stream()
+                    .flatMap(closedYear -> closedYear.getTotal(person.getMatriculationNumber())
+                            .map(total -> String.format(MESSAGE_ARCHIVED_TOTAL, closedYear.getYear(),
+                                    total.getCount(), total.getAmount().toPlainString()))
+                            .stream())
+                    .collect(Collectors.joining("; "));
+            CommandResult result = execute(model);
+            return archivedTotals.isEmpty()
+                    ? result
+                    : new CommandResult(result.getFeedbackToUser() + "\n"
+                            + String.format(MESSAGE_ARCHIVED_TOTALS, archivedTotals));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Shows those of {@code payments} of {@code person} that are dated in {@link #year}, without indexes.
+     */
+    private CommandResult showYear(Person person, List<Payment> payments) {
+        List<Payment> inYear = Payment.inDisplayOrder(payments.stream()
+                .filter(p -> p.getDate().getYear() == year)
+                .collect(Collectors.toList()));
+        if (inYear.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_PAYMENTS_IN_YEAR, person.getName(), year));
+        }
+
+        BigDecimal total = inYear.stream()
+                .map(p -> p.getAmount().asBigDecimal())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        String body = inYear.stream()
+                .map(p -> "- " + p)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_PAYMENTS_IN_YEAR, person.getName(), year, inYear.size(),
+                total.toPlainString(), body));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -128,12 +215,11 @@ public class ViewPaymentCommand extends Command {
             return false;
         }
         ViewPaymentCommand o = (ViewPaymentCommand) other;
-        return (this.index == null && o.index == null)
-                || (this.index != null && this.index.equals(o.index));
+        return Objects.equals(this.index, o.index) && Objects.equals(this.year, o.year);
     }
 
     @Override
     public int hashCode() {
-        return index == null ? 0 : index.hashCode();
+        return Objects.hash(index, year);
     }
 }
@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.AddressBookWorkspace;
+
+/**
+ * Parses input arguments and creates a new BookCommand object
+ */
+public class BookCommandParser implements Parser<BookCommand> {
+    @Override
+    public BookCommand parse(String args) throws ParseException {
+        String trimmedArgs = args == null ? "" : args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return BookCommand.forListing();
+        }
+        if (!AddressBookWorkspace.isValidBookName(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddressBookWorkspace.MESSAGE_BOOK_NAME_CONSTRAINTS + "\n" + BookCommand.MESSAGE_USAGE));
+        }
+        return new BookCommand(trimmedArgs);
+    }
+}
@@ -15,5 +15,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_PAYMENT_AMOUNT = new Prefix("a/");
     public static final Prefix PREFIX_PAYMENT_DATE = new Prefix("d/");
     public static final Prefix PREFIX_PAYMENT_REMARKS = new Prefix("r/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+    public static final Prefix PREFIX_MEMBERS = new Prefix("members/");
+    public static final Prefix PREFIX_YEAR = new Prefix("y/");
 
 }
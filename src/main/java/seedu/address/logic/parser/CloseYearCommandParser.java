@@ -0,0 +1,20 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.CloseYearCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CloseYearCommand object
+ */
+public class CloseYearCommandParser implements Parser<CloseYearCommand> {
+    @Override
+    public CloseYearCommand parse(String args) throws ParseException {
+        String trimmedArgs = args == null ? "" : args.trim();
+        if (!trimmedArgs.matches("\\d{4}")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CloseYearCommand.MESSAGE_USAGE));
+        }
+        return new CloseYearCommand(Integer.parseInt(trimmedArgs));
+    }
+}
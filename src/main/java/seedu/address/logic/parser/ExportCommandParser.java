@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBERS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Members;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PaymentExporter.Format;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "Invalid file path: %s";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file name must end in .csv or .jsonl.";
+    public static final String MESSAGE_INVALID_DATE =
+            "Invalid date. Please use the strict format YYYY-MM-DD (e.g., 2025-01-01).";
+    public static final String MESSAGE_EMPTY_RANGE = "The from/ date must not be after the to/ date.";
+    public static final String MESSAGE_INVALID_MEMBERS = "members/ must be one of active, archived or all.";
+
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap map = ArgumentTokenizer.tokenize(args, PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_MEMBERS);
+        map.verifyNoDuplicatePrefixesFor(PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_MEMBERS);
+
+        String fileName = map.getPreamble().trim();
+        if (fileName.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Path filePath;
+        try {
+            filePath = Path.of(fileName);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, fileName), e);
+        }
+        Format format = Format.forFile(filePath).orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_FORMAT));
+
+        LocalDate fromDate = parseDate(map.getValue(PREFIX_FROM_DATE));
+        LocalDate toDate = parseDate(map.getValue(PREFIX_TO_DATE));
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new ParseException(MESSAGE_EMPTY_RANGE);
+        }
+        Members members = parseMembers(map.getValue(PREFIX_MEMBERS));
+
+        return new ExportCommand(filePath, format, fromDate, toDate, members);
+    }
+
+    /**
+     * Parses a date strictly in YYYY-MM-DD format, or returns null if there is none.
+     */
+    private static LocalDate parseDate(Optional<String> date) throws ParseException {
+        if (date.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.get().trim(), DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
+
+    private static Members parseMembers(Optional<String> members) throws ParseException {
+        if (members.isEmpty()) {
+            return Members.ALL;
+        }
+        String name = members.get().trim();
+        return Arrays.stream(Members.values())
+                .filter(value -> value.name().toLowerCase(Locale.ROOT).equals(name.toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new ParseException(MESSAGE_INVALID_MEMBERS));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "Invalid file path: %s";
+
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args == null ? "" : args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new ImportCommand(Path.of(trimmedArgs));
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RestoreCommand object
+ */
+public class RestoreCommandParser implements Parser<RestoreCommand> {
+    @Override
+    public RestoreCommand parse(String args) throws ParseException {
+        String trimmedArgs = args == null ? "" : args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return RestoreCommand.forListing();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        }
+        return new RestoreCommand(Integer.parseInt(trimmedArgs));
+    }
+}
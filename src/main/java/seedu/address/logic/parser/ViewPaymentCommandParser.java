@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ViewPaymentCommand;
@@ -12,13 +13,22 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class ViewPaymentCommandParser implements Parser<ViewPaymentCommand> {
     @Override
     public ViewPaymentCommand parse(String args) throws ParseException {
-        String s = args.trim();
-        if (s.equalsIgnoreCase("all")) {
+        ArgumentMultimap argMap = ArgumentTokenizer.tokenize(args, PREFIX_YEAR);
+        argMap.verifyNoDuplicatePrefixesFor(PREFIX_YEAR);
+        String s = argMap.getPreamble().trim();
+        if (s.equalsIgnoreCase("all") && argMap.getValue(PREFIX_YEAR).isEmpty()) {
             return new ViewPaymentCommand(null);
         }
         try {
             Index index = ParserUtil.parseIndex(s);
-            return new ViewPaymentCommand(index);
+            if (argMap.getValue(PREFIX_YEAR).isEmpty()) {
+                return new ViewPaymentCommand(index);
+            }
+            String year = argMap.getValue(PREFIX_YEAR).get().trim();
+            if (!year.matches("\\d{4}")) {
+                throw new ParseException("Year must have 4 digits, e.g. 2024.");
+            }
+            return ViewPaymentCommand.forYear(index, Integer.parseInt(year));
         } catch (ParseException pe) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewPaymentCommand.MESSAGE_USAGE), pe);
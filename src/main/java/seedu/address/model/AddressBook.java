@@ -75,6 +75,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the address book at once.
+     * None of the persons may already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -0,0 +1,67 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps up to a fixed number of address books in memory, keyed by the path of their data files.
+ * When it is full, the address book that was used least recently makes way for a new one.
+ */
+class AddressBookCache {
+
+    private final Map<Path, AddressBook> addressBooks;
+
+    /**
+     * Creates an {@code AddressBookCache} that keeps up to {@code capacity} address books.
+     */
+    AddressBookCache(int capacity) {
+        assert capacity > 0 : "cache capacity must be positive";
+        addressBooks = new LinkedHashMap<Path, AddressBook>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, AddressBook> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the address book whose data file is at {@code filePath}, and marks it as the most recently used.
+     */
+    Optional<ReadOnlyAddressBook> get(Path filePath) {
+        return Optional.ofNullable(addressBooks.get(toKey(filePath)));
+    }
+
+    /**
+     * Returns true if the address book whose data file is at {@code filePath} is kept, without marking it as used.
+     */
+    boolean contains(Path filePath) {
+        return addressBooks.containsKey(toKey(filePath));
+    }
+
+    /**
+     * Keeps a copy of {@code addressBook}, whose data file is at {@code filePath}, as the most recently used.
+     */
+    void put(Path filePath, ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        addressBooks.put(toKey(filePath), new AddressBook(addressBook));
+    }
+
+    /**
+     * Forgets the address book whose data file is at {@code filePath}, if it is kept.
+     */
+    void remove(Path filePath) {
+        addressBooks.remove(toKey(filePath));
+    }
+
+    int size() {
+        return addressBooks.size();
+    }
+
+    private static Path toKey(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+}
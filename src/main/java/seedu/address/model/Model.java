@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -59,6 +61,26 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the address book whose data file is at {@code addressBookFilePath}, if it is one of the recently used
+     * address books that are kept in memory.
+     */
+    Optional<ReadOnlyAddressBook> getCachedAddressBook(Path addressBookFilePath);
+
+    /**
+     * Keeps {@code addressBook}, whose data file is at {@code addressBookFilePath}, in memory as a recently used
+     * address book, so that switching to it is quick. Nothing is changed if it is the current address book or is
+     * already kept in memory, since the address book kept may hold newer edits.
+     */
+    void cacheAddressBook(Path addressBookFilePath, ReadOnlyAddressBook addressBook);
+
+    /**
+     * Replaces the current address book with {@code addressBook}, whose data file is at {@code addressBookFilePath}.
+     * The current address book is kept in memory as a recently used address book, the undo and redo history is
+     * cleared, and the filtered person list shows the active persons.
+     */
+    void switchAddressBook(Path addressBookFilePath, ReadOnlyAddressBook addressBook);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -70,6 +92,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code persons} at once, without changing the filter of the filtered person list.
+     * None of {@code persons} may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -119,6 +147,11 @@ public interface Model {
      */
     void clearRedo();
 
+    /**
+     * Clears the undo and redo history, after a change that cannot be undone.
+     */
+    void clearHistory();
+
     /**
      * Returns true if there is at least one future state available
      * in the redo history.
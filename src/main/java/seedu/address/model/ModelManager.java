@@ -6,6 +6,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -19,6 +21,9 @@ import seedu.address.model.person.Person;
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** The number of recently used address books, other than the current one, that are kept in memory. */
+    public static final int ADDRESS_BOOK_CACHE_CAPACITY = 4;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
@@ -26,6 +31,7 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final Deque<ReadOnlyAddressBook> undoStack = new ArrayDeque<>();
     private final Deque<ReadOnlyAddressBook> redoStack = new ArrayDeque<>(); // optional
+    private final AddressBookCache addressBookCache = new AddressBookCache(ADDRESS_BOOK_CACHE_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -92,6 +98,41 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> getCachedAddressBook(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        return addressBookCache.get(addressBookFilePath);
+    }
+
+    @Override
+    public void cacheAddressBook(Path addressBookFilePath, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(addressBookFilePath, addressBook);
+        // A kept address book may hold edits made since, so it is never replaced
+        if (isCurrentAddressBook(addressBookFilePath) || addressBookCache.contains(addressBookFilePath)) {
+            return;
+        }
+        addressBookCache.put(addressBookFilePath, addressBook);
+    }
+
+    @Override
+    public void switchAddressBook(Path addressBookFilePath, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(addressBookFilePath, addressBook);
+        if (!isCurrentAddressBook(addressBookFilePath)) {
+            addressBookCache.put(getAddressBookFilePath(), this.addressBook);
+            addressBookCache.remove(addressBookFilePath);
+        }
+        this.addressBook.resetData(addressBook);
+        setAddressBookFilePath(addressBookFilePath);
+        undoStack.clear();
+        redoStack.clear();
+        updateFilteredPersonList(PREDICATE_SHOW_ACTIVE_PERSONS);
+    }
+
+    private boolean isCurrentAddressBook(Path addressBookFilePath) {
+        return addressBookFilePath.toAbsolutePath().normalize()
+                .equals(getAddressBookFilePath().toAbsolutePath().normalize());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,6 +145,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -156,6 +203,12 @@ public class ModelManager implements Model {
         redoStack.clear();
     }
 
+    @Override
+    public void clearHistory() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+
     @Override
     public boolean canRedo() {
         return !redoStack.isEmpty();
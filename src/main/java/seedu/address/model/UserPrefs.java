@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.BackupSettings;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageSettings storageSettings = new StorageSettings();
+    private BackupSettings backupSettings = new BackupSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageSettings(newUserPrefs.getStorageSettings());
+        setBackupSettings(newUserPrefs.getBackupSettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
+    public BackupSettings getBackupSettings() {
+        return backupSettings;
+    }
+
+    public void setBackupSettings(BackupSettings backupSettings) {
+        requireNonNull(backupSettings);
+        this.backupSettings = backupSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +93,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && storageSettings.equals(otherUserPrefs.storageSettings)
+                && backupSettings.equals(otherUserPrefs.backupSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageSettings, backupSettings);
     }
 
     @Override
@@ -82,6 +108,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage Settings : " + storageSettings);
+        sb.append("\nBackup Settings : " + backupSettings);
         return sb.toString();
     }
 
@@ -0,0 +1,157 @@
+package seedu.address.model.payment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MatriculationNumber;
+
+/**
+ * The summary of the payments archived when a year was closed: how many payments of each member were archived,
+ * and what they add up to. The archived payments themselves are only kept in storage.
+ * <p>
+ * Closing a year archives every payment dated on or before its last day, so payments dated in a year closed
+ * earlier, but recorded after it was closed, are archived with the next year closed.
+ * Guarantees: immutable.
+ */
+public final class ClosedYear {
+
+    private final int year;
+    private final Map<MatriculationNumber, Total> totals;
+
+    /**
+     * The number of payments of one member archived when a year was closed, and what they add up to.
+     * Guarantees: immutable.
+     */
+    public static final class Total {
+        private final int count;
+        private final BigDecimal amount;
+
+        /**
+         * Creates a {@code Total} of {@code count} payments that add up to {@code amount}.
+         */
+        public Total(int count, BigDecimal amount) {
+            requireNonNull(amount);
+            this.count = count;
+            this.amount = amount;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Total)) {
+                return false;
+            }
+
+            Total otherTotal = (Total) other;
+            return count == otherTotal.count && amount.compareTo(otherTotal.amount) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * count + amount.stripTrailingZeros().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("count", count)
+                    .add("amount", amount)
+                    .toString();
+        }
+    }
+
+    /**
+     * Creates a {@code ClosedYear} for {@code year}, with the totals of the members whose payments were archived.
+     * Members without archived payments are left out.
+     */
+    public ClosedYear(int year, Map<MatriculationNumber, Total> totals) {
+        requireNonNull(totals);
+        this.year = year;
+        this.totals = Collections.unmodifiableMap(new LinkedHashMap<>(totals));
+    }
+
+    /**
+     * Returns the last day of {@code year}; closing the year archives the payments dated on or before it.
+     */
+    public static LocalDate getLastDay(int year) {
+        return LocalDate.of(year, 12, 31);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public LocalDate getLastDay() {
+        return getLastDay(year);
+    }
+
+    /**
+     * Returns the total of the archived payments of the member with {@code matriculationNumber}, or
+     * {@code Optional.empty()} if none of their payments were archived.
+     */
+    public Optional<Total> getTotal(MatriculationNumber matriculationNumber) {
+        return Optional.ofNullable(totals.get(matriculationNumber));
+    }
+
+    /**
+     * Returns an unmodifiable view of the totals, by member.
+     */
+    public Map<MatriculationNumber, Total> getTotals() {
+        return totals;
+    }
+
+    public int getPaymentCount() {
+        return totals.values().stream().mapToInt(Total::getCount).sum();
+    }
+
+    public BigDecimal getAmount() {
+        return totals.values().stream().map(Total::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClosedYear)) {
+            return false;
+        }
+
+        ClosedYear otherClosedYear = (ClosedYear) other;
+        return year == otherClosedYear.year && totals.equals(otherClosedYear.totals);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * year + totals.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("year", year)
+                .add("totals", totals)
+                .toString();
+    }
+}
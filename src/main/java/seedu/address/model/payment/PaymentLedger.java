@@ -0,0 +1,165 @@
+package seedu.address.model.payment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The payments of a person, together with their count, total and latest payment.
+ * <p>
+ * A ledger is either loaded, holding its payments, or lazy, holding only the summary and a {@link Loader} that
+ * fetches the payments from storage the first time they are asked for. The summary of a lazy ledger is answered
+ * without loading it, so listing and finding persons never loads their payments.
+ * Guarantees: the payments and the summary never change once the ledger is created.
+ */
+public final class PaymentLedger {
+
+    /** The order of payments by recency: by date, then by when they were recorded. */
+    public static final Comparator<Payment> RECENCY_ORDER = Comparator
+            .comparing(Payment::getDate)
+            .thenComparing(Payment::getRecordedAt);
+
+    private static final PaymentLedger EMPTY = new PaymentLedger(Collections.emptyList());
+
+    /**
+     * Fetches the payments of a lazy ledger from where they are stored.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Returns the payments, in the order they were recorded in.
+         *
+         * @throws IllegalStateException if the stored payments can no longer be read.
+         */
+        List<Payment> load();
+    }
+
+    private final int size;
+    private final BigDecimal total;
+    private final Payment latest; // null if there are no payments
+
+    private List<Payment> payments; // null until loaded, guarded by this
+    private Loader loader; // null once loaded, guarded by this
+
+    private PaymentLedger(List<Payment> payments) {
+        this.payments = Collections.unmodifiableList(new ArrayList<>(payments));
+        this.size = payments.size();
+        this.total = sum(payments);
+        this.latest = payments.stream().max(RECENCY_ORDER).orElse(null);
+    }
+
+    private PaymentLedger(int size, BigDecimal total, Payment latest, Loader loader) {
+        this.size = size;
+        this.total = total;
+        this.latest = latest;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns a loaded ledger of {@code payments}.
+     */
+    public static PaymentLedger of(List<Payment> payments) {
+        requireNonNull(payments);
+        return payments.isEmpty() ? EMPTY : new PaymentLedger(payments);
+    }
+
+    /**
+     * Returns a lazy ledger of {@code size} payments that add up to {@code total}, with {@code latest} as the
+     * most recent of them. {@code loader} must load exactly those payments.
+     */
+    public static PaymentLedger lazy(int size, BigDecimal total, Optional<Payment> latest, Loader loader) {
+        requireNonNull(total);
+        requireNonNull(latest);
+        requireNonNull(loader);
+        assert size >= 0 && (size == 0) != latest.isPresent() : "latest payment must match the number of payments";
+        return new PaymentLedger(size, total, latest.orElse(null), loader);
+    }
+
+    /**
+     * Returns an immutable list of the payments, loading them first if this ledger has not been loaded yet.
+     *
+     * @throws IllegalStateException if the payments had to be loaded and could not be.
+     */
+    public synchronized List<Payment> getPayments() {
+        if (payments == null) {
+            List<Payment> loaded = loader.load();
+            assert loaded.size() == size : "loaded payments must match the summary";
+            payments = Collections.unmodifiableList(new ArrayList<>(loaded));
+            loader = null;
+        }
+        return payments;
+    }
+
+    public synchronized boolean isLoaded() {
+        return payments != null;
+    }
+
+    /**
+     * Returns the loader of this ledger if it has not been loaded yet. Storage uses it to write the stored
+     * payments back without loading them.
+     */
+    public synchronized Optional<Loader> getLoaderIfNotLoaded() {
+        return Optional.ofNullable(loader);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public Optional<Payment> getLatest() {
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * Returns a ledger with {@code payment} appended. A lazy ledger stays lazy.
+     */
+    public PaymentLedger withAdded(Payment payment) {
+        requireNonNull(payment);
+        return withAddedAll(List.of(payment));
+    }
+
+    /**
+     * Returns a ledger with {@code added} appended in order. A lazy ledger stays lazy.
+     */
+    public PaymentLedger withAddedAll(List<Payment> added) {
+        requireNonNull(added);
+        if (added.isEmpty()) {
+            return this;
+        }
+        List<Payment> toAdd = List.copyOf(added);
+        if (isLoaded()) {
+            List<Payment> updated = new ArrayList<>(getPayments());
+            updated.addAll(toAdd);
+            return of(updated);
+        }
+
+        Payment newLatest = latest;
+        for (Payment payment : toAdd) {
+            newLatest = newLatest == null || RECENCY_ORDER.compare(payment, newLatest) > 0 ? payment : newLatest;
+        }
+        return lazy(size + toAdd.size(), total.add(sum(toAdd)), Optional.of(newLatest), () -> {
+            List<Payment> updated = new ArrayList<>(getPayments());
+            updated.addAll(toAdd);
+            return updated;
+        });
+    }
+
+    private static BigDecimal sum(List<Payment> payments) {
+        return payments.stream()
+                .map(payment -> payment.getAmount().asBigDecimal())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
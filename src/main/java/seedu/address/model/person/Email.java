@@ -39,11 +39,25 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean isChecked) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of {@code email} without checking it against {@link #isValidEmail(String)}.
+     * Only meant for email addresses known to be valid.
+     */
+    public static Email ofValidated(String email) {
+        return new Email(email, false);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
@@ -32,16 +32,24 @@ public class MatriculationNumber {
      * @param input A valid matriculation number.
      */
     public MatriculationNumber(String input) {
-        requireNonNull(input);
-
         // Convert to uppercase automatically
-        String normalized = input.toUpperCase();
+        this(requireNonNull(input).toUpperCase(), true);
+    }
 
-        if (!isValidMatriculationNumber(normalized)) {
-            throw new InvalidMatriculationNumberException(normalized);
+    private MatriculationNumber(String value, boolean isChecked) {
+        requireNonNull(value);
+        if (isChecked && !isValidMatriculationNumber(value)) {
+            throw new InvalidMatriculationNumberException(value);
         }
+        this.value = value;
+    }
 
-        value = normalized;
+    /**
+     * Returns a {@code MatriculationNumber} of {@code value} without normalizing it or checking it against
+     * {@link #isValidMatriculationNumber(String)}. Only meant for values known to be valid and in upper case.
+     */
+    public static MatriculationNumber ofValidated(String value) {
+        return new MatriculationNumber(value, false);
     }
 
     /**
@@ -64,11 +64,25 @@ public class Name {
      * @throws IllegalArgumentException if {@code name} does not satisfy {@link #isValidName(String)}.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without checking it against {@link #isValidName(String)}.
+     * Only meant for names known to be valid, such as those read back from a data file whose checksum matched.
+     */
+    public static Name ofValidated(String name) {
+        return new Name(name, false);
+    }
+
     /**
      * Returns true if a given string is a valid name according to {@link #VALIDATION_REGEX}.
      */
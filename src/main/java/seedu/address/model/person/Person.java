@@ -2,17 +2,20 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.PersonFormatter;
 
@@ -30,7 +33,7 @@ public class Person {
     // Data fields
     private final MatriculationNumber matriculationNumber;
     private final Set<Tag> tags = new HashSet<>();
-    private final List<Payment> payments;
+    private final PaymentLedger payments;
     private final boolean archived;
 
     /**
@@ -45,7 +48,7 @@ public class Person {
         this.matriculationNumber = matriculationNumber;
         this.tags.addAll(tags);
         this.archived = false;
-        this.payments = Collections.unmodifiableList(new ArrayList<>()); // empty immutable list
+        this.payments = PaymentLedger.of(Collections.emptyList());
     }
 
     /**
@@ -60,7 +63,22 @@ public class Person {
         this.matriculationNumber = matriculationNumber;
         this.tags.addAll(tags);
         this.archived = archived;
-        this.payments = Collections.unmodifiableList(new ArrayList<>(payments));
+        this.payments = PaymentLedger.of(payments);
+    }
+
+    /**
+     * Full constructor with a payment ledger, which may not have been loaded yet.
+     */
+    public Person(Name name, Phone phone, Email email, MatriculationNumber matriculationNumber,
+                  Set<Tag> tags, boolean archived, PaymentLedger payments) {
+        requireAllNonNull(name, phone, email, matriculationNumber, tags, payments);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.matriculationNumber = matriculationNumber;
+        this.tags.addAll(tags);
+        this.archived = archived;
+        this.payments = payments;
     }
 
     public Name getName() {
@@ -95,12 +113,29 @@ public class Person {
     }
 
     /**
-     * Returns an immutable view of the payments list.
+     * Returns an immutable view of the payments list, loading the payments from storage if they have not been
+     * loaded yet. Use {@link #getPaymentCount()}, {@link #getPaymentTotal()} or {@link #getLatestPayment()}
+     * where they suffice, since those never load the payments.
      */
     public List<Payment> getPayments() {
+        return payments.getPayments();
+    }
+
+    /**
+     * Returns the ledger of this person's payments, without loading it.
+     */
+    public PaymentLedger getPaymentLedger() {
         return payments;
     }
 
+    public int getPaymentCount() {
+        return payments.size();
+    }
+
+    public BigDecimal getPaymentTotal() {
+        return payments.getTotal();
+    }
+
     public MatriculationNumber getMatriculationNumber() {
         return matriculationNumber;
     }
@@ -110,9 +145,26 @@ public class Person {
      * This preserves immutability.
      */
     public Person withAddedPayment(Payment payment) {
-        List<Payment> updated = new ArrayList<>(this.payments);
-        updated.add(payment);
-        return new Person(name, phone, email, matriculationNumber, tags, archived, updated);
+        return new Person(name, phone, email, matriculationNumber, tags, archived, payments.withAdded(payment));
+    }
+
+    /**
+     * Returns a new Person that is identical to this person but with {@code payments} appended in order.
+     */
+    public Person withAddedPayments(List<Payment> addedPayments) {
+        return new Person(name, phone, email, matriculationNumber, tags, archived,
+                payments.withAddedAll(addedPayments));
+    }
+
+    /**
+     * Returns a new Person that is identical to this person but keeps only the payments dated after {@code date}.
+     */
+    public Person withPaymentsAfter(LocalDate date) {
+        requireAllNonNull(date);
+        List<Payment> kept = getPayments().stream()
+                .filter(payment -> payment.getDate().isAfter(date))
+                .collect(Collectors.toList());
+        return new Person(name, phone, email, matriculationNumber, tags, archived, kept);
     }
 
     /**
@@ -120,7 +172,7 @@ public class Person {
      * If the payment does not exist, this person is returned unchanged.
      */
     public Person withRemovedPayment(Payment paymentToRemove) {
-        List<Payment> updated = new ArrayList<>(this.payments);
+        List<Payment> updated = new ArrayList<>(getPayments());
         updated.remove(paymentToRemove);
         return new Person(name, phone, email, matriculationNumber, tags, archived, updated);
     }
@@ -129,7 +181,7 @@ public class Person {
      * Returns a new Person with the payment at {@code zeroBasedPaymentIndex} replaced by {@code edited}.
      */
     public Person withEditedPayment(int zeroBasedPaymentIndex, Payment edited) {
-        List<Payment> updated = new ArrayList<>(this.payments);
+        List<Payment> updated = new ArrayList<>(getPayments());
         updated.set(zeroBasedPaymentIndex, edited);
         return new Person(name, phone, email, matriculationNumber, tags, archived, updated);
     }
@@ -153,10 +205,7 @@ public class Person {
      * Returns latest payment if the person has made any pauyment
      */
     public Optional<Payment> getLatestPayment() {
-        return getPayments().stream()
-                .max(Comparator
-                        .comparing(Payment::getDate)
-                        .thenComparing(Payment::getRecordedAt)); // if recordedAt exists
+        return payments.getLatest();
     }
 
     /**
@@ -21,11 +21,25 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean isChecked) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone} without checking it against {@link #isValidPhone(String)}.
+     * Only meant for phone numbers known to be valid.
+     */
+    public static Phone ofValidated(String phone) {
+        return new Phone(phone, false);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
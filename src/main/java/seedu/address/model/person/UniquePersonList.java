@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -97,6 +100,21 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Adds all of {@code persons} to the end of the list, in one change.
+     * The persons must not already exist in the list, and must not contain duplicate persons.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        List<Person> combined = new ArrayList<>(internalList);
+        combined.addAll(persons);
+        if (!personsAreUnique(combined)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(persons);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -138,11 +156,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons are the same person exactly when their matriculation numbers are equal
+        Set<MatriculationNumber> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person.getMatriculationNumber())) {
+                return false;
             }
         }
         return true;
@@ -25,7 +25,7 @@ public class PersonFormatter {
 
         sb.append("Status: ").append(person.isArchived() ? "Archived" : "Active").append("\n");
 
-        sb.append("Payments: ").append(person.getPayments().size()).append(" total");
+        sb.append("Payments: ").append(person.getPaymentCount()).append(" total");
 
         // If available, include latest payment info
         person.getLatestPayment().ifPresent(latest ->
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Describes one point in time the address book can be restored to.
+ * A backup is either a full copy of the address book, or the changes since the backup before it.
+ * Guarantees: immutable.
+ */
+public class AddressBookBackup {
+
+    private final int id;
+    private final LocalDateTime createdAt;
+    private final boolean isFull;
+
+    /**
+     * Creates an {@code AddressBookBackup} with the given details.
+     */
+    public AddressBookBackup(int id, LocalDateTime createdAt, boolean isFull) {
+        requireNonNull(createdAt);
+        this.id = id;
+        this.createdAt = createdAt;
+        this.isFull = isFull;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns true if this backup is a full copy of the address book, rather than the changes since the backup
+     * before it.
+     */
+    public boolean isFull() {
+        return isFull;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookBackup)) {
+            return false;
+        }
+
+        AddressBookBackup otherBackup = (AddressBookBackup) other;
+        return id == otherBackup.id
+                && createdAt.equals(otherBackup.createdAt)
+                && isFull == otherBackup.isFull;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, createdAt, isFull);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", id)
+                .add("createdAt", createdAt)
+                .add("isFull", isFull)
+                .toString();
+    }
+}
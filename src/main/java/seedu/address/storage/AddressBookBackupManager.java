@@ -0,0 +1,455 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.BackupSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps point-in-time backups of the address book in a backup directory next to the data file.
+ * <p>
+ * Backups form chains. A chain starts with a full backup, which is a compressed copy of the whole address book,
+ * and continues with change backups, which hold only the persons added, edited or removed since the backup
+ * before them, keyed by matriculation number. A new chain is started once a chain holds as many change backups
+ * as the {@link BackupSettings#getFullBackupInterval() full backup interval}, and at the first backup after
+ * startup. Restoring a backup replays its chain from the full backup up to it.
+ * <p>
+ * Whenever a new chain is started, older chains are maintained on a background thread: chains beyond the
+ * retained ones are deleted, and retained chains older than the detailed ones are compacted into a single full
+ * backup of their last state.
+ * <p>
+ * With a passphrase, full backups are encrypted after they are compressed, and each entry of a change backup
+ * is encrypted like a journal entry.
+ */
+public class AddressBookBackupManager {
+
+    public static final String BACKUP_DIRECTORY_SUFFIX = ".backups";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackupManager.class);
+
+    private static final String FULL_BACKUP_EXTENSION = "full.json.gz";
+    private static final String CHANGE_BACKUP_EXTENSION = "changes.jsonl";
+    private static final Pattern BACKUP_FILE_NAME = Pattern.compile(
+            "(?<id>\\d+)-(?<createdAt>\\d{8}T\\d{6})\\.(?<extension>" + Pattern.quote(FULL_BACKUP_EXTENSION)
+                    + "|" + Pattern.quote(CHANGE_BACKUP_EXTENSION) + ")");
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private final Path backupDirectory;
+    private final BackupSettings settings;
+    private final Clock clock;
+    private final Passphrase passphrase;
+    private final PersonChangeTracker changeTracker = new PersonChangeTracker();
+
+    private int lastBackupId = -1; // -1 until the backup directory has been scanned
+    private int changeBackupsInChain;
+    private Thread maintenanceThread;
+
+    /**
+     * Creates an {@code AddressBookBackupManager} that keeps its backups in {@code backupDirectory}.
+     */
+    public AddressBookBackupManager(Path backupDirectory, BackupSettings settings) {
+        this(backupDirectory, settings, (Passphrase) null);
+    }
+
+    /**
+     * Creates an {@code AddressBookBackupManager} that keeps its backups in {@code backupDirectory}, encrypted with
+     * {@code passphrase}, or unencrypted if {@code passphrase} is null.
+     */
+    public AddressBookBackupManager(Path backupDirectory, BackupSettings settings, Passphrase passphrase) {
+        this(backupDirectory, settings, passphrase, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an {@code AddressBookBackupManager} that keeps its backups in {@code backupDirectory} and takes the
+     * time of each backup from {@code clock}.
+     */
+    AddressBookBackupManager(Path backupDirectory, BackupSettings settings, Clock clock) {
+        this(backupDirectory, settings, null, clock);
+    }
+
+    private AddressBookBackupManager(Path backupDirectory, BackupSettings settings, Passphrase passphrase,
+                                     Clock clock) {
+        requireNonNull(backupDirectory);
+        requireNonNull(settings);
+        requireNonNull(clock);
+        this.backupDirectory = backupDirectory;
+        this.settings = settings;
+        this.clock = clock;
+        this.passphrase = passphrase;
+    }
+
+    /**
+     * Returns the directory that holds the backups of the data file at {@code addressBookFilePath}.
+     */
+    public static Path getBackupDirectory(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + BACKUP_DIRECTORY_SUFFIX);
+    }
+
+    public Path getBackupDirectory() {
+        return backupDirectory;
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} that saves to {@code addressBookStorage} and backs up every address
+     * book that was saved to its data file. A failed backup is logged but does not fail the save.
+     */
+    public AddressBookStorage backingUp(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        return new BackingUpStorage(addressBookStorage);
+    }
+
+    /**
+     * Backs up {@code addressBook}, either as the changes since the last backup or as a full backup that starts
+     * a new chain. Nothing is written if nothing changed since the last backup.
+     */
+    public synchronized void backUp(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (lastBackupId < 0) {
+            lastBackupId = scanBackupFiles().stream().mapToInt(BackupFile::getId).max().orElse(0);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+        if (!changeTracker.isTracking() || changeBackupsInChain >= settings.getFullBackupInterval()) {
+            writeFullBackup(addressBook, getBackupFilePath(lastBackupId + 1, now, true));
+            changeTracker.reset(addressBook.getPersonList());
+            changeBackupsInChain = 0;
+            lastBackupId++;
+            startMaintenance();
+            return;
+        }
+
+        PersonChangeTracker.Changes changes = changeTracker.diff(addressBook.getPersonList());
+        if (changes.isEmpty()) {
+            return;
+        }
+        String entries = JournaledAddressBookStorage.toJournalEntries(changes, passphrase);
+        FileUtil.writeAtomically(getBackupFilePath(lastBackupId + 1, now, false),
+                out -> out.write(entries.getBytes(StandardCharsets.UTF_8)));
+        changeTracker.commit(changes);
+        changeBackupsInChain++;
+        lastBackupId++;
+    }
+
+    /**
+     * Returns the backups that can be restored, oldest first.
+     */
+    public synchronized List<AddressBookBackup> listBackups() throws IOException {
+        return groupIntoChains(scanBackupFiles()).stream()
+                .flatMap(List::stream)
+                .map(BackupFile::toBackup)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the address book as it was when the backup with {@code backupId} was taken,
+     * or {@code Optional.empty()} if there is no such backup.
+     *
+     * @throws DataLoadingException if the backups of its chain could not be read.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readBackup(int backupId) throws DataLoadingException {
+        List<List<BackupFile>> chains;
+        try {
+            chains = groupIntoChains(scanBackupFiles());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        for (List<BackupFile> chain : chains) {
+            for (int i = 0; i < chain.size(); i++) {
+                if (chain.get(i).getId() == backupId) {
+                    return Optional.of(replay(chain.subList(0, i + 1)));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Blocks until the running maintenance of old chains, if any, has finished.
+     */
+    public void awaitMaintenance() throws InterruptedException {
+        Thread running;
+        synchronized (this) {
+            running = maintenanceThread;
+        }
+        if (running != null) {
+            running.join();
+        }
+    }
+
+    private Path getBackupFilePath(int backupId, LocalDateTime createdAt, boolean isFull) {
+        return backupDirectory.resolve(String.format("%06d-%s.%s", backupId, CREATED_AT_FORMAT.format(createdAt),
+                isFull ? FULL_BACKUP_EXTENSION : CHANGE_BACKUP_EXTENSION));
+    }
+
+    private void writeFullBackup(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        new JsonAddressBookStorage(filePath, true, false, Compression.GZIP, StorageSettings.DEFAULT_COMPRESSION_LEVEL,
+                passphrase).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the backup files in the backup directory, ordered by id.
+     * A change backup that has the same id as a full backup was compacted into it, and is left out.
+     */
+    private List<BackupFile> scanBackupFiles() throws IOException {
+        if (!Files.isDirectory(backupDirectory)) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, BackupFile> backupFiles = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(backupDirectory)) {
+            files.map(BackupFile::parse)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .forEach(backupFile -> backupFiles.merge(backupFile.getId(), backupFile,
+                            (existing, added) -> existing.isFull() ? existing : added));
+        }
+        List<BackupFile> sorted = new ArrayList<>(backupFiles.values());
+        sorted.sort(Comparator.comparingInt(BackupFile::getId));
+        return sorted;
+    }
+
+    /**
+     * Splits {@code backupFiles}, ordered by id, into chains that each start with a full backup.
+     * Change backups without a full backup before them cannot be restored, and are left out.
+     */
+    private static List<List<BackupFile>> groupIntoChains(List<BackupFile> backupFiles) {
+        List<List<BackupFile>> chains = new ArrayList<>();
+        for (BackupFile backupFile : backupFiles) {
+            if (backupFile.isFull()) {
+                chains.add(new ArrayList<>());
+            }
+            if (!chains.isEmpty()) {
+                chains.get(chains.size() - 1).add(backupFile);
+            }
+        }
+        return chains;
+    }
+
+    /**
+     * Reads the full backup at the start of {@code chain} and applies the change backups after it in order.
+     */
+    private ReadOnlyAddressBook replay(List<BackupFile> chain) throws DataLoadingException {
+        assert !chain.isEmpty() && chain.get(0).isFull() : "a chain must start with a full backup";
+        Path fullBackup = chain.get(0).getPath();
+        ReadOnlyAddressBook start = new JsonAddressBookStorage(fullBackup, true, false, Compression.GZIP,
+                StorageSettings.DEFAULT_COMPRESSION_LEVEL, passphrase).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new IOException("Missing backup " + fullBackup)));
+
+        Map<MatriculationNumber, Person> persons = new LinkedHashMap<>();
+        start.getPersonList().forEach(person -> persons.put(person.getMatriculationNumber(), person));
+        for (BackupFile changeBackup : chain.subList(1, chain.size())) {
+            try (BufferedReader reader = Files.newBufferedReader(changeBackup.getPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        JournaledAddressBookStorage.parseEntry(line, passphrase).applyTo(persons);
+                    }
+                }
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Backup " + changeBackup.getPath() + " could not be replayed: " + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        return addressBook;
+    }
+
+    private boolean isMaintaining() {
+        return maintenanceThread != null && maintenanceThread.isAlive();
+    }
+
+    /**
+     * Deletes and compacts old chains on a background thread, unless that is already being done.
+     * The current chain is never touched, as at least one chain is always kept in detail.
+     * <p>
+     * The thread is not a daemon, so the application does not exit halfway through compacting a chain.
+     */
+    private void startMaintenance() {
+        if (isMaintaining()) {
+            return;
+        }
+        maintenanceThread = new Thread(this::maintain, "addressbook-backup-maintenance");
+        maintenanceThread.start();
+    }
+
+    private void maintain() {
+        try {
+            List<List<BackupFile>> chains;
+            synchronized (this) {
+                chains = groupIntoChains(scanBackupFiles());
+            }
+            int firstRetained = Math.max(0, chains.size() - settings.getRetainedChains());
+            int firstDetailed = Math.max(0, chains.size() - settings.getDetailedChains());
+            for (List<BackupFile> chain : chains.subList(0, firstRetained)) {
+                deleteChain(chain);
+            }
+            for (List<BackupFile> chain : chains.subList(firstRetained, Math.max(firstRetained, firstDetailed))) {
+                if (chain.size() > 1) {
+                    compactChain(chain);
+                }
+            }
+        } catch (IOException | DataLoadingException e) {
+            // Old chains are only kept longer or in more detail than asked for; this is retried with the next chain.
+            logger.warning("Failed to maintain backups in " + backupDirectory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the backups of {@code chain}. The change backups go first, so that a change backup is never left
+     * behind without the full backup it builds on.
+     */
+    private synchronized void deleteChain(List<BackupFile> chain) throws IOException {
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            Files.deleteIfExists(chain.get(i).getPath());
+        }
+    }
+
+    /**
+     * Replaces {@code chain} with a single full backup of its last state, with the id and time of its last backup.
+     */
+    private void compactChain(List<BackupFile> chain) throws IOException, DataLoadingException {
+        BackupFile last = chain.get(chain.size() - 1);
+        logger.info("Compacting " + chain.size() + " backups up to backup " + last.getId());
+        ReadOnlyAddressBook lastState = replay(chain);
+        writeFullBackup(lastState, getBackupFilePath(last.getId(), last.getCreatedAt(), true));
+        deleteChain(chain);
+    }
+
+    /**
+     * A backup file in the backup directory, described by its file name.
+     */
+    private static class BackupFile {
+        private final Path path;
+        private final int id;
+        private final LocalDateTime createdAt;
+        private final boolean isFull;
+
+        private BackupFile(Path path, int id, LocalDateTime createdAt, boolean isFull) {
+            this.path = path;
+            this.id = id;
+            this.createdAt = createdAt;
+            this.isFull = isFull;
+        }
+
+        /**
+         * Returns the backup file at {@code path}, or {@code Optional.empty()} if it is not a backup file.
+         */
+        static Optional<BackupFile> parse(Path path) {
+            Matcher matcher = BACKUP_FILE_NAME.matcher(path.getFileName().toString());
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new BackupFile(path, Integer.parseInt(matcher.group("id")),
+                        LocalDateTime.parse(matcher.group("createdAt"), CREATED_AT_FORMAT),
+                        matcher.group("extension").equals(FULL_BACKUP_EXTENSION)));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                return Optional.empty();
+            }
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        int getId() {
+            return id;
+        }
+
+        LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        boolean isFull() {
+            return isFull;
+        }
+
+        AddressBookBackup toBackup() {
+            return new AddressBookBackup(id, createdAt, isFull);
+        }
+    }
+
+    /**
+     * Saves to another {@code AddressBookStorage}, and backs up what it saved to that storage's data file.
+     */
+    private class BackingUpStorage implements AddressBookStorage {
+        private final AddressBookStorage addressBookStorage;
+
+        private BackingUpStorage(AddressBookStorage addressBookStorage) {
+            this.addressBookStorage = addressBookStorage;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return addressBookStorage.getAddressBookFilePath();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+            return addressBookStorage.readAddressBook();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+            return addressBookStorage.readAddressBook(filePath);
+        }
+
+        @Override
+        public Optional<SalvagedAddressBook> salvageAddressBook() throws DataLoadingException {
+            return addressBookStorage.salvageAddressBook();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            if (!filePath.equals(getAddressBookFilePath())) {
+                return;
+            }
+            try {
+                backUp(addressBook);
+            } catch (IOException e) {
+                logger.warning("Failed to back up " + filePath + ": " + e.getMessage());
+            }
+        }
+    }
+}
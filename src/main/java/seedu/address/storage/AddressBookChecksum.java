@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A CRC32C checksum over fields of the persons in a data file.
+ * <p>
+ * The checksum of a whole data file, as returned by {@link #of(ReadOnlyAddressBook)}, covers the names, phone
+ * numbers, emails and matriculation numbers of its persons. It is saved together with {@link #VALIDATOR_VERSION}.
+ * When both still match at load, every one of those fields is exactly as it was saved from valid {@code Person}s,
+ * so they do not need to be checked again. The checksum guards against accidental edits of the data file, not
+ * against deliberate tampering.
+ */
+class AddressBookChecksum {
+
+    /**
+     * Version of the rules that the checksummed fields were valid under.
+     * Increase it whenever {@code Name}, {@code Phone}, {@code Email} or {@code MatriculationNumber} starts to
+     * reject values it used to accept, so that data files saved under the old rules are checked again.
+     */
+    public static final int VALIDATOR_VERSION = 1;
+
+    private static final String ALGORITHM_PREFIX = "crc32c:";
+    private static final int NULL_LENGTH = -1;
+
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * Returns the checksum of the persons in {@code addressBook}.
+     */
+    public static String of(ReadOnlyAddressBook addressBook) {
+        AddressBookChecksum checksum = new AddressBookChecksum();
+        for (Person person : addressBook.getPersonList()) {
+            checksum.update(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                    person.getMatriculationNumber().value);
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Adds the checksummed fields of the next person. Missing fields are given as null.
+     */
+    public void update(String name, String phone, String email, String matriculationNumber) {
+        updateField(name);
+        updateField(phone);
+        updateField(email);
+        updateField(matriculationNumber);
+    }
+
+    /**
+     * Returns the checksum of the persons added so far, in the form it is saved in.
+     */
+    public String getValue() {
+        return ALGORITHM_PREFIX + String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Adds a single field, or a missing one given as null.
+     * Each field is preceded by its length, so that moving characters between fields changes the checksum.
+     */
+    public void updateField(String field) {
+        if (field == null) {
+            updateLength(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+        updateLength(bytes.length);
+        crc.update(bytes);
+    }
+
+    private void updateLength(int length) {
+        crc.update(length >>> 24);
+        crc.update(length >>> 16);
+        crc.update(length >>> 8);
+        crc.update(length);
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for a data format, and converts data files between the formats
+ * and between a single data file and shards.
+ */
+public class AddressBookFormatConverter {
+
+    private static final String MESSAGE_DELETE_FAILED = "Old address book files at %s could not be deleted: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Returns the {@code AddressBookStorage} that reads and writes {@code filePath} in {@code dataFormat}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, DataFormat dataFormat) {
+        return createStorage(filePath, new StorageSettings(dataFormat));
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} that reads and writes {@code filePath} as described by
+     * {@code storageSettings}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, StorageSettings storageSettings) {
+        requireNonNull(filePath);
+        requireNonNull(storageSettings);
+        boolean isMemoryMapped = storageSettings.isMemoryMappedLoading();
+        switch (storageSettings.getDataFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, isMemoryMapped, storageSettings.isLazyPaymentLoading());
+        case JSON:
+            return new JsonAddressBookStorage(filePath, false, isMemoryMapped, storageSettings.getCompression(),
+                    storageSettings.getCompressionLevel(), storageSettings.getPassphrase().orElse(null));
+        case SQL:
+            return new SqlAddressBookStorage(SqlAddressBookStorage.getDatabaseFilePath(filePath));
+        default:
+            throw new AssertionError("Unknown data format: " + storageSettings.getDataFormat());
+        }
+    }
+
+    /**
+     * Returns the format the file at {@code filePath} is written in, or {@code Optional.empty()} if there is
+     * no such file. Any file that is not a binary address book is taken to be JSON, compressed or not.
+     */
+    public static Optional<DataFormat> detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(BinaryAddressBookStorage.isBinaryAddressBookFile(filePath)
+                ? DataFormat.BINARY
+                : DataFormat.JSON);
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath} in {@code sourceFormat} as {@code targetFormat}, in place.
+     *
+     * @throws DataLoadingException if the file could not be read in {@code sourceFormat}.
+     * @throws IOException if the file could not be written in {@code targetFormat}.
+     */
+    public static void convert(Path filePath, DataFormat sourceFormat, DataFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = createStorage(filePath, sourceFormat).readAddressBook();
+        if (addressBook.isPresent()) {
+            createStorage(filePath, targetFormat).saveAddressBook(addressBook.get());
+        }
+    }
+
+    /**
+     * Converts the data file at {@code filePath} to {@code preferredFormat} if it is written in another format,
+     * and returns the format the file is in afterwards. A file that cannot be converted is left untouched,
+     * so that it can still be read in its current format.
+     */
+    public static DataFormat convertIfNeeded(Path filePath, DataFormat preferredFormat) {
+        requireNonNull(filePath);
+        requireNonNull(preferredFormat);
+        try {
+            Optional<DataFormat> currentFormat = detectFormat(filePath);
+            if (!currentFormat.isPresent() || currentFormat.get() == preferredFormat) {
+                return preferredFormat;
+            }
+            logger.info("Converting data file " + filePath + " from " + currentFormat.get()
+                    + " to " + preferredFormat);
+            convert(filePath, currentFormat.get(), preferredFormat);
+            return preferredFormat;
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Data file " + filePath + " could not be converted to " + preferredFormat
+                    + ", keeping its current format: " + e);
+            try {
+                return detectFormat(filePath).orElse(preferredFormat);
+            } catch (IOException ioe) {
+                return preferredFormat;
+            }
+        }
+    }
+
+    /**
+     * Returns the storage of the address book at {@code addressBookFilePath}, laid out as described by
+     * {@code preferredSettings}: a database next to the data file for the SQL format, or otherwise a journaled
+     * single data file or shards. The address book is first moved into the preferred layout if it is currently
+     * stored in another one. Data that cannot be moved is left in its current layout, and the returned storage
+     * then keeps using that layout. Old files that cannot be deleted after a move are only logged, since the
+     * moved copy is the one read from then on.
+     */
+    public static AddressBookStorage prepareStorage(Path addressBookFilePath, StorageSettings preferredSettings) {
+        requireNonNull(addressBookFilePath);
+        requireNonNull(preferredSettings);
+        Path databaseFilePath = SqlAddressBookStorage.getDatabaseFilePath(addressBookFilePath);
+        boolean hasDatabase = Files.exists(databaseFilePath);
+        boolean hasFileData = Files.exists(addressBookFilePath) || Files.exists(
+                ShardedAddressBookStorage.getShardDirectory(addressBookFilePath)
+                        .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+
+        if (preferredSettings.getDataFormat() == DataFormat.SQL) {
+            SqlAddressBookStorage databaseStorage = new SqlAddressBookStorage(databaseFilePath);
+            if (hasDatabase || !hasFileData) {
+                return databaseStorage;
+            }
+            // The files are read in the layout and format they are in, without converting them first
+            JournaledAddressBookStorage fileStorage = prepareFileStorage(addressBookFilePath,
+                    getCurrentFileSettings(addressBookFilePath, preferredSettings));
+            if (!copyAddressBook(fileStorage, databaseStorage)) {
+                databaseStorage.close();
+                deleteQuietly(databaseFilePath);
+                return fileStorage;
+            }
+            deleteFileData(addressBookFilePath, fileStorage);
+            return databaseStorage;
+        }
+
+        JournaledAddressBookStorage fileStorage = prepareFileStorage(addressBookFilePath, preferredSettings);
+        if (!hasDatabase || hasFileData) {
+            return fileStorage;
+        }
+        SqlAddressBookStorage databaseStorage = new SqlAddressBookStorage(databaseFilePath);
+        if (!copyAddressBook(databaseStorage, fileStorage)) {
+            return databaseStorage;
+        }
+        databaseStorage.close();
+        deleteQuietly(databaseFilePath);
+        return fileStorage;
+    }
+
+    /**
+     * Returns the journaled storage of the address book files at {@code addressBookFilePath}, moving the address
+     * book from a single data file into shards, or back, if it is currently stored in the other layout.
+     */
+    private static JournaledAddressBookStorage prepareFileStorage(Path addressBookFilePath,
+                                                                  StorageSettings preferredSettings) {
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(addressBookFilePath);
+        boolean hasShards = Files.exists(shardDirectory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+        boolean hasDataFile = Files.exists(addressBookFilePath);
+
+        if (preferredSettings.isSharded()) {
+            ShardedAddressBookStorage shardedSnapshot = new ShardedAddressBookStorage(shardDirectory,
+                    preferredSettings);
+            JournaledAddressBookStorage shardedStorage = createJournaledStorage(shardedSnapshot, preferredSettings);
+            if (hasShards || !hasDataFile) {
+                return shardedStorage;
+            }
+            JournaledAddressBookStorage singleFileStorage = createSingleFileStorage(addressBookFilePath,
+                    preferredSettings.withShardCount(0));
+            if (!copyAddressBook(singleFileStorage, shardedStorage)) {
+                return singleFileStorage;
+            }
+            try {
+                Files.deleteIfExists(singleFileStorage.getJournalFilePath());
+                Files.deleteIfExists(addressBookFilePath);
+            } catch (IOException e) {
+                logger.warning(String.format(MESSAGE_DELETE_FAILED, addressBookFilePath, e));
+            }
+            return shardedStorage;
+        }
+
+        JournaledAddressBookStorage singleFileStorage = createSingleFileStorage(addressBookFilePath,
+                preferredSettings);
+        if (!hasShards || hasDataFile) {
+            return singleFileStorage;
+        }
+        // The shard count of the settings is only used for writing, so any count reads the existing shards
+        ShardedAddressBookStorage shardedSnapshot = new ShardedAddressBookStorage(shardDirectory,
+                preferredSettings.withShardCount(1));
+        JournaledAddressBookStorage shardedStorage = createJournaledStorage(shardedSnapshot, preferredSettings);
+        if (!copyAddressBook(shardedStorage, singleFileStorage)) {
+            return shardedStorage;
+        }
+        try {
+            Files.deleteIfExists(shardedStorage.getJournalFilePath());
+            shardedSnapshot.deleteFiles();
+        } catch (IOException e) {
+            logger.warning(String.format(MESSAGE_DELETE_FAILED, shardDirectory, e));
+        }
+        return singleFileStorage;
+    }
+
+    /**
+     * Returns settings that read the address book files at {@code addressBookFilePath} in the layout and format
+     * they are currently in.
+     */
+    private static StorageSettings getCurrentFileSettings(Path addressBookFilePath, StorageSettings settings) {
+        DataFormat currentFormat;
+        try {
+            currentFormat = detectFormat(addressBookFilePath).orElse(DataFormat.JSON);
+        } catch (IOException e) {
+            currentFormat = DataFormat.JSON;
+        }
+        boolean isSharded = !Files.exists(addressBookFilePath);
+        return settings.withDataFormat(currentFormat).withShardCount(isSharded ? 1 : 0);
+    }
+
+    private static void deleteFileData(Path addressBookFilePath, JournaledAddressBookStorage fileStorage) {
+        try {
+            Files.deleteIfExists(fileStorage.getJournalFilePath());
+            if (Files.exists(addressBookFilePath)) {
+                Files.delete(addressBookFilePath);
+            } else {
+                new ShardedAddressBookStorage(ShardedAddressBookStorage.getShardDirectory(addressBookFilePath),
+                        new StorageSettings(DataFormat.JSON).withShardCount(1)).deleteFiles();
+            }
+        } catch (IOException e) {
+            logger.warning(String.format(MESSAGE_DELETE_FAILED, addressBookFilePath, e));
+        }
+    }
+
+    private static void deleteQuietly(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            logger.warning(String.format(MESSAGE_DELETE_FAILED, filePath, e));
+        }
+    }
+
+    private static JournaledAddressBookStorage createSingleFileStorage(Path filePath, StorageSettings settings) {
+        DataFormat dataFormat = convertIfNeeded(filePath, settings.getDataFormat());
+        return createJournaledStorage(createStorage(filePath, settings.withDataFormat(dataFormat)), settings);
+    }
+
+    private static JournaledAddressBookStorage createJournaledStorage(AddressBookStorage snapshotStorage,
+                                                                      StorageSettings settings) {
+        return new JournaledAddressBookStorage(snapshotStorage,
+                JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, settings.getPassphrase().orElse(null));
+    }
+
+    /**
+     * Copies the address book in {@code source}, with its journal replayed, to {@code target}.
+     * Returns false if it could not be copied.
+     */
+    private static boolean copyAddressBook(AddressBookStorage source, AddressBookStorage target) {
+        logger.info("Moving address book from " + source.getAddressBookFilePath()
+                + " to " + target.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (addressBook.isPresent()) {
+                target.saveAddressBook(addressBook.get());
+            }
+            return true;
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Address book could not be moved to " + target.getAddressBookFilePath()
+                    + ", keeping it in " + source.getAddressBookFilePath() + ": " + e);
+            return false;
+        }
+    }
+}
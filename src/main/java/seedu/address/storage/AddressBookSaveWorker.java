@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes the address book to an {@code AddressBookStorage} on a background thread.
+ * <p>
+ * A save request only marks the address book as dirty; the write itself is debounced, so a burst of commands
+ * results in a single write of the latest state once the burst ends. Each request pushes the write back to the save
+ * delay after it, but never further than the maximum save delay after the first unsaved change, so a steady stream
+ * of commands is still written regularly. Nothing is written while the address book is clean.
+ * Failed writes are reported to the failure handler on the worker thread, and the failed state stays dirty so that
+ * the next request or {@link #flush()} writes it again.
+ */
+public class AddressBookSaveWorker {
+
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 300;
+    public static final long DEFAULT_MAX_SAVE_DELAY_MILLIS = 2_000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveWorker.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long saveDelayMillis;
+    private final long maxSaveDelayMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Object lock = new Object();
+
+    private ReadOnlyAddressBook pendingAddressBook; // the dirty state waiting to be written, guarded by lock
+    private ScheduledFuture<?> scheduledWrite; // guarded by lock
+    private long firstUnsavedChangeNanos; // when the pending state became dirty, guarded by lock
+    private volatile Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Creates an {@code AddressBookSaveWorker} that writes to {@code addressBookStorage}
+     * {@link #DEFAULT_SAVE_DELAY_MILLIS} after the last save request, and at most
+     * {@link #DEFAULT_MAX_SAVE_DELAY_MILLIS} after the first unsaved change.
+     */
+    public AddressBookSaveWorker(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an {@code AddressBookSaveWorker} that writes to {@code addressBookStorage}
+     * {@code saveDelayMillis} after the last save request, and at most {@link #DEFAULT_MAX_SAVE_DELAY_MILLIS}, or
+     * {@code saveDelayMillis} if that is longer, after the first unsaved change.
+     */
+    public AddressBookSaveWorker(AddressBookStorage addressBookStorage, long saveDelayMillis) {
+        this(addressBookStorage, saveDelayMillis, Math.max(saveDelayMillis, DEFAULT_MAX_SAVE_DELAY_MILLIS));
+    }
+
+    /**
+     * Creates an {@code AddressBookSaveWorker} that writes to {@code addressBookStorage}
+     * {@code saveDelayMillis} after the last save request, and at most {@code maxSaveDelayMillis} after the first
+     * unsaved change.
+     */
+    public AddressBookSaveWorker(AddressBookStorage addressBookStorage, long saveDelayMillis,
+                                 long maxSaveDelayMillis) {
+        requireNonNull(addressBookStorage);
+        assert saveDelayMillis >= 0 : "save delay must not be negative";
+        assert maxSaveDelayMillis >= saveDelayMillis : "maximum save delay must not be shorter than the save delay";
+        this.addressBookStorage = addressBookStorage;
+        this.saveDelayMillis = saveDelayMillis;
+        this.maxSaveDelayMillis = maxSaveDelayMillis;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "addressbook-save-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true); // writes pushed back do not pile up in the queue
+    }
+
+    /**
+     * Sets the handler that is told about failed writes. The handler is called on the worker thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Marks {@code addressBook} as the state to be written, replacing any state that has not been written yet,
+     * and pushes the write back to the save delay from now, within the maximum save delay.
+     * The persons are copied right away, so later changes to {@code addressBook} do not leak into this write.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBook copy = new AddressBook(addressBook);
+        synchronized (lock) {
+            long now = System.nanoTime();
+            if (pendingAddressBook == null) {
+                firstUnsavedChangeNanos = now;
+            }
+            pendingAddressBook = copy;
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false); // a write already in progress picks up this state or leaves it dirty
+            }
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(now - firstUnsavedChangeNanos);
+            long delayMillis = Math.max(0, Math.min(saveDelayMillis, maxSaveDelayMillis - waitedMillis));
+            scheduledWrite = executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true if there is a state that has not been written yet.
+     */
+    public boolean hasPendingSave() {
+        synchronized (lock) {
+            return pendingAddressBook != null;
+        }
+    }
+
+    /**
+     * Writes the pending state, if any, right away and blocks until it has been written.
+     * A write that is already in progress is waited for as well.
+     */
+    public void flush() {
+        Future<?> write = executor.submit(this::writePending);
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while flushing pending saves: " + e.getCause());
+        }
+    }
+
+    /**
+     * Flushes the pending state and stops the worker thread. Later save requests are not accepted.
+     * Does nothing if the worker has been shut down already.
+     */
+    public synchronized void shutdown() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (lock) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            scheduledWrite = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e.getMessage());
+            synchronized (lock) {
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+            }
+            failureHandler.accept(e);
+        }
+    }
+}
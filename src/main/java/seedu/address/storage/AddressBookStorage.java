@@ -30,6 +30,18 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the intact part of the AddressBook data, for when {@link #readAddressBook()} fails because the
+     * data is damaged. Damaged records are skipped and moved to a quarantine file instead of failing the read.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     * The default implementation cannot skip damaged records and fails just like {@link #readAddressBook()}.
+     *
+     * @throws DataLoadingException if nothing could be salvaged.
+     */
+    default Optional<SalvagedAddressBook> salvageAddressBook() throws DataLoadingException {
+        return readAddressBook().map(SalvagedAddressBook::new);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The books of a workspace: address books whose data files sit next to each other in one folder and share
+ * the file name extension of the data file, such as {@code data/rowing.json} and {@code data/chess.json}.
+ * A book is named by its data file name without the extension, and may be kept in a single data file,
+ * in shards or in a database, as described by {@link AddressBookFormatConverter#prepareStorage}.
+ */
+public class AddressBookWorkspace {
+
+    public static final String MESSAGE_BOOK_NAME_CONSTRAINTS = "Book names should only contain letters, digits, "
+            + "hyphens and underscores, start with a letter or digit, and be at most 50 characters long";
+
+    private static final String BOOK_NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}_-]{0,49}";
+
+    private static final String SHARDS_SUFFIX = ".shards";
+
+    private AddressBookWorkspace() {} // prevent instantiation
+
+    /**
+     * Returns true if {@code bookName} is a valid book name.
+     */
+    public static boolean isValidBookName(String bookName) {
+        return bookName.matches(BOOK_NAME_VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the data file of the book named {@code bookName} in the workspace of the book whose data file is
+     * {@code addressBookFilePath}.
+     */
+    public static Path getBookFilePath(Path addressBookFilePath, String bookName) {
+        requireNonNull(addressBookFilePath);
+        requireNonNull(bookName);
+        checkArgument(isValidBookName(bookName), MESSAGE_BOOK_NAME_CONSTRAINTS);
+        return addressBookFilePath.resolveSibling(bookName + getExtension(addressBookFilePath));
+    }
+
+    /**
+     * Returns the name of the book whose data file is {@code addressBookFilePath}.
+     */
+    public static String getBookName(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        return fileName.substring(0, fileName.length() - getExtension(addressBookFilePath).length());
+    }
+
+    /**
+     * Returns the data files of the books in the workspace of the book whose data file is
+     * {@code addressBookFilePath}, most recently changed first. The book itself is only included if it has been
+     * saved.
+     *
+     * @throws IOException if the folder of the workspace could not be read.
+     */
+    public static List<Path> listBooks(Path addressBookFilePath) throws IOException {
+        requireNonNull(addressBookFilePath);
+        Path directory = addressBookFilePath.toAbsolutePath().getParent();
+        String extension = getExtension(addressBookFilePath);
+        String[] suffixes = {
+            extension,
+            extension + SHARDS_SUFFIX,
+            extension + SqlAddressBookStorage.DATABASE_FILE_SUFFIX
+        };
+
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        Map<Path, FileTime> lastModified = new HashMap<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                String fileName = entry.getFileName().toString();
+                for (String suffix : suffixes) {
+                    String bookName = fileName.endsWith(suffix)
+                            ? fileName.substring(0, fileName.length() - suffix.length())
+                            : "";
+                    if (!isValidBookName(bookName)) {
+                        continue;
+                    }
+                    FileTime modified = Files.getLastModifiedTime(entry);
+                    lastModified.merge(directory.resolve(bookName + extension), modified,
+                            (first, second) -> first.compareTo(second) >= 0 ? first : second);
+                }
+            }
+        }
+
+        List<Path> books = new ArrayList<>(lastModified.keySet());
+        books.sort(Comparator.comparing((Path book) -> lastModified.get(book)).reversed()
+                .thenComparing(Path::getFileName));
+        return books;
+    }
+
+    private static String getExtension(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(dot) : "";
+    }
+}
@@ -0,0 +1,437 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book in a compact binary format, and decodes it back.
+ * <p>
+ * Layout, with all numbers big-endian:
+ * <pre>
+ * file    := MAGIC:int VERSION:short tagCount:int tagName:string* personCount:int record*
+ * record  := length:int person                          (length is the number of bytes in person)
+ * person  := name:string phone:string email:string matriculationNumber:string archived:boolean
+ *            tagCount:int tagIndex:int* paymentCount:int payment*
+ * payment := amountInCents:long dateInEpochDays:long recordedAtInEpochMillis:long recordedAtNanosOfMilli:int
+ *            remarks:string
+ * string  := byteCount:int utf8Bytes                    (byteCount is -1 for null)
+ * </pre>
+ * Tags are stored once in the tag table and referred to by their index in it. {@code recordedAt} is stored
+ * in UTC epoch milliseconds, plus the nanoseconds within that millisecond so that it is read back unchanged.
+ * <p>
+ * Payments can be decoded lazily: the payments of each person are then only checked and summarised while
+ * decoding, and are decoded from the buffer once they are needed. Unchanged lazy payments are copied
+ * back byte for byte when encoding, without being decoded.
+ */
+class BinaryAddressBookCodec {
+
+    /** The bytes "AB3B", which start every binary address book file. */
+    public static final int MAGIC = 0x41423342;
+    public static final short VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+
+    private static final int NULL_STRING_LENGTH = -1;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    /**
+     * Writes {@code addressBook} to {@code out}. {@code out} is flushed, but not closed.
+     */
+    public static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<Tag, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndices.putIfAbsent(tag, tagIndices.size());
+            }
+        }
+
+        DataOutputStream output = new DataOutputStream(out);
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeInt(tagIndices.size());
+        for (Tag tag : tagIndices.keySet()) {
+            writeString(output, tag.tagName);
+        }
+
+        output.writeInt(persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(record, person, tagIndices);
+            output.writeInt(recordBytes.size());
+            recordBytes.writeTo(output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads an address book from {@code buffer}, starting at its current position. Persons are decoded straight
+     * from the buffer, which may be a memory-mapped file, without copying whole records out of it first.
+     *
+     * @throws IOException if the content is truncated or is not a supported binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        return decode(buffer, false);
+    }
+
+    /**
+     * Similar to {@link #decode(ByteBuffer)}, but leaves the payments of each person in {@code buffer} until they
+     * are needed if {@code isLazyPayments} is true. {@code buffer} must then not change while the address book
+     * is in use.
+     */
+    public static AddressBook decode(ByteBuffer buffer, boolean isLazyPayments)
+            throws IOException, IllegalValueException {
+        try {
+            return decodeAddressBook(buffer.duplicate().order(ByteOrder.BIG_ENDIAN), isLazyPayments);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Binary address book ends in the middle of a value");
+        }
+    }
+
+    private static AddressBook decodeAddressBook(ByteBuffer buffer, boolean isLazyPayments)
+            throws IOException, IllegalValueException {
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary address book");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Tag[] tags = new Tag[readCount(buffer)];
+        for (int i = 0; i < tags.length; i++) {
+            String tagName = readString(buffer);
+            if (tagName == null || !Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[i] = new Tag(tagName);
+        }
+
+        int personCount = readCount(buffer);
+        List<Person> persons = new ArrayList<>(Math.min(personCount, buffer.remaining() / Integer.BYTES));
+        Set<MatriculationNumber> matriculationNumbers = new HashSet<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(readSlice(buffer, readCount(buffer)), tags, isLazyPayments);
+            if (!matriculationNumbers.add(person.getMatriculationNumber())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static void writePerson(DataOutputStream output, Person person, Map<Tag, Integer> tagIndices)
+            throws IOException {
+        writeString(output, person.getName().fullName);
+        writeString(output, person.getPhone().value);
+        writeString(output, person.getEmail().value);
+        writeString(output, person.getMatriculationNumber().value);
+        output.writeBoolean(person.isArchived());
+
+        output.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            output.writeInt(tagIndices.get(tag));
+        }
+
+        PaymentLedger ledger = person.getPaymentLedger();
+        output.writeInt(ledger.size());
+        Optional<PaymentLedger.Loader> loader = ledger.getLoaderIfNotLoaded();
+        if (loader.isPresent() && loader.get() instanceof StoredPayments) {
+            ((StoredPayments) loader.get()).writeTo(output);
+            return;
+        }
+        for (Payment payment : ledger.getPayments()) {
+            writePayment(output, payment);
+        }
+    }
+
+    private static void writePayment(DataOutputStream output, Payment payment) throws IOException {
+        BigDecimal amount = payment.getAmount().asBigDecimal();
+        try {
+            output.writeLong(amount.unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IOException("Amount is too large to be stored in binary format: " + amount, e);
+        }
+        output.writeLong(payment.getDate().toEpochDay());
+
+        Instant recordedAt = payment.getRecordedAt().toInstant(ZoneOffset.UTC);
+        output.writeLong(recordedAt.toEpochMilli());
+        output.writeInt(recordedAt.getNano() % NANOS_PER_MILLI);
+        writeString(output, payment.getRemarks());
+    }
+
+    private static Person readPerson(ByteBuffer input, Tag[] tags, boolean isLazyPayments)
+            throws IOException, IllegalValueException {
+
+        String name = readString(input);
+        if (name == null || !Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(input);
+        if (phone == null || !Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString(input);
+        if (email == null || !Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String matriculationNumber = readString(input);
+        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+        }
+        boolean archived = input.get() != 0;
+
+        int tagCount = readCount(input);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = input.getInt();
+            if (tagIndex < 0 || tagIndex >= tags.length) {
+                throw new IOException("Tag index out of range: " + tagIndex);
+            }
+            personTags.add(tags[tagIndex]);
+        }
+
+        int paymentCount = readCount(input);
+        PaymentLedger payments;
+        if (isLazyPayments) {
+            payments = scanPayments(input, paymentCount);
+        } else {
+            List<Payment> paymentList = new ArrayList<>(paymentCount);
+            for (int i = 0; i < paymentCount; i++) {
+                paymentList.add(readPayment(input));
+            }
+            payments = PaymentLedger.of(paymentList);
+        }
+
+        if (input.hasRemaining()) {
+            throw new IOException("Person record has " + input.remaining() + " unexpected trailing bytes");
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email),
+                new MatriculationNumber(matriculationNumber), personTags, archived, payments);
+    }
+
+    /**
+     * Checks the {@code paymentCount} payments at the position of {@code input} and skips past them, and returns
+     * a lazy ledger of them. Only the latest payment is decoded.
+     */
+    private static PaymentLedger scanPayments(ByteBuffer input, int paymentCount)
+            throws IOException, IllegalValueException {
+        if (paymentCount == 0) {
+            return PaymentLedger.of(new ArrayList<>());
+        }
+
+        ByteBuffer section = input.slice();
+        long totalCents = 0;
+        int latestPosition = 0;
+        long latestEpochDay = Long.MIN_VALUE;
+        long latestMillis = Long.MIN_VALUE;
+        int latestNanos = Integer.MIN_VALUE;
+        for (int i = 0; i < paymentCount; i++) {
+            int position = section.position();
+            long cents = section.getLong();
+            long epochDay = section.getLong();
+            long recordedAtMillis = section.getLong();
+            int recordedAtNanosOfMilli = section.getInt();
+            skipString(section);
+            checkPayment(cents, epochDay, recordedAtNanosOfMilli);
+
+            try {
+                totalCents = Math.addExact(totalCents, cents);
+            } catch (ArithmeticException e) {
+                throw new IOException("Payments add up to more than can be stored in binary format");
+            }
+            // Latest by date, then by recordedAt; the first of equally recent payments wins, as in PaymentLedger
+            boolean isLater = epochDay != latestEpochDay ? epochDay > latestEpochDay
+                    : recordedAtMillis != latestMillis ? recordedAtMillis > latestMillis
+                    : recordedAtNanosOfMilli > latestNanos;
+            if (isLater) {
+                latestPosition = position;
+                latestEpochDay = epochDay;
+                latestMillis = recordedAtMillis;
+                latestNanos = recordedAtNanosOfMilli;
+            }
+        }
+        section.limit(section.position());
+        input.position(input.position() + section.limit());
+
+        ByteBuffer latestBytes = section.duplicate();
+        latestBytes.position(latestPosition);
+        Payment latest = readPayment(latestBytes);
+        section.rewind();
+        return PaymentLedger.lazy(paymentCount, BigDecimal.valueOf(totalCents, Amount.SCALE), Optional.of(latest),
+                new StoredPayments(section, paymentCount));
+    }
+
+    /**
+     * Checks the parts of a payment that decoding it could reject, without decoding it.
+     */
+    private static void checkPayment(long cents, long epochDay, int recordedAtNanosOfMilli)
+            throws IllegalValueException {
+        if (cents <= 0) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY
+                || recordedAtNanosOfMilli < 0 || recordedAtNanosOfMilli >= NANOS_PER_MILLI) {
+            throw new IllegalValueException("Invalid payment date or recordedAt");
+        }
+    }
+
+    private static Payment readPayment(ByteBuffer input) throws IOException, IllegalValueException {
+        long cents = input.getLong();
+        long epochDay = input.getLong();
+        long recordedAtMillis = input.getLong();
+        int recordedAtNanosOfMilli = input.getInt();
+        String remarks = readString(input);
+        checkPayment(cents, epochDay, recordedAtNanosOfMilli);
+
+        final Amount amount;
+        try {
+            amount = new Amount(BigDecimal.valueOf(cents, Amount.SCALE));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+
+        final LocalDate date;
+        final LocalDateTime recordedAt;
+        try {
+            date = LocalDate.ofEpochDay(epochDay);
+            recordedAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(recordedAtMillis).plusNanos(recordedAtNanosOfMilli), ZoneOffset.UTC);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalValueException("Invalid payment date or recordedAt: " + e.getMessage());
+        }
+        return new Payment(amount, date, remarks, recordedAt);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_STRING_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) throws IOException {
+        int length = input.getInt();
+        if (length == NULL_STRING_LENGTH) {
+            return null;
+        }
+        ByteBuffer bytes = readSlice(input, length);
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + bytes.position(), length, StandardCharsets.UTF_8);
+        }
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    private static void skipString(ByteBuffer input) throws IOException {
+        int length = input.getInt();
+        if (length != NULL_STRING_LENGTH) {
+            readSlice(input, length);
+        }
+    }
+
+    /**
+     * Returns the next {@code length} bytes of {@code input} as a buffer of their own, and skips past them.
+     */
+    private static ByteBuffer readSlice(ByteBuffer input, int length) throws IOException {
+        if (length < 0 || length > input.remaining()) {
+            throw new EOFException("Invalid length " + length + " with " + input.remaining() + " bytes left");
+        }
+        ByteBuffer slice = input.slice();
+        slice.limit(length);
+        input.position(input.position() + length);
+        return slice;
+    }
+
+    private static int readCount(ByteBuffer input) throws IOException {
+        int count = input.getInt();
+        if (count < 0) {
+            throw new IOException("Negative count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * The encoded payments of one person, left in the decoded buffer until they are needed.
+     */
+    private static class StoredPayments implements PaymentLedger.Loader {
+        private final ByteBuffer section;
+        private final int paymentCount;
+
+        StoredPayments(ByteBuffer section, int paymentCount) {
+            this.section = section;
+            this.paymentCount = paymentCount;
+        }
+
+        @Override
+        public List<Payment> load() {
+            ByteBuffer input = section.duplicate();
+            List<Payment> payments = new ArrayList<>(paymentCount);
+            try {
+                for (int i = 0; i < paymentCount; i++) {
+                    payments.add(readPayment(input));
+                }
+            } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+                // The payments were checked when the address book was decoded, so the buffer has changed since
+                throw new IllegalStateException("Stored payments can no longer be read", e);
+            }
+            return payments;
+        }
+
+        /**
+         * Writes the encoded payments to {@code output} as they are.
+         */
+        void writeTo(DataOutputStream output) throws IOException {
+            ByteBuffer bytes = section.duplicate();
+            if (bytes.hasArray()) {
+                output.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                return;
+            }
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            output.write(copy);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * @see BinaryAddressBookCodec for the file format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private boolean isMemoryMapped;
+    private boolean isLazyPayments;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that decodes data files straight from a memory mapping of them
+     * if {@code isMemoryMapped} is true, instead of reading them into memory first.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped) {
+        this(filePath, isMemoryMapped, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} like {@link #BinaryAddressBookStorage(Path, boolean)} that also
+     * leaves the payments of each person in the read file content until they are needed if {@code isLazyPayments}
+     * is true. Persons are then read with only a summary of their payments, and the file content is kept in memory,
+     * or mapped, for as long as any of those payments have not been needed.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped, boolean isLazyPayments) {
+        this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
+        this.isLazyPayments = isLazyPayments;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary address book file.
+     */
+    public static boolean isBinaryAddressBookFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return Files.size(filePath) >= Integer.BYTES && in.readInt() == BinaryAddressBookCodec.MAGIC;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer content = isMemoryMapped
+                    ? FileUtil.mapReadOnly(filePath)
+                    : ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(BinaryAddressBookCodec.decode(content, isLazyPayments));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is written into a temporary file that then replaces the file at {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> BinaryAddressBookCodec.encode(addressBook, out));
+    }
+
+}
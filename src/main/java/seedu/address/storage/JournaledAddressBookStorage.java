@@ -0,0 +1,362 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.EncryptionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that appends one small journal entry per changed person instead of
+ * rewriting the whole data file on every save.
+ * <p>
+ * The full address book is kept as a snapshot by the wrapped {@code AddressBookStorage}. Changes since the
+ * snapshot are appended, one JSON entry per line, to a journal file next to it. Once the journal grows past
+ * the compaction threshold, the current state is written as a new snapshot on a background thread and the
+ * entries covered by it are dropped from the journal. On startup, the journal is replayed on top of the snapshot.
+ * With a passphrase, each entry is encrypted on its own line, so that the journal holds no more in plain text
+ * than an encrypted snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String MESSAGE_ENTRY_PROBLEM = "Journal entry %d: %s";
+    public static final String MESSAGE_NOT_AN_ENTRY = "Not a journal entry.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+    private final Passphrase passphrase;
+    private final PersonChangeTracker changeTracker = new PersonChangeTracker();
+
+    private int journalEntryCount;
+    private Thread compactionThread;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal into a new snapshot
+     * once it holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        this(snapshotStorage, compactionThreshold, null);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} like {@link #JournaledAddressBookStorage(AddressBookStorage, int)}
+     * that encrypts journal entries with {@code passphrase}, or leaves them unencrypted if it is null.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold,
+                                       Passphrase passphrase) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0 : "compaction threshold must be positive";
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.passphrase = passphrase;
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        this.journalFilePath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot and replays the journal on top of it.
+     * Files other than this storage's own data file are read without a journal.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!Files.exists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> changeTracker.reset(addressBook.getPersonList()));
+            journalEntryCount = 0;
+            return snapshot;
+        }
+
+        Map<MatriculationNumber, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> addressBook.getPersonList()
+                .forEach(person -> persons.put(person.getMatriculationNumber(), person)));
+        try {
+            journalEntryCount = replayJournal(persons, null);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Journal " + journalFilePath + " could not be replayed: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        logger.info("Replayed " + journalEntryCount + " journal entries from " + journalFilePath);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        changeTracker.reset(addressBook.getPersonList());
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Salvages the snapshot, and replays the journal entries that are intact on top of it. The other entries are
+     * appended to the quarantine file of the data file. The next save writes a new snapshot without a journal.
+     */
+    @Override
+    public synchronized Optional<SalvagedAddressBook> salvageAddressBook() throws DataLoadingException {
+        Optional<SalvagedAddressBook> snapshot = snapshotStorage.salvageAddressBook();
+        changeTracker.stopTracking();
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        Map<MatriculationNumber, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(salvaged -> salvaged.getAddressBook().getPersonList()
+                .forEach(person -> persons.put(person.getMatriculationNumber(), person)));
+        QuarantineFile quarantine = new QuarantineFile(getAddressBookFilePath());
+        try {
+            journalEntryCount = replayJournal(persons, quarantine);
+            quarantine.write();
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Journal " + journalFilePath + " could not be salvaged: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        List<String> problems = new ArrayList<>();
+        snapshot.ifPresent(salvaged -> problems.addAll(salvaged.getProblems()));
+        problems.addAll(quarantine.getProblems());
+        return Optional.of(new SalvagedAddressBook(addressBook, problems, quarantine.getFilePath()));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the persons that changed since the last save to the journal.
+     * Writes a full snapshot instead if nothing was read or written through this storage yet,
+     * or if {@code filePath} is not this storage's own data file.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (!changeTracker.isTracking()) {
+            saveSnapshot(addressBook);
+            return;
+        }
+
+        PersonChangeTracker.Changes changes = changeTracker.diff(addressBook.getPersonList());
+        if (changes.isEmpty()) {
+            return;
+        }
+        appendToJournal(changes);
+        changeTracker.commit(changes);
+        journalEntryCount += changes.size();
+
+        if (journalEntryCount >= compactionThreshold && !isCompacting()) {
+            startCompaction(new AddressBook(addressBook));
+        }
+    }
+
+    /**
+     * Blocks until the running compaction, if any, has finished.
+     */
+    public void awaitCompaction() throws InterruptedException {
+        Thread running;
+        synchronized (this) {
+            running = compactionThread;
+        }
+        if (running != null) {
+            running.join();
+        }
+    }
+
+    private void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        changeTracker.reset(addressBook.getPersonList());
+        journalEntryCount = 0;
+    }
+
+    private void appendToJournal(PersonChangeTracker.Changes changes) throws IOException {
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        FileUtil.appendToFile(journalFilePath, toJournalEntries(changes, passphrase));
+    }
+
+    /**
+     * Returns {@code changes} as journal entries, one per line: the removals first, then the updates.
+     * Each entry is encrypted with {@code passphrase} unless it is null.
+     */
+    static String toJournalEntries(PersonChangeTracker.Changes changes, Passphrase passphrase) throws IOException {
+        StringBuilder entries = new StringBuilder();
+        for (MatriculationNumber removed : changes.getRemovedPersons()) {
+            appendEntry(entries, JsonAdaptedJournalEntry.remove(removed), passphrase);
+        }
+        for (int i = 0; i < changes.getUpdatedPersons().size(); i++) {
+            appendEntry(entries, JsonAdaptedJournalEntry.put(changes.getUpdatedPersons().get(i),
+                    changes.getUpdatedPositions().get(i)), passphrase);
+        }
+        return entries.toString();
+    }
+
+    private static void appendEntry(StringBuilder entries, JsonAdaptedJournalEntry entry, Passphrase passphrase)
+            throws IOException {
+        String line = JsonUtil.toCompactJsonString(entry);
+        entries.append(passphrase == null ? line : EncryptionUtil.encryptToLine(line, passphrase)).append('\n');
+    }
+
+    /**
+     * Returns the journal entry in {@code line}, decrypting it with {@code passphrase} first if it is encrypted.
+     * Entries written without a passphrase are JSON objects, which is how they are told apart.
+     */
+    static JsonAdaptedJournalEntry parseEntry(String line, Passphrase passphrase) throws IOException {
+        String json = line.stripLeading().startsWith("{") ? line : EncryptionUtil.decryptLine(line, passphrase);
+        return JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class);
+    }
+
+    /**
+     * Applies every entry in the journal to {@code persons} and returns the number of entries applied.
+     * A last line that cannot be parsed is the remains of an interrupted append, and is skipped.
+     * If {@code quarantine} is not null, entries that are damaged are added to it and skipped instead of failing.
+     */
+    private int replayJournal(Map<MatriculationNumber, Person> persons, QuarantineFile quarantine)
+            throws IOException, IllegalValueException {
+        int applied = 0;
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                lineNumber++;
+                if (!line.isBlank()) {
+                    try {
+                        replayEntry(parseEntry(line, passphrase), persons, quarantine != null);
+                        applied++;
+                    } catch (IOException | IllegalValueException e) {
+                        if (next == null && e instanceof IOException) {
+                            logger.warning("Skipping incomplete last entry of journal " + journalFilePath);
+                            break;
+                        }
+                        if (quarantine == null) {
+                            throw e;
+                        }
+                        String reason = e instanceof IOException ? MESSAGE_NOT_AN_ENTRY : e.getMessage();
+                        quarantine.add(String.format(MESSAGE_ENTRY_PROBLEM, lineNumber, reason), line);
+                    }
+                }
+                line = next;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Applies {@code entry} to {@code persons}, checking first that it was not changed after it was written
+     * if {@code isChecked} is true.
+     */
+    private static void replayEntry(JsonAdaptedJournalEntry entry, Map<MatriculationNumber, Person> persons,
+                                    boolean isChecked) throws IllegalValueException {
+        if (isChecked && !entry.isIntact()) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_CHANGED_AFTER_SAVING);
+        }
+        entry.applyTo(persons);
+    }
+
+    private boolean isCompacting() {
+        return compactionThread != null && compactionThread.isAlive();
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot on a background thread, then drops the journal entries
+     * that the snapshot already covers. Entries appended in the meantime are kept.
+     * <p>
+     * The thread is not a daemon, so the application does not exit halfway through writing a snapshot.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) throws IOException {
+        long coveredBytes = Files.size(journalFilePath);
+        int coveredEntries = journalEntryCount;
+        compactionThread = new Thread(() -> compact(addressBook, coveredBytes, coveredEntries),
+                "addressbook-journal-compaction");
+        compactionThread.start();
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook, long coveredBytes, int coveredEntries) {
+        logger.info("Compacting " + coveredEntries + " journal entries into " + getAddressBookFilePath());
+        try {
+            // Snapshot storages replace their files atomically, so an interrupted write leaves the old snapshot
+            snapshotStorage.saveAddressBook(addressBook);
+            synchronized (this) {
+                dropJournalPrefix(coveredBytes);
+                journalEntryCount -= coveredEntries;
+            }
+        } catch (IOException e) {
+            // The journal is still complete, so nothing is lost; compaction is retried on a later save.
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + e.getMessage());
+        }
+    }
+
+    private void dropJournalPrefix(long prefixBytes) throws IOException {
+        if (Files.size(journalFilePath) == prefixBytes) {
+            Files.delete(journalFilePath);
+            return;
+        }
+
+        Path remainder = journalFilePath.resolveSibling(journalFilePath.getFileName() + ".tmp");
+        try (SeekableByteChannel channel = Files.newByteChannel(journalFilePath)) {
+            channel.position(prefixBytes);
+            try (InputStream tail = Channels.newInputStream(channel)) {
+                Files.copy(tail, remainder, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        FileUtil.moveReplacing(remainder, journalFilePath);
+    }
+}
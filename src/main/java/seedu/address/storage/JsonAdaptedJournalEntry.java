@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal.
+ * <p>
+ * An entry either puts the full, current state of a person, or removes the person with a matriculation number.
+ * Both kinds are idempotent, so replaying an entry that is already reflected in the snapshot is harmless.
+ * A put entry also records the position of the person in the list, so that a person put under a new matriculation
+ * number is placed where it was, such as after its matriculation number was edited.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final String operation;
+    private final String matriculationNumber;
+    private final JsonAdaptedPerson person; // only present for put entries
+    private final Integer position; // only present for put entries, and missing in those of older journals
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation,
+                                   @JsonProperty("matriculationNumber") String matriculationNumber,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("position") Integer position) {
+        this.operation = operation;
+        this.matriculationNumber = matriculationNumber;
+        this.person = person;
+        this.position = position;
+    }
+
+    /**
+     * Returns an entry that records the current state of {@code source}, which is at {@code position} in the list.
+     */
+    public static JsonAdaptedJournalEntry put(Person source, int position) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, source.getMatriculationNumber().value,
+                new JsonAdaptedPerson(source), position);
+    }
+
+    /**
+     * Returns an entry that records the removal of the person with {@code matriculationNumber}.
+     */
+    public static JsonAdaptedJournalEntry remove(MatriculationNumber matriculationNumber) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, matriculationNumber.value, null, null);
+    }
+
+    /**
+     * Returns false if the person of this entry was changed after the entry was written.
+     */
+    public boolean isIntact() {
+        return person == null || person.isIntact();
+    }
+
+    /**
+     * Applies this entry to {@code persons}, which maps matriculation numbers to persons in display order.
+     * An updated person keeps its position; a new person is placed at the position recorded in the entry, or
+     * appended to the end if there is none. Entries are written with the removals first and the puts in list
+     * order, so placing each new person at its recorded position restores the order of the list.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(Map<MatriculationNumber, Person> persons) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        if (matriculationNumber == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    MatriculationNumber.class.getSimpleName()));
+        }
+        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+        }
+        MatriculationNumber key = new MatriculationNumber(matriculationNumber);
+
+        switch (operation) {
+        case OPERATION_PUT:
+            if (person == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            Person modelPerson = person.toModelType();
+            if (!modelPerson.getMatriculationNumber().equals(key)) {
+                throw new IllegalValueException("Journal entry for " + key + " holds a different person.");
+            }
+            if (position != null && position < 0) {
+                throw new IllegalValueException("Journal entry for " + key + " has a negative position.");
+            }
+            if (position == null || position >= persons.size() || persons.containsKey(key)) {
+                persons.put(key, modelPerson);
+            } else {
+                insert(persons, position, key, modelPerson);
+            }
+            break;
+        case OPERATION_REMOVE:
+            persons.remove(key);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+
+    private static void insert(Map<MatriculationNumber, Person> persons, int position, MatriculationNumber key,
+                               Person person) {
+        List<Map.Entry<MatriculationNumber, Person>> entries = new ArrayList<>(persons.entrySet());
+        persons.clear();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i == position) {
+                persons.put(key, person);
+            }
+            persons.put(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+    }
+}
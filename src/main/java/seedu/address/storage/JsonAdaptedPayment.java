@@ -52,6 +52,17 @@ public class JsonAdaptedPayment {
      * @throws IllegalValueException if any field data constraints are violated.
      */
     public Payment toModelType() throws IllegalValueException {
+        return toPayment(amount, date, remarks, recordedAt);
+    }
+
+    /**
+     * Returns the {@code Payment} with the given fields, as they are kept in JSON.
+     * Shared with {@link JsonPersonCodec}, which reads payments without creating a {@code JsonAdaptedPayment}.
+     *
+     * @throws IllegalValueException if any field data constraints are violated.
+     */
+    static Payment toPayment(String amount, String date, String remarks, String recordedAt)
+            throws IllegalValueException {
         if (amount == null || amount.isBlank()) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "amount"));
         }
@@ -84,4 +95,14 @@ public class JsonAdaptedPayment {
 
         return new Payment(modelAmount, modelDate, remarks, modelRecordedAt);
     }
+
+    /**
+     * Adds the fields of this payment to {@code checksum}.
+     */
+    void addTo(AddressBookChecksum checksum) {
+        checksum.updateField(amount);
+        checksum.updateField(date);
+        checksum.updateField(remarks);
+        checksum.updateField(recordedAt);
+    }
 }
@@ -32,9 +32,18 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final Boolean archived;
     private final List<JsonAdaptedPayment> payments = new ArrayList<>();
+    private final String checksum; // of the other fields, may be null for older save files
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no checksum.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String matriculationNumber,
+                             List<JsonAdaptedTag> tags, Boolean archived, List<JsonAdaptedPayment> payments) {
+        this(name, phone, email, matriculationNumber, tags, archived, payments, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and checksum.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name,
@@ -43,7 +52,8 @@ class JsonAdaptedPerson {
                              @JsonProperty("matriculationNumber") String matriculationNumber,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("archived") Boolean archived,
-                             @JsonProperty("payments") List<JsonAdaptedPayment> payments) {
+                             @JsonProperty("payments") List<JsonAdaptedPayment> payments,
+                             @JsonProperty("checksum") String checksum) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -55,6 +65,7 @@ class JsonAdaptedPerson {
         if (payments != null) {
             this.payments.addAll(payments);
         }
+        this.checksum = checksum;
     }
 
 
@@ -73,7 +84,7 @@ class JsonAdaptedPerson {
         source.getPayments().stream()
             .map(JsonAdaptedPayment::new)
             .forEach(this.payments::add);
-
+        this.checksum = computeChecksum();
     }
 
     /**
@@ -82,6 +93,17 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * If {@code isChecksumVerified} is true, the name, phone, email and matriculation number are known to be
+     * exactly as saved from a valid {@code Person} (see {@link AddressBookChecksum}), and are not checked again.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(boolean isChecksumVerified) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -91,37 +113,39 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isChecksumVerified && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = isChecksumVerified ? Name.ofValidated(name) : new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isChecksumVerified && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = isChecksumVerified ? Phone.ofValidated(phone) : new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        if (!isChecksumVerified && !Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = isChecksumVerified ? Email.ofValidated(email) : new Email(email);
 
         if (matriculationNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 MatriculationNumber.class.getSimpleName()));
         }
-        if (!MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+        if (!isChecksumVerified && !MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
             throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
         }
-        final MatriculationNumber modelmatriculationNumber = new MatriculationNumber(matriculationNumber);
+        final MatriculationNumber modelmatriculationNumber = isChecksumVerified
+            ? MatriculationNumber.ofValidated(matriculationNumber)
+            : new MatriculationNumber(matriculationNumber);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -139,4 +163,30 @@ class JsonAdaptedPerson {
 
     }
 
+    /**
+     * Returns false if this person was saved with a checksum that no longer matches its fields, which means
+     * that the person was changed after it was saved.
+     */
+    public boolean isIntact() {
+        return checksum == null || checksum.equals(computeChecksum());
+    }
+
+    private String computeChecksum() {
+        AddressBookChecksum recordChecksum = new AddressBookChecksum();
+        addTo(recordChecksum);
+        recordChecksum.updateField(String.valueOf(tags.size()));
+        tags.forEach(tag -> recordChecksum.updateField(tag.getTagName()));
+        recordChecksum.updateField(String.valueOf(archived));
+        recordChecksum.updateField(String.valueOf(payments.size()));
+        payments.forEach(payment -> payment.addTo(recordChecksum));
+        return recordChecksum.getValue();
+    }
+
+    /**
+     * Adds the fields of this person that are covered by the checksum of a whole data file to {@code checksum}.
+     */
+    public void addTo(AddressBookChecksum checksum) {
+        checksum.update(name, phone, email, matriculationNumber);
+    }
+
 }
@@ -5,13 +5,14 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.EncryptionUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,12 +20,60 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    public static final String MESSAGE_ENCRYPTED_FILE =
+            "The data file %s is encrypted, and cannot be replaced without its passphrase";
 
     private Path filePath;
+    private boolean isCompact;
+    private boolean isMemoryMapped;
+    private Compression compression;
+    private int compressionLevel;
+    private Passphrase passphrase;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes compact JSON, without pretty printing,
+     * if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes compact JSON if {@code isCompact} is true,
+     * and parses data files straight from a memory mapping of them if {@code isMemoryMapped} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isMemoryMapped) {
+        this(filePath, isCompact, isMemoryMapped, Compression.NONE, StorageSettings.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} like {@link #JsonAddressBookStorage(Path, boolean, boolean)} that
+     * also compresses data files with {@code compression} at {@code compressionLevel}.
+     * Data files are read whether or not they are compressed, so plain data files keep working.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isMemoryMapped,
+                                  Compression compression, int compressionLevel) {
+        this(filePath, isCompact, isMemoryMapped, compression, compressionLevel, null);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} like
+     * {@link #JsonAddressBookStorage(Path, boolean, boolean, Compression, int)} that also encrypts data files
+     * with {@code passphrase}, or leaves them unencrypted if {@code passphrase} is null.
+     * Unencrypted data files are still read, and are encrypted by the next save.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isMemoryMapped,
+                                  Compression compression, int compressionLevel, Passphrase passphrase) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isMemoryMapped = isMemoryMapped;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.passphrase = passphrase;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +94,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        return JsonUtil.<ReadOnlyAddressBook>readJsonFile(filePath, JsonSerializableAddressBook::readFrom,
+                isMemoryMapped, passphrase);
+    }
+
+    /**
+     * Reads the persons of the data file that are intact in one pass, and appends the others to the
+     * quarantine file next to it.
+     */
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook() throws DataLoadingException {
+        QuarantineFile quarantine = new QuarantineFile(filePath);
+        Optional<AddressBook> addressBook = JsonUtil.readJsonFile(filePath,
+                parser -> JsonSerializableAddressBook.salvageFrom(parser, quarantine), isMemoryMapped, passphrase);
+        if (!addressBook.isPresent()) {
             return Optional.empty();
         }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+            quarantine.write();
+        } catch (IOException e) {
+            // Skipped records must not be lost when the salvaged data is saved
+            throw new DataLoadingException(e);
         }
+        return Optional.of(new SalvagedAddressBook(addressBook.get(), quarantine.getProblems(),
+                quarantine.getFilePath()));
     }
 
     @Override
@@ -66,6 +127,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is streamed into a temporary file that then replaces the file at {@code filePath}.
+     * Without a passphrase, an encrypted file at {@code filePath} is not replaced, so that it is not lost
+     * when it is merely opened without its passphrase.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +137,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (passphrase == null && EncryptionUtil.isEncrypted(filePath)) {
+            throw new IOException(String.format(MESSAGE_ENCRYPTED_FILE, filePath));
+        }
+        JsonUtil.writeJsonFileAtomically(filePath, isCompact, compression, compressionLevel, passphrase,
+                generator -> JsonSerializableAddressBook.writeTo(addressBook, generator));
     }
 
 }
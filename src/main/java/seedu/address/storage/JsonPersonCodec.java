@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads a {@code Person} directly from JSON tokens and writes it back, in the same format as
+ * {@link JsonAdaptedPerson} and {@link JsonAdaptedPayment}, without creating either of them.
+ * <p>
+ * Written persons are identical, byte for byte, to those written through {@code JsonAdaptedPerson}, checksum
+ * included. Persons are read with the same checks and error messages as {@code JsonAdaptedPerson#toModelType},
+ * and unknown fields are skipped.
+ */
+class JsonPersonCodec {
+
+    private static final String NAME_FIELD = "name";
+    private static final String PHONE_FIELD = "phone";
+    private static final String EMAIL_FIELD = "email";
+    private static final String MATRICULATION_NUMBER_FIELD = "matriculationNumber";
+    private static final String TAGS_FIELD = "tags";
+    private static final String ARCHIVED_FIELD = "archived";
+    private static final String PAYMENTS_FIELD = "payments";
+    private static final String CHECKSUM_FIELD = "checksum";
+
+    private static final String AMOUNT_FIELD = "amount";
+    private static final String DATE_FIELD = "date";
+    private static final String REMARKS_FIELD = "remarks";
+    private static final String RECORDED_AT_FIELD = "recordedAt";
+
+    /**
+     * Writes {@code person} to {@code generator} as a JSON object, followed by the checksum of its fields.
+     */
+    public static void writePerson(Person person, JsonGenerator generator) throws IOException {
+        AddressBookChecksum recordChecksum = new AddressBookChecksum();
+        String name = person.getName().fullName;
+        String phone = person.getPhone().value;
+        String email = person.getEmail().value;
+        String matriculationNumber = person.getMatriculationNumber().value;
+        recordChecksum.update(name, phone, email, matriculationNumber);
+
+        generator.writeStartObject();
+        generator.writeStringField(NAME_FIELD, name);
+        generator.writeStringField(PHONE_FIELD, phone);
+        generator.writeStringField(EMAIL_FIELD, email);
+        generator.writeStringField(MATRICULATION_NUMBER_FIELD, matriculationNumber);
+
+        Set<Tag> tags = person.getTags();
+        recordChecksum.updateField(String.valueOf(tags.size()));
+        generator.writeArrayFieldStart(TAGS_FIELD);
+        for (Tag tag : tags) {
+            recordChecksum.updateField(tag.tagName);
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+
+        recordChecksum.updateField(String.valueOf(person.isArchived()));
+        generator.writeBooleanField(ARCHIVED_FIELD, person.isArchived());
+
+        List<Payment> payments = person.getPayments();
+        recordChecksum.updateField(String.valueOf(payments.size()));
+        generator.writeArrayFieldStart(PAYMENTS_FIELD);
+        for (Payment payment : payments) {
+            writePayment(payment, generator, recordChecksum);
+        }
+        generator.writeEndArray();
+
+        generator.writeStringField(CHECKSUM_FIELD, recordChecksum.getValue());
+        generator.writeEndObject();
+    }
+
+    private static void writePayment(Payment payment, JsonGenerator generator, AddressBookChecksum recordChecksum)
+            throws IOException {
+        String amount = payment.getAmount().toString();
+        String date = payment.getDate().toString();
+        String remarks = payment.getRemarks();
+        String recordedAt = payment.getRecordedAt().toString();
+        recordChecksum.updateField(amount);
+        recordChecksum.updateField(date);
+        recordChecksum.updateField(remarks);
+        recordChecksum.updateField(recordedAt);
+
+        generator.writeStartObject();
+        generator.writeStringField(AMOUNT_FIELD, amount);
+        generator.writeStringField(DATE_FIELD, date);
+        generator.writeStringField(REMARKS_FIELD, remarks);
+        generator.writeStringField(RECORDED_AT_FIELD, recordedAt);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a person from {@code parser}, which must be at the start of its JSON object, and leaves
+     * {@code parser} at the end of that object. The fields covered by the checksum of a whole data file are added
+     * to {@code checksum}. If {@code isChecksumVerified} is true, those fields are not checked, as in
+     * {@link JsonAdaptedPerson#toModelType(boolean)}.
+     *
+     * @throws IOException if the content is not valid JSON or does not have the format of a person.
+     * @throws IllegalValueException if there were any data constraints violated in the person.
+     */
+    public static Person readPerson(JsonParser parser, AddressBookChecksum checksum, boolean isChecksumVerified)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a person object");
+        }
+
+        String name = null;
+        String phone = null;
+        String email = null;
+        String matriculationNumber = null;
+        List<Tag> tags = new ArrayList<>();
+        IllegalValueException invalidTag = null;
+        boolean archived = false;
+        List<Payment> payments = new ArrayList<>();
+        IllegalValueException invalidPayment = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case NAME_FIELD:
+                name = readString(parser);
+                break;
+            case PHONE_FIELD:
+                phone = readString(parser);
+                break;
+            case EMAIL_FIELD:
+                email = readString(parser);
+                break;
+            case MATRICULATION_NUMBER_FIELD:
+                matriculationNumber = readString(parser);
+                break;
+            case TAGS_FIELD:
+                tags.clear();
+                invalidTag = null;
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    break;
+                }
+                expectArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    String tagName = readString(parser);
+                    if (tagName != null && Tag.isValidTagName(tagName)) {
+                        tags.add(new Tag(tagName));
+                    } else if (invalidTag == null) {
+                        invalidTag = new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                    }
+                }
+                break;
+            case ARCHIVED_FIELD:
+                archived = valueToken != JsonToken.VALUE_NULL && parser.getValueAsBoolean();
+                break;
+            case PAYMENTS_FIELD:
+                payments.clear();
+                invalidPayment = null;
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    break;
+                }
+                expectArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    try {
+                        payments.add(readPayment(parser));
+                    } catch (IllegalValueException e) {
+                        if (invalidPayment == null) {
+                            invalidPayment = e;
+                        }
+                    }
+                }
+                break;
+            default:
+                // The checksum of a single person is only used when salvaging, through JsonAdaptedPerson
+                parser.skipChildren();
+                break;
+            }
+        }
+        expectEndOfObject(parser);
+        checksum.update(name, phone, email, matriculationNumber);
+
+        if (invalidTag != null) {
+            throw invalidTag;
+        }
+        Name modelName = isChecksumVerified
+                ? Name.ofValidated(requireField(name, Name.class))
+                : toValid(requireField(name, Name.class), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+        Phone modelPhone = isChecksumVerified
+                ? Phone.ofValidated(requireField(phone, Phone.class))
+                : toValid(requireField(phone, Phone.class), Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS,
+                        Phone::new);
+        Email modelEmail = isChecksumVerified
+                ? Email.ofValidated(requireField(email, Email.class))
+                : toValid(requireField(email, Email.class), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS,
+                        Email::new);
+        String requiredMatriculationNumber = requireField(matriculationNumber, MatriculationNumber.class);
+        MatriculationNumber modelMatriculationNumber = isChecksumVerified
+                ? MatriculationNumber.ofValidated(requiredMatriculationNumber)
+                : toValid(requiredMatriculationNumber, MatriculationNumber::isValidMatriculationNumber,
+                        MatriculationNumber.MESSAGE_CONSTRAINTS, MatriculationNumber::new);
+        if (invalidPayment != null) {
+            throw invalidPayment;
+        }
+        return new Person(modelName, modelPhone, modelEmail, modelMatriculationNumber, new HashSet<>(tags),
+                archived, payments);
+    }
+
+    private static Payment readPayment(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a payment object");
+        }
+
+        String amount = null;
+        String date = null;
+        String remarks = null;
+        String recordedAt = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case AMOUNT_FIELD:
+                amount = readString(parser);
+                break;
+            case DATE_FIELD:
+                date = readString(parser);
+                break;
+            case REMARKS_FIELD:
+                remarks = readString(parser);
+                break;
+            case RECORDED_AT_FIELD:
+                recordedAt = readString(parser);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        expectEndOfObject(parser);
+
+        return JsonAdaptedPayment.toPayment(amount, date, remarks, recordedAt);
+    }
+
+    /**
+     * Returns the scalar value {@code parser} is at as text, like Jackson does for a {@code String} property,
+     * or null for a JSON null.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a text value");
+        }
+        return parser.getText();
+    }
+
+    private static void expectArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array");
+        }
+    }
+
+    private static void expectEndOfObject(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of an object");
+        }
+    }
+
+    private static String requireField(String value, Class<?> fieldClass) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    fieldClass.getSimpleName()));
+        }
+        return value;
+    }
+
+    private static <T> T toValid(String value, Predicate<String> isValid, String constraints,
+                                 Function<String, T> constructor) throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+        return constructor.apply(value);
+    }
+}
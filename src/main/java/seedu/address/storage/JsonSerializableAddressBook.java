@@ -1,16 +1,29 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MatriculationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,6 +33,19 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_RECORD_PROBLEM = "Person %d (%s): %s";
+    public static final String MESSAGE_NOT_A_PERSON = "Not a person record.";
+    public static final String MESSAGE_CHANGED_AFTER_SAVING = "Changed after it was saved, as its checksum does not "
+            + "match.";
+    public static final String MESSAGE_UNREADABLE_REST = "The data file could not be read after %d person "
+            + "record(s): %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
+    private static final String VALIDATOR_VERSION_FIELD = "validatorVersion";
+    private static final String CHECKSUM_FIELD = "checksum";
+    private static final String PERSONS_FIELD = "persons";
+    private static final int READ_BATCH_SIZE = 4 * ParallelPersonConverter.SEQUENTIAL_THRESHOLD;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -41,20 +67,192 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Writes {@code source} into {@code generator} in the same format as this class, one person at a time,
+     * with {@link JsonPersonCodec}. The persons are preceded by their {@link AddressBookChecksum} and its
+     * validator version.
+     */
+    public static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        writeTo(source, generator, true);
+    }
+
+    /**
+     * Writes {@code source} into {@code generator} like {@link #writeTo(ReadOnlyAddressBook, JsonGenerator)}, but
+     * through a {@code JsonAdaptedPerson} for each person if {@code useCodec} is false. Both write the same JSON.
+     */
+    static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator, boolean useCodec) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(VALIDATOR_VERSION_FIELD, AddressBookChecksum.VALIDATOR_VERSION);
+        generator.writeStringField(CHECKSUM_FIELD, AddressBookChecksum.of(source));
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            if (useCodec) {
+                JsonPersonCodec.writePerson(person, generator);
+            } else {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}. Persons are converted into the
+     * model's {@code Person} in batches as they are read, so that only one batch of {@code JsonAdaptedPerson}s
+     * exists at any point. Unknown fields are skipped.
+     * <p>
+     * If the persons are preceded by a checksum saved under the current validator version, they are read
+     * directly into {@code Person}s with {@link JsonPersonCodec}, without checking the fields covered by
+     * {@link AddressBookChecksum}. Should the checksum then not match the persons read, all of their fields are
+     * checked after all.
      *
+     * @throws IOException if the content is not valid JSON or does not have the format of this class.
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public AddressBook toModelType() throws IllegalValueException {
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        return readFrom(parser, true);
+    }
+
+    /**
+     * Reads an address book like {@link #readFrom(JsonParser)}, but always through {@code JsonAdaptedPerson}s
+     * if {@code useCodec} is false.
+     */
+    static AddressBook readFrom(JsonParser parser, boolean useCodec) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        int validatorVersion = 0;
+        String savedChecksum = null;
+        AddressBookChecksum checksum = new AddressBookChecksum();
+        ParallelPersonConverter converter = null;
+        List<JsonAdaptedPerson> batch = new ArrayList<>(READ_BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (VALIDATOR_VERSION_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                validatorVersion = parser.getIntValue();
+                continue;
+            }
+            if (CHECKSUM_FIELD.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                savedChecksum = parser.getText();
+                continue;
+            }
+            if (!PERSONS_FIELD.equals(fieldName) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+
+            if (converter == null) {
+                converter = new ParallelPersonConverter(savedChecksum != null
+                        && validatorVersion == AddressBookChecksum.VALIDATOR_VERSION);
+            }
+            if (useCodec && converter.isChecksumVerified()) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    converter.add(JsonPersonCodec.readPerson(parser, checksum, true));
+                }
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson person = JsonUtil.readValue(parser, JsonAdaptedPerson.class);
+                person.addTo(checksum);
+                batch.add(person);
+                if (batch.size() == READ_BATCH_SIZE) {
+                    converter.convert(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (converter == null) {
+            return new AddressBook();
+        }
+        converter.convert(batch);
+        if (converter.isChecksumVerified() && !checksum.getValue().equals(savedChecksum)) {
+            logger.warning("Checksum of the persons in the data file does not match, checking all of them");
+            converter = converter.recheck();
+        }
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Reads the persons that are intact from an address book in the format of this class, in one pass over
+     * {@code parser}. Each person that is invalid, a duplicate of an earlier person, or changed after it was
+     * saved is skipped and added to {@code quarantine}. Reading stops at the first part of the content that is
+     * not valid JSON, and the rest of the content is added to {@code quarantine} as unreadable.
+     */
+    public static AddressBook salvageFrom(JsonParser parser, QuarantineFile quarantine) {
+        List<Person> persons = new ArrayList<>();
+        Set<MatriculationNumber> matriculationNumbers = new HashSet<>();
+        int readCount = 0;
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!PERSONS_FIELD.equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of the array of persons");
+                    }
+                    JsonNode record = JsonUtil.readTree(parser);
+                    salvagePerson(record, readCount + 1, persons, matriculationNumbers, quarantine);
+                    readCount++;
+                }
+            }
+        } catch (IOException e) {
+            String reason = e instanceof JsonProcessingException
+                    ? ((JsonProcessingException) e).getOriginalMessage()
+                    : e.getMessage();
+            quarantine.addUnreadableRest(String.format(MESSAGE_UNREADABLE_REST, readCount, reason));
+        }
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static void salvagePerson(JsonNode record, int position, List<Person> persons,
+                                      Set<MatriculationNumber> matriculationNumbers, QuarantineFile quarantine) {
+        Person person;
+        try {
+            JsonAdaptedPerson adaptedPerson;
+            try {
+                adaptedPerson = JsonUtil.treeToValue(record, JsonAdaptedPerson.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalValueException(MESSAGE_NOT_A_PERSON);
+            }
+            if (!adaptedPerson.isIntact()) {
+                throw new IllegalValueException(MESSAGE_CHANGED_AFTER_SAVING);
+            }
+            person = adaptedPerson.toModelType();
+            if (!matriculationNumbers.add(person.getMatriculationNumber())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+        } catch (IllegalValueException e) {
+            String matriculationNumber = record.path("matriculationNumber").asText("?");
+            quarantine.add(String.format(MESSAGE_RECORD_PROBLEM, position, matriculationNumber, e.getMessage()),
+                    record.toString());
+            return;
         }
-        return addressBook;
+        persons.add(person);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType() throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.convert(persons);
+        return converter.toAddressBook();
     }
 
 }
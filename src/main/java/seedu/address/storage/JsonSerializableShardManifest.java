@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.MatriculationNumber;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book.
+ * <p>
+ * The manifest records how many shards the persons are spread over, and the order of the persons in the
+ * address book by their matriculation numbers, since each shard only knows the order of its own persons.
+ */
+class JsonSerializableShardManifest {
+
+    public static final int VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported shard manifest version: %d";
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Shard count must be positive, but was %d";
+
+    private final int version;
+    private final int shardCount;
+    private final List<String> order = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given manifest details.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("version") int version,
+                                         @JsonProperty("shardCount") int shardCount,
+                                         @JsonProperty("order") List<String> order) {
+        this.version = version;
+        this.shardCount = shardCount;
+        if (order != null) {
+            this.order.addAll(order);
+        }
+    }
+
+    /**
+     * Creates the manifest of {@code shardCount} shards holding the persons with {@code order}, in that order.
+     */
+    public static JsonSerializableShardManifest of(int shardCount, List<MatriculationNumber> order) {
+        List<String> values = new ArrayList<>(order.size());
+        order.forEach(matriculationNumber -> values.add(matriculationNumber.value));
+        return new JsonSerializableShardManifest(VERSION, shardCount, values);
+    }
+
+    /**
+     * Returns the number of shards, after checking that this manifest can be read.
+     *
+     * @throws IllegalValueException if the manifest has an unsupported version or an invalid shard count.
+     */
+    public int getShardCount() throws IllegalValueException {
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (shardCount <= 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_COUNT, shardCount));
+        }
+        return shardCount;
+    }
+
+    /**
+     * Returns the matriculation numbers of the persons in address book order.
+     *
+     * @throws IllegalValueException if any of the matriculation numbers is invalid.
+     */
+    public List<MatriculationNumber> getOrder() throws IllegalValueException {
+        List<MatriculationNumber> matriculationNumbers = new ArrayList<>(order.size());
+        for (String value : order) {
+            if (!MatriculationNumber.isValidMatriculationNumber(value)) {
+                throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+            }
+            matriculationNumbers.add(new MatriculationNumber(value));
+        }
+        return matriculationNumbers;
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on all cores with fork/join,
+ * and checks that no two of them have the same matriculation number.
+ * <p>
+ * Persons can be handed over in several batches and are kept in the order they were handed over in.
+ * Errors are reported exactly as a one-by-one conversion would report them: the first person, in order,
+ * that is either invalid or a duplicate of an earlier person is the one reported.
+ * <p>
+ * Persons whose data file checksum is yet to be verified can be converted without checking the fields covered by
+ * {@link AddressBookChecksum}, and checked with {@link #recheck()} if the checksum turns out not to match.
+ */
+class ParallelPersonConverter {
+
+    /** Ranges of at most this many persons are converted on a single thread. */
+    public static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private static final int RECHECK_BATCH_SIZE = 4 * SEQUENTIAL_THRESHOLD;
+
+    private final boolean isChecksumVerified;
+    private final List<Person> converted = new ArrayList<>();
+    // Position of the earliest person seen so far with each matriculation number
+    private final ConcurrentHashMap<MatriculationNumber, Integer> firstPositions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that checks all fields of the persons it converts.
+     */
+    public ParallelPersonConverter() {
+        this(false);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts persons with
+     * {@link JsonAdaptedPerson#toModelType(boolean)}, given {@code isChecksumVerified}.
+     */
+    public ParallelPersonConverter(boolean isChecksumVerified) {
+        this.isChecksumVerified = isChecksumVerified;
+    }
+
+    public boolean isChecksumVerified() {
+        return isChecksumVerified;
+    }
+
+    /**
+     * Converts {@code batch} and appends the converted persons to those converted so far.
+     *
+     * @throws IllegalValueException if a person in {@code batch} violates data constraints, or has the same
+     *     matriculation number as another person handed over before it.
+     */
+    public void convert(List<JsonAdaptedPerson> batch) throws IllegalValueException {
+        int offset = converted.size();
+        Person[] persons = new Person[batch.size()];
+        IllegalValueException[] failures = new IllegalValueException[batch.size()];
+        new ConversionTask(batch, offset, persons, failures, 0, batch.size()).invoke();
+
+        for (int i = 0; i < persons.length; i++) {
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            if (firstPositions.get(persons[i].getMatriculationNumber()) != offset + i) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+        converted.addAll(Arrays.asList(persons));
+    }
+
+    /**
+     * Appends {@code person}, already converted, to the persons converted so far.
+     *
+     * @throws IllegalValueException if {@code person} has the same matriculation number as another person
+     *     handed over before it.
+     */
+    public void add(Person person) throws IllegalValueException {
+        if (firstPositions.putIfAbsent(person.getMatriculationNumber(), converted.size()) != null) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        converted.add(person);
+    }
+
+    /**
+     * Returns a {@code ParallelPersonConverter} holding the persons converted so far after checking all of their
+     * fields, as if they had been converted without a verified checksum in the first place.
+     *
+     * @throws IllegalValueException if a person violates data constraints, or has the same matriculation number
+     *     as another person before it.
+     */
+    public ParallelPersonConverter recheck() throws IllegalValueException {
+        ParallelPersonConverter checked = new ParallelPersonConverter();
+        for (int from = 0; from < converted.size(); from += RECHECK_BATCH_SIZE) {
+            List<Person> persons = converted.subList(from, Math.min(from + RECHECK_BATCH_SIZE, converted.size()));
+            checked.convert(persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        }
+        return checked;
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding all persons converted so far, inserted in one go.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(converted);
+        return addressBook;
+    }
+
+    /**
+     * Converts the persons in {@code [from, to)} of a batch, splitting the range in halves until it is small enough.
+     * A failed conversion is recorded at its position instead of stopping the other conversions.
+     */
+    private class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> batch;
+        private final int offset;
+        private final Person[] persons;
+        private final IllegalValueException[] failures;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> batch, int offset, Person[] persons,
+                       IllegalValueException[] failures, int from, int to) {
+            this.batch = batch;
+            this.offset = offset;
+            this.persons = persons;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConversionTask(batch, offset, persons, failures, from, middle),
+                        new ConversionTask(batch, offset, persons, failures, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    Person person = batch.get(i).toModelType(isChecksumVerified);
+                    persons[i] = person;
+                    firstPositions.merge(person.getMatriculationNumber(), offset + i, Math::min);
+                } catch (IllegalValueException e) {
+                    failures[i] = e;
+                }
+            }
+        }
+    }
+}
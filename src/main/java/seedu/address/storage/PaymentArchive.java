@@ -0,0 +1,464 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings.Compression;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.payment.ClosedYear;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the payments of closed years in one archive segment per year, next to the data file of an address book.
+ * <p>
+ * A segment is a gzipped JSON file that is written once, when its year is closed, and never changed afterwards.
+ * It starts with the {@link ClosedYear} totals of each member, followed by the archived payments grouped by
+ * member, so the totals can be read without reading the payments. The totals of all segments are read once and
+ * kept in memory; the payments are read from a segment only when they are asked for, and are not kept.
+ * Segments are encrypted like the data file when a passphrase is given.
+ */
+public class PaymentArchive {
+
+    public static final String ARCHIVE_DIRECTORY_SUFFIX = ".archive";
+
+    private static final Logger logger = LogsCenter.getLogger(PaymentArchive.class);
+
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("payments-(?<year>\\d{4})\\.json\\.gz");
+    private static final String YEAR_FIELD = "year";
+    private static final String TOTALS_FIELD = "totals";
+    private static final String MEMBERS_FIELD = "members";
+    private static final String MATRICULATION_NUMBER_FIELD = "matriculationNumber";
+    private static final String COUNT_FIELD = "count";
+    private static final String AMOUNT_FIELD = "amount";
+    private static final String PAYMENTS_FIELD = "payments";
+
+    private final Path archiveDirectory;
+    private final Passphrase passphrase;
+
+    private TreeMap<Integer, ClosedYear> closedYears; // null until the segments have been scanned
+
+    /**
+     * Creates a {@code PaymentArchive} that keeps its segments in {@code archiveDirectory}, unencrypted.
+     */
+    public PaymentArchive(Path archiveDirectory) {
+        this(archiveDirectory, null);
+    }
+
+    /**
+     * Creates a {@code PaymentArchive} that keeps its segments in {@code archiveDirectory}, encrypted with
+     * {@code passphrase}, or unencrypted if {@code passphrase} is null.
+     */
+    public PaymentArchive(Path archiveDirectory, Passphrase passphrase) {
+        requireNonNull(archiveDirectory);
+        this.archiveDirectory = archiveDirectory;
+        this.passphrase = passphrase;
+    }
+
+    /**
+     * Returns the directory that holds the archive segments of the data file at {@code addressBookFilePath}.
+     */
+    public static Path getArchiveDirectory(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ARCHIVE_DIRECTORY_SUFFIX);
+    }
+
+    public Path getArchiveDirectory() {
+        return archiveDirectory;
+    }
+
+    /**
+     * Returns the closed years, earliest first.
+     *
+     * @throws DataLoadingException if the totals of a segment could not be read.
+     */
+    public synchronized List<ClosedYear> getClosedYears() throws DataLoadingException {
+        return new ArrayList<>(scanSegments().values());
+    }
+
+    /**
+     * Closes {@code year}: writes the payments of {@code persons} dated on or before its last day into a new
+     * segment, and returns their totals. The payments are not removed from {@code persons}.
+     *
+     * @throws IOException if the segment could not be written, or {@code year} or a later year is already closed.
+     */
+    public synchronized ClosedYear close(int year, List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        TreeMap<Integer, ClosedYear> closed;
+        try {
+            closed = scanSegments();
+        } catch (DataLoadingException e) {
+            throw new IOException("The archive could not be read", e);
+        }
+        Path segment = getSegmentPath(year);
+        if (!closed.isEmpty() && closed.lastKey() >= year) {
+            throw new FileAlreadyExistsException(getSegmentPath(closed.lastKey()).toString(), null,
+                    "Payments up to " + closed.lastKey() + " are already archived");
+        }
+        if (Files.exists(segment)) {
+            throw new FileAlreadyExistsException(segment.toString());
+        }
+
+        Map<MatriculationNumber, List<Payment>> archived = new LinkedHashMap<>();
+        Map<MatriculationNumber, ClosedYear.Total> totals = new LinkedHashMap<>();
+        for (Person person : persons) {
+            List<Payment> payments = person.getPayments().stream()
+                    .filter(payment -> !payment.getDate().isAfter(ClosedYear.getLastDay(year)))
+                    .collect(Collectors.toList());
+            if (payments.isEmpty()) {
+                continue;
+            }
+            archived.put(person.getMatriculationNumber(), payments);
+            totals.put(person.getMatriculationNumber(), new ClosedYear.Total(payments.size(), payments.stream()
+                    .map(payment -> payment.getAmount().asBigDecimal())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add)));
+        }
+
+        Files.createDirectories(archiveDirectory);
+        JsonUtil.writeJsonFileAtomically(segment, true, Compression.GZIP, Deflater.BEST_COMPRESSION, passphrase,
+                generator -> writeSegment(year, totals, archived, generator));
+        ClosedYear closedYear = new ClosedYear(year, totals);
+        closed.put(year, closedYear);
+        logger.info(String.format("Archived %d payments of %d members up to %d in %s",
+                closedYear.getPaymentCount(), totals.size(), year, segment));
+        return closedYear;
+    }
+
+    /**
+     * Reopens {@code year}, the last closed year, by deleting its segment. This undoes {@link #close(int, List)}
+     * when the payments it archived could not be removed from the data file afterwards.
+     *
+     * @throws IOException if the segment could not be deleted, or {@code year} is not the last closed year.
+     */
+    public synchronized void reopen(int year) throws IOException {
+        TreeMap<Integer, ClosedYear> closed;
+        try {
+            closed = scanSegments();
+        } catch (DataLoadingException e) {
+            throw new IOException("The archive could not be read", e);
+        }
+        if (closed.isEmpty() || closed.lastKey() != year) {
+            throw new IOException(year + " is not the last closed year");
+        }
+        Path segment = getSegmentPath(year);
+        Files.delete(segment);
+        closed.remove(year);
+        logger.info("Reopened " + year + " by deleting " + segment);
+    }
+
+    /**
+     * Returns the archived payments of the member with {@code matriculationNumber} from the segments of the years
+     * from {@code fromYear} onwards, earliest year first. Only the segments that hold payments of the member are
+     * read.
+     *
+     * @throws DataLoadingException if a segment could not be read.
+     */
+    public List<Payment> readPayments(MatriculationNumber matriculationNumber, int fromYear)
+            throws DataLoadingException {
+        requireNonNull(matriculationNumber);
+        List<Integer> years;
+        synchronized (this) {
+            years = scanSegments().tailMap(fromYear, true).values().stream()
+                    .filter(closedYear -> closedYear.getTotal(matriculationNumber).isPresent())
+                    .map(ClosedYear::getYear)
+                    .collect(Collectors.toList());
+        }
+
+        List<Payment> payments = new ArrayList<>();
+        for (int year : years) {
+            Path segment = getSegmentPath(year);
+            logger.fine("Reading archived payments of " + matriculationNumber + " from " + segment);
+            payments.addAll(JsonUtil.readJsonFile(segment, parser -> readPayments(parser, matriculationNumber),
+                    false, passphrase).orElseThrow(() -> new DataLoadingException(
+                            new IOException("Missing archive segment " + segment))));
+        }
+        return payments;
+    }
+
+    /**
+     * Passes the archived payments of all members from the segments of the years from {@code fromYear} onwards to
+     * {@code consumer}, earliest year first, as they are read. The payments are not kept.
+     *
+     * @throws IOException if a segment could not be read, or {@code consumer} failed.
+     */
+    public void forEachPayment(int fromYear, PaymentConsumer consumer) throws IOException {
+        requireNonNull(consumer);
+        List<Integer> years;
+        try {
+            synchronized (this) {
+                years = new ArrayList<>(scanSegments().tailMap(fromYear, true).keySet());
+            }
+            for (int year : years) {
+                Path segment = getSegmentPath(year);
+                logger.fine("Reading archived payments from " + segment);
+                JsonUtil.readJsonFile(segment, parser -> readAllPayments(parser, consumer), false, passphrase)
+                        .orElseThrow(() -> new DataLoadingException(
+                                new IOException("Missing archive segment " + segment)));
+            }
+        } catch (DataLoadingException e) {
+            throw new IOException("The archive could not be read", e);
+        }
+    }
+
+    private Path getSegmentPath(int year) {
+        return archiveDirectory.resolve(String.format("payments-%04d.json.gz", year));
+    }
+
+    /**
+     * Returns the closed years, reading the totals of every segment the first time it is called.
+     */
+    private TreeMap<Integer, ClosedYear> scanSegments() throws DataLoadingException {
+        if (closedYears != null) {
+            return closedYears;
+        }
+
+        TreeMap<Integer, ClosedYear> scanned = new TreeMap<>();
+        if (Files.isDirectory(archiveDirectory)) {
+            List<Path> segments;
+            try (Stream<Path> files = Files.list(archiveDirectory)) {
+                segments = files.filter(file -> SEGMENT_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+            for (Path segment : segments) {
+                Matcher matcher = SEGMENT_FILE_NAME.matcher(segment.getFileName().toString());
+                boolean isSegment = matcher.matches();
+                assert isSegment : "only segments are scanned";
+                int year = Integer.parseInt(matcher.group("year"));
+                ClosedYear closedYear = JsonUtil.readJsonFile(segment, PaymentArchive::readTotals, false, passphrase)
+                        .orElseThrow(() -> new DataLoadingException(new IOException("Missing segment " + segment)));
+                if (closedYear.getYear() != year) {
+                    throw new DataLoadingException(new IOException("Segment " + segment + " is of "
+                            + closedYear.getYear()));
+                }
+                scanned.put(year, closedYear);
+            }
+        }
+        closedYears = scanned;
+        return closedYears;
+    }
+
+    private static void writeSegment(int year, Map<MatriculationNumber, ClosedYear.Total> totals,
+                                     Map<MatriculationNumber, List<Payment>> archived, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(YEAR_FIELD, year);
+        generator.writeArrayFieldStart(TOTALS_FIELD);
+        for (Map.Entry<MatriculationNumber, ClosedYear.Total> total : totals.entrySet()) {
+            generator.writeStartObject();
+            generator.writeStringField(MATRICULATION_NUMBER_FIELD, total.getKey().value);
+            generator.writeNumberField(COUNT_FIELD, total.getValue().getCount());
+            generator.writeStringField(AMOUNT_FIELD, total.getValue().getAmount().toPlainString());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(MEMBERS_FIELD);
+        for (Map.Entry<MatriculationNumber, List<Payment>> member : archived.entrySet()) {
+            generator.writeStartObject();
+            generator.writeStringField(MATRICULATION_NUMBER_FIELD, member.getKey().value);
+            generator.writeArrayFieldStart(PAYMENTS_FIELD);
+            for (Payment payment : member.getValue()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPayment(payment));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the year and totals at the start of a segment, without reading its payments.
+     */
+    private static ClosedYear readTotals(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        Integer year = null;
+        Map<MatriculationNumber, ClosedYear.Total> totals = null;
+        while ((year == null || totals == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (YEAR_FIELD.equals(fieldName)) {
+                expect(parser, valueToken, JsonToken.VALUE_NUMBER_INT);
+                year = parser.getIntValue();
+            } else if (TOTALS_FIELD.equals(fieldName)) {
+                expect(parser, valueToken, JsonToken.START_ARRAY);
+                totals = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readTotal(parser, totals);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (year == null || totals == null) {
+            throw new JsonParseException(parser, "Expected the year and totals of an archive segment");
+        }
+        return new ClosedYear(year, totals);
+    }
+
+    private static void readTotal(JsonParser parser, Map<MatriculationNumber, ClosedYear.Total> totals)
+            throws IOException, IllegalValueException {
+        String matriculationNumber = null;
+        int count = 0;
+        String amount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (MATRICULATION_NUMBER_FIELD.equals(fieldName)) {
+                matriculationNumber = parser.getValueAsString();
+            } else if (COUNT_FIELD.equals(fieldName)) {
+                count = parser.getValueAsInt();
+            } else if (AMOUNT_FIELD.equals(fieldName)) {
+                amount = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (matriculationNumber == null || !MatriculationNumber.isValidMatriculationNumber(matriculationNumber)) {
+            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            totals.put(new MatriculationNumber(matriculationNumber),
+                    new ClosedYear.Total(count, new BigDecimal(amount)));
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new IllegalValueException("Invalid archived total: " + amount);
+        }
+    }
+
+    /**
+     * Reads the payments of the member with {@code matriculationNumber} from a segment, skipping those of the
+     * other members.
+     */
+    private static List<Payment> readPayments(JsonParser parser, MatriculationNumber matriculationNumber)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!MEMBERS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            expect(parser, valueToken, JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Optional<List<Payment>> payments = readMemberPayments(parser, matriculationNumber);
+                if (payments.isPresent()) {
+                    return payments.get();
+                }
+            }
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Reads a member of a segment, and returns their payments if they are the member with
+     * {@code matriculationNumber}. The matriculation number is written before the payments.
+     */
+    private static Optional<List<Payment>> readMemberPayments(JsonParser parser,
+                                                              MatriculationNumber matriculationNumber)
+            throws IOException, IllegalValueException {
+        boolean isMember = false;
+        List<Payment> payments = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (MATRICULATION_NUMBER_FIELD.equals(fieldName)) {
+                isMember = matriculationNumber.value.equals(parser.getValueAsString());
+            } else if (PAYMENTS_FIELD.equals(fieldName) && isMember) {
+                expect(parser, valueToken, JsonToken.START_ARRAY);
+                payments = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    payments.add(JsonUtil.readValue(parser, JsonAdaptedPayment.class).toModelType());
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return isMember ? Optional.of(payments == null ? new ArrayList<>() : payments) : Optional.empty();
+    }
+
+    /**
+     * Reads the payments of all members of a segment, passing them to {@code consumer} one by one, and returns
+     * how many were read.
+     */
+    private static Integer readAllPayments(JsonParser parser, PaymentConsumer consumer)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!MEMBERS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            expect(parser, valueToken, JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                MatriculationNumber matriculationNumber = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String memberFieldName = parser.getCurrentName();
+                    JsonToken memberValueToken = parser.nextToken();
+                    if (MATRICULATION_NUMBER_FIELD.equals(memberFieldName)) {
+                        String value = parser.getValueAsString();
+                        if (value == null || !MatriculationNumber.isValidMatriculationNumber(value)) {
+                            throw new IllegalValueException(MatriculationNumber.MESSAGE_CONSTRAINTS);
+                        }
+                        matriculationNumber = new MatriculationNumber(value);
+                    } else if (PAYMENTS_FIELD.equals(memberFieldName) && matriculationNumber != null) {
+                        expect(parser, memberValueToken, JsonToken.START_ARRAY);
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            consumer.accept(matriculationNumber,
+                                    JsonUtil.readValue(parser, JsonAdaptedPayment.class).toModelType());
+                            count++;
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " in an archive segment");
+        }
+    }
+
+    /**
+     * Receives archived payments as they are read from the archive.
+     */
+    @FunctionalInterface
+    public interface PaymentConsumer {
+        void accept(MatriculationNumber matriculationNumber, Payment payment) throws IOException;
+    }
+}
@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes payments to a CSV or JSON Lines file on a background thread, one payment per line.
+ * <p>
+ * Payments are written as they are read, through a buffered writer, so an export takes the same memory however
+ * many payments there are. Payments that have not been loaded into the model yet are read for the export
+ * without keeping them loaded, and so are the payments of closed years, from their archive segments.
+ * The file is replaced atomically once it is complete.
+ */
+public class PaymentExporter {
+
+    static final List<String> COLUMNS = List.of("matric", "amount", "date", "remarks", "recordedAt");
+
+    private static final Logger logger = LogsCenter.getLogger(PaymentExporter.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "payment-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Formats of export files, by the extension of their file name.
+     */
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * Returns the format of files named like {@code filePath}, or {@code Optional.empty()} if there is none.
+         */
+        public static Optional<Format> forFile(Path filePath) {
+            requireNonNull(filePath);
+            String fileName = filePath.getFileName() == null ? "" : filePath.getFileName().toString();
+            return Arrays.stream(values())
+                    .filter(format -> fileName.toLowerCase(Locale.ROOT).endsWith(format.getExtension()))
+                    .findFirst();
+        }
+
+        public String getExtension() {
+            return "." + name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Writes the payments of {@code persons} that {@code filter} accepts to {@code filePath} in {@code format}
+     * on the export thread, after the exports requested before it. {@code persons} must not change afterwards.
+     *
+     * @return the number of payments written, once the file is complete.
+     */
+    public CompletableFuture<Integer> export(List<Person> persons, Predicate<Payment> filter, Path filePath,
+                                             Format format) {
+        return export(persons, filter, null, 0, filePath, format);
+    }
+
+    /**
+     * Similar to {@link #export(List, Predicate, Path, Format)}, but also writes the payments of {@code persons}
+     * that {@code filter} accepts from the years closed in {@code archive} from {@code fromYear} onwards, before
+     * the payments that are not archived. {@code archive} may be null if there is no archive.
+     */
+    public CompletableFuture<Integer> export(List<Person> persons, Predicate<Payment> filter, PaymentArchive archive,
+                                             int fromYear, Path filePath, Format format) {
+        requireNonNull(persons);
+        requireNonNull(filter);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                int[] count = new int[1];
+                FileUtil.writeAtomically(filePath, out -> {
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    count[0] = write(persons, filter, archive, fromYear, format, writer);
+                    writer.flush();
+                });
+                logger.info(String.format("Exported %d payments to %s", count[0], filePath));
+                return count[0];
+            } catch (IOException e) {
+                logger.warning("Could not export payments to " + filePath + ": " + e);
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Writes the payments of {@code persons} that {@code filter} accepts to {@code writer}, and returns how many
+     * were written.
+     */
+    static int write(List<Person> persons, Predicate<Payment> filter, Format format, Writer writer)
+            throws IOException {
+        return write(persons, filter, null, 0, format, writer);
+    }
+
+    /**
+     * Writes the payments of {@code persons} that {@code filter} accepts, first those archived in {@code archive}
+     * from {@code fromYear} onwards and then the others, to {@code writer}, and returns how many were written.
+     */
+    static int write(List<Person> persons, Predicate<Payment> filter, PaymentArchive archive, int fromYear,
+                     Format format, Writer writer) throws IOException {
+        switch (format) {
+        case CSV:
+            writer.write(CsvUtil.joinLine(COLUMNS));
+            writer.write('\n');
+            return forEachPayment(persons, filter, archive, fromYear, (matric, payment) -> {
+                writer.write(CsvUtil.joinLine(Arrays.asList(matric, payment.getAmount().toString(),
+                        payment.getDate().toString(), payment.getRemarks(), payment.getRecordedAt().toString())));
+                writer.write('\n');
+            });
+        case JSONL:
+            try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(new SerializedString(""));
+                return forEachPayment(persons, filter, archive, fromYear, (matric, payment) -> {
+                    generator.writeStartObject();
+                    generator.writeStringField(COLUMNS.get(0), matric);
+                    generator.writeStringField(COLUMNS.get(1), payment.getAmount().toString());
+                    generator.writeStringField(COLUMNS.get(2), payment.getDate().toString());
+                    if (payment.getRemarks() != null) {
+                        generator.writeStringField(COLUMNS.get(3), payment.getRemarks());
+                    }
+                    generator.writeStringField(COLUMNS.get(4), payment.getRecordedAt().toString());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                });
+            }
+        default:
+            throw new IllegalArgumentException("Unknown export format: " + format);
+        }
+    }
+
+    /**
+     * Passes the payments of {@code persons} that {@code filter} accepts to {@code line}, and returns how many
+     * were passed. Archived payments of members that are not in {@code persons} are skipped.
+     */
+    private static int forEachPayment(List<Person> persons, Predicate<Payment> filter, PaymentArchive archive,
+                                      int fromYear, PaymentLine line) throws IOException {
+        int[] count = new int[1];
+        if (archive != null) {
+            Set<MatriculationNumber> exported = persons.stream()
+                    .map(Person::getMatriculationNumber)
+                    .collect(Collectors.toSet());
+            archive.forEachPayment(fromYear, (matriculationNumber, payment) -> {
+                if (exported.contains(matriculationNumber) && filter.test(payment)) {
+                    line.write(matriculationNumber.toString(), payment);
+                    count[0]++;
+                }
+            });
+        }
+        for (Person person : persons) {
+            String matric = person.getMatriculationNumber().toString();
+            for (Payment payment : paymentsOf(person)) {
+                if (filter.test(payment)) {
+                    line.write(matric, payment);
+                    count[0]++;
+                }
+            }
+        }
+        return count[0];
+    }
+
+    /**
+     * Returns the payments of {@code person}, read from storage without loading them into the ledger if they
+     * have not been loaded yet.
+     */
+    private static List<Payment> paymentsOf(Person person) {
+        PaymentLedger ledger = person.getPaymentLedger();
+        return ledger.getLoaderIfNotLoaded()
+                .map(PaymentLedger.Loader::load)
+                .orElseGet(ledger::getPayments);
+    }
+
+    /**
+     * Writes one payment of the member with the given matriculation number as a line of an export file.
+     */
+    @FunctionalInterface
+    private interface PaymentLine {
+        void write(String matric, Payment payment) throws IOException;
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the persons that were last written to storage, so that a later save can work out
+ * which persons have changed since then.
+ * <p>
+ * {@code Person} objects are immutable and every edit replaces the edited person with a new object,
+ * so a person is treated as unchanged if the very same object is still in the address book.
+ * This makes working out the changes a cheap reference comparison per person.
+ */
+class PersonChangeTracker {
+
+    private Map<MatriculationNumber, Person> persisted;
+
+    /**
+     * Returns true if the tracker knows what was last written to storage.
+     */
+    public boolean isTracking() {
+        return persisted != null;
+    }
+
+    /**
+     * Records {@code persons} as the persons currently held by storage.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        persisted = indexByMatriculationNumber(persons);
+    }
+
+    /**
+     * Forgets what was last written to storage, so that the next save writes all persons.
+     */
+    public void stopTracking() {
+        persisted = null;
+    }
+
+    /**
+     * Returns the changes needed to bring storage from the last recorded state to {@code persons}.
+     * The tracker itself is not updated until the changes are {@link #commit(Changes) committed}.
+     */
+    public Changes diff(List<Person> persons) {
+        requireNonNull(persons);
+        assert isTracking() : "diff requires a previously recorded state";
+
+        Map<MatriculationNumber, Person> current = indexByMatriculationNumber(persons);
+        List<Person> updated = new ArrayList<>();
+        List<Integer> updatedPositions = new ArrayList<>();
+        boolean isAppendOnly = true;
+        boolean hasAdded = false;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Person persistedPerson = persisted.get(person.getMatriculationNumber());
+            if (persistedPerson != person) {
+                updated.add(person);
+                updatedPositions.add(i);
+            }
+            if (persistedPerson == null) {
+                hasAdded = true;
+            } else if (hasAdded) {
+                isAppendOnly = false; // a person recorded before comes after an added one
+            }
+        }
+
+        List<MatriculationNumber> removed = new ArrayList<>();
+        for (MatriculationNumber matriculationNumber : persisted.keySet()) {
+            if (!current.containsKey(matriculationNumber)) {
+                removed.add(matriculationNumber);
+            }
+        }
+        return new Changes(updated, updatedPositions, removed, isAppendOnly, current);
+    }
+
+    /**
+     * Records the state described by {@code changes} as the state now held by storage.
+     */
+    public void commit(Changes changes) {
+        requireNonNull(changes);
+        persisted = changes.resultingState;
+    }
+
+    private static Map<MatriculationNumber, Person> indexByMatriculationNumber(List<Person> persons) {
+        Map<MatriculationNumber, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            index.put(person.getMatriculationNumber(), person);
+        }
+        return index;
+    }
+
+    /**
+     * The persons that were added or edited, and the matriculation numbers that disappeared, between two states.
+     */
+    public static class Changes {
+        private final List<Person> updatedPersons;
+        private final List<Integer> updatedPositions;
+        private final List<MatriculationNumber> removedPersons;
+        private final boolean isAppendOnly;
+        private final Map<MatriculationNumber, Person> resultingState;
+
+        private Changes(List<Person> updatedPersons, List<Integer> updatedPositions,
+                        List<MatriculationNumber> removedPersons, boolean isAppendOnly,
+                        Map<MatriculationNumber, Person> resultingState) {
+            this.updatedPersons = Collections.unmodifiableList(updatedPersons);
+            this.updatedPositions = Collections.unmodifiableList(updatedPositions);
+            this.removedPersons = Collections.unmodifiableList(removedPersons);
+            this.isAppendOnly = isAppendOnly;
+            this.resultingState = resultingState;
+        }
+
+        /**
+         * Returns the persons that were added or edited, in the order of the list.
+         */
+        public List<Person> getUpdatedPersons() {
+            return updatedPersons;
+        }
+
+        /**
+         * Returns the positions in the list of the {@link #getUpdatedPersons() updated persons}, in the same order.
+         */
+        public List<Integer> getUpdatedPositions() {
+            return updatedPositions;
+        }
+
+        /**
+         * Returns true if the added persons all come after the persons recorded before, so that they can be placed
+         * after all others. A person whose matriculation number was edited, or whose removal was undone, is added
+         * in the middle of the list instead.
+         */
+        public boolean isAppendOnly() {
+            return isAppendOnly;
+        }
+
+        public List<MatriculationNumber> getRemovedPersons() {
+            return removedPersons;
+        }
+
+        public boolean isEmpty() {
+            return updatedPersons.isEmpty() && removedPersons.isEmpty();
+        }
+
+        public int size() {
+            return updatedPersons.size() + removedPersons.size();
+        }
+    }
+}
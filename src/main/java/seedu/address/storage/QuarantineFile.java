@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Collects the records that are skipped while salvaging a damaged data file, and appends them to a quarantine
+ * file next to it, one JSON entry per line, so that none of them is lost when the salvaged data is saved.
+ * <p>
+ * If a data file cannot be read to its end, the unread rest cannot be told apart into records. A copy of the
+ * whole data file is then kept next to it instead.
+ */
+class QuarantineFile {
+
+    public static final String QUARANTINE_FILE_SUFFIX = ".quarantine";
+    public static final String CORRUPT_COPY_SUFFIX = ".corrupt";
+
+    private final Path dataFilePath;
+    private final Path filePath;
+    private final String quarantinedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString();
+    private final List<String> problems = new ArrayList<>();
+    private final StringBuilder entries = new StringBuilder();
+    private boolean isRestUnreadable;
+
+    /**
+     * Creates a {@code QuarantineFile} for the records skipped in the data file at {@code dataFilePath}.
+     */
+    QuarantineFile(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFilePath = dataFilePath;
+        this.filePath = getQuarantineFilePath(dataFilePath);
+    }
+
+    /**
+     * Returns the quarantine file of the data file at {@code dataFilePath}.
+     */
+    public static Path getQuarantineFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Skips {@code record}, the JSON text of a record, for the reason described by {@code problem}.
+     */
+    public void add(String problem, String record) {
+        requireNonNull(problem);
+        problems.add(problem);
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("quarantinedAt", quarantinedAt);
+        entry.put("problem", problem);
+        entry.put("record", record);
+        try {
+            entries.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        } catch (IOException e) {
+            throw new AssertionError("A map of strings is always serializable", e);
+        }
+    }
+
+    /**
+     * Skips the rest of the data file, which could not be read for the reason described by {@code problem}.
+     */
+    public void addUnreadableRest(String problem) {
+        isRestUnreadable = true;
+        add(problem + " A copy of the whole data file is kept in " + getCorruptCopyPath().getFileName(), null);
+    }
+
+    public List<String> getProblems() {
+        return new ArrayList<>(problems);
+    }
+
+    /**
+     * Appends the skipped records to the quarantine file, and copies the data file if its rest was skipped.
+     * Nothing is written if no record was skipped.
+     */
+    public void write() throws IOException {
+        if (problems.isEmpty()) {
+            return;
+        }
+        if (isRestUnreadable) {
+            Files.copy(dataFilePath, getCorruptCopyPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, entries.toString());
+    }
+
+    private Path getCorruptCopyPath() {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + CORRUPT_COPY_SUFFIX);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An address book salvaged from a damaged data file: the persons that could still be read, and a description of
+ * each record that was skipped and moved to the quarantine file instead.
+ */
+public class SalvagedAddressBook {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final List<String> problems;
+    private final Path quarantineFilePath; // null => nothing was quarantined
+
+    /**
+     * Creates a {@code SalvagedAddressBook} of {@code addressBook}, which was read without skipping anything.
+     */
+    public SalvagedAddressBook(ReadOnlyAddressBook addressBook) {
+        this(addressBook, new ArrayList<>(), null);
+    }
+
+    /**
+     * Creates a {@code SalvagedAddressBook} of {@code addressBook}, for which the records described by
+     * {@code problems} were skipped and moved to the quarantine file at {@code quarantineFilePath}.
+     */
+    public SalvagedAddressBook(ReadOnlyAddressBook addressBook, List<String> problems, Path quarantineFilePath) {
+        requireNonNull(addressBook);
+        requireNonNull(problems);
+        this.addressBook = addressBook;
+        this.problems = new ArrayList<>(problems);
+        this.quarantineFilePath = problems.isEmpty() ? null : requireNonNull(quarantineFilePath);
+    }
+
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * Returns a description of each record that was skipped, in the order they were found.
+     */
+    public List<String> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * Returns the file that the skipped records were moved to, or null if no record was skipped.
+     */
+    public Path getQuarantineFilePath() {
+        return quarantineFilePath;
+    }
+
+    public boolean hasProblems() {
+        return !problems.isEmpty();
+    }
+}
@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that spreads the persons over several shard files, so that a save only
+ * rewrites the shards holding persons that changed since the last save.
+ * <p>
+ * Persons are assigned to shards by the hash of their matriculation number. All files live in a shard directory:
+ * a manifest that records the shard count and the order of the persons, and one file per shard in the format
+ * of the storage settings. Shards are loaded in parallel. Each shard file is replaced atomically, and the
+ * manifest is written after the shards.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final String SHARD_FILE_NAME_FORMAT = "shard-%03d";
+    private static final Pattern SHARD_FILE_NAME_PATTERN = Pattern.compile("shard-(\\d+)");
+
+    private final Path manifestPath;
+    private final int shardCount;
+    private final StorageSettings shardSettings;
+    private final PersonChangeTracker changeTracker = new PersonChangeTracker();
+
+    private List<MatriculationNumber> persistedOrder;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} that keeps its files in {@code shardDirectory}, and writes
+     * {@code shardSettings.getShardCount()} shards in the data format of {@code shardSettings}.
+     */
+    public ShardedAddressBookStorage(Path shardDirectory, StorageSettings shardSettings) {
+        requireNonNull(shardDirectory);
+        requireNonNull(shardSettings);
+        assert shardSettings.isSharded() : "sharded storage needs a positive shard count";
+        this.manifestPath = shardDirectory.resolve(MANIFEST_FILE_NAME);
+        this.shardCount = shardSettings.getShardCount();
+        this.shardSettings = shardSettings;
+    }
+
+    /**
+     * Returns the directory that holds the shards of the address book that would otherwise be stored in
+     * {@code addressBookFilePath}.
+     */
+    public static Path getShardDirectory(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the shard that the person with {@code matriculationNumber} belongs to, out of {@code shardCount}.
+     * Uses the hash of the matriculation number's text, which is the same on every run and every platform.
+     */
+    public static int getShardIndex(MatriculationNumber matriculationNumber, int shardCount) {
+        return Math.floorMod(matriculationNumber.value.hashCode(), shardCount);
+    }
+
+    /**
+     * Returns the path of the manifest of this storage. Persons are in the shard files next to it.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(manifestPath);
+    }
+
+    /**
+     * Reads the address book whose manifest is at {@code filePath}, with all shards read in parallel.
+     * The address book is read with the shard count in its manifest, even if it differs from the shard count
+     * of this storage; the next save then spreads the persons over the new number of shards.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableShardManifest> manifest = JsonUtil.readJsonFile(filePath,
+                parser -> JsonUtil.readValue(parser, JsonSerializableShardManifest.class), false,
+                shardSettings.getPassphrase().orElse(null));
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        int storedShardCount;
+        try {
+            storedShardCount = manifest.get().getShardCount();
+            List<List<Person>> shards = readShards(filePath, storedShardCount);
+            addressBook = assemble(shards, manifest.get().getOrder());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(manifestPath) && storedShardCount == shardCount) {
+            changeTracker.reset(addressBook.getPersonList());
+            persistedOrder = getOrder(addressBook.getPersonList());
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, manifestPath);
+    }
+
+    /**
+     * Writes the shards holding persons that changed since the last read or save through this storage,
+     * and the manifest if the order of the persons changed.
+     * Writes all shards instead if there was no such read or save, or if {@code filePath} is not the manifest
+     * of this storage.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<MatriculationNumber> order = getOrder(persons);
+        if (!filePath.equals(manifestPath) || !changeTracker.isTracking()) {
+            writeAllShards(persons, order, filePath);
+            if (filePath.equals(manifestPath)) {
+                changeTracker.reset(persons);
+                persistedOrder = order;
+            }
+            return;
+        }
+
+        PersonChangeTracker.Changes changes = changeTracker.diff(persons);
+        Set<Integer> dirtyShards = new TreeSet<>();
+        changes.getUpdatedPersons().forEach(person ->
+                dirtyShards.add(getShardIndex(person.getMatriculationNumber(), shardCount)));
+        changes.getRemovedPersons().forEach(matriculationNumber ->
+                dirtyShards.add(getShardIndex(matriculationNumber, shardCount)));
+        boolean isOrderChanged = !order.equals(persistedOrder);
+
+        List<List<Person>> shards = partition(persons, shardCount);
+        for (int shardIndex : dirtyShards) {
+            writeShard(manifestPath, shardIndex, shards.get(shardIndex));
+        }
+        if (isOrderChanged) {
+            writeManifest(manifestPath, order);
+        }
+        logger.fine("Wrote " + dirtyShards.size() + " of " + shardCount + " shards"
+                + (isOrderChanged ? " and the manifest" : ""));
+
+        changeTracker.commit(changes);
+        persistedOrder = order;
+    }
+
+    /**
+     * Deletes the manifest and all shard files of this storage, and the shard directory if it is then empty.
+     */
+    public synchronized void deleteFiles() throws IOException {
+        Path shardDirectory = manifestPath.getParent();
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+        for (Path shardFile : listShardFiles(shardDirectory).values()) {
+            Files.delete(shardFile);
+        }
+        Files.deleteIfExists(manifestPath);
+        try (DirectoryStream<Path> remaining = Files.newDirectoryStream(shardDirectory)) {
+            if (!remaining.iterator().hasNext()) {
+                Files.delete(shardDirectory);
+            }
+        }
+    }
+
+    private void writeAllShards(List<Person> persons, List<MatriculationNumber> order, Path manifestFilePath)
+            throws IOException {
+        List<List<Person>> shards = partition(persons, shardCount);
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            writeShard(manifestFilePath, shardIndex, shards.get(shardIndex));
+        }
+        writeManifest(manifestFilePath, order);
+
+        // Shards left over from a larger shard count would otherwise be read again
+        for (Map.Entry<Integer, Path> shardFile : listShardFiles(manifestFilePath.getParent()).entrySet()) {
+            if (shardFile.getKey() >= shardCount) {
+                Files.delete(shardFile.getValue());
+            }
+        }
+    }
+
+    private void writeShard(Path manifestFilePath, int shardIndex, List<Person> persons) throws IOException {
+        AddressBook shard = new AddressBook();
+        shard.setPersons(persons);
+        Path shardPath = getShardPath(manifestFilePath, shardIndex);
+        AddressBookFormatConverter.createStorage(shardPath, shardSettings).saveAddressBook(shard);
+    }
+
+    private void writeManifest(Path manifestFilePath, List<MatriculationNumber> order) throws IOException {
+        JsonSerializableShardManifest manifest = JsonSerializableShardManifest.of(shardCount, order);
+        // The order of the persons gives away who is in the address book, so it is encrypted like the shards
+        JsonUtil.writeJsonFileAtomically(manifestFilePath, true, Compression.NONE,
+                StorageSettings.DEFAULT_COMPRESSION_LEVEL, shardSettings.getPassphrase().orElse(null),
+                generator -> JsonUtil.writeValue(generator, manifest));
+    }
+
+    private List<List<Person>> readShards(Path manifestFilePath, int storedShardCount)
+            throws DataLoadingException, IllegalValueException {
+        List<Callable<ReadOnlyAddressBook>> readers = new ArrayList<>();
+        for (int shardIndex = 0; shardIndex < storedShardCount; shardIndex++) {
+            Path shardPath = getShardPath(manifestFilePath, shardIndex);
+            readers.add(() -> readShard(shardPath));
+        }
+
+        List<List<Person>> shards = new ArrayList<>();
+        List<Future<ReadOnlyAddressBook>> results = ForkJoinPool.commonPool().invokeAll(readers);
+        for (int shardIndex = 0; shardIndex < storedShardCount; shardIndex++) {
+            List<Person> persons = getShardResult(results.get(shardIndex)).getPersonList();
+            for (Person person : persons) {
+                if (getShardIndex(person.getMatriculationNumber(), storedShardCount) != shardIndex) {
+                    throw new IllegalValueException("Person " + person.getMatriculationNumber()
+                            + " does not belong in shard " + shardIndex);
+                }
+            }
+            shards.add(persons);
+        }
+        return shards;
+    }
+
+    private ReadOnlyAddressBook readShard(Path shardPath) throws IOException, DataLoadingException {
+        // Shards keep the format they were last written in until they are rewritten
+        Optional<StorageSettings.DataFormat> format = AddressBookFormatConverter.detectFormat(shardPath);
+        if (!format.isPresent()) {
+            return new AddressBook();
+        }
+        return AddressBookFormatConverter.createStorage(shardPath, shardSettings.withDataFormat(format.get()))
+                .readAddressBook()
+                .orElseGet(AddressBook::new);
+    }
+
+    private static ReadOnlyAddressBook getShardResult(Future<ReadOnlyAddressBook> result)
+            throws DataLoadingException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        }
+    }
+
+    /**
+     * Puts the persons of all shards into one address book, ordered as listed in {@code order}.
+     * Persons missing from {@code order} are put at the end.
+     */
+    private static AddressBook assemble(List<List<Person>> shards, List<MatriculationNumber> order) {
+        Map<MatriculationNumber, Person> unordered = new HashMap<>();
+        List<Person> unlisted = new ArrayList<>();
+        shards.forEach(shard -> shard.forEach(person -> unordered.put(person.getMatriculationNumber(), person)));
+
+        List<Person> persons = new ArrayList<>(unordered.size());
+        for (MatriculationNumber matriculationNumber : order) {
+            Person person = unordered.remove(matriculationNumber);
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        shards.forEach(shard -> shard.stream()
+                .filter(person -> unordered.containsKey(person.getMatriculationNumber()))
+                .forEach(unlisted::add));
+        persons.addAll(unlisted);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static List<List<Person>> partition(List<Person> persons, int shardCount) {
+        List<List<Person>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            shards.get(getShardIndex(person.getMatriculationNumber(), shardCount)).add(person);
+        }
+        return shards;
+    }
+
+    private static List<MatriculationNumber> getOrder(List<Person> persons) {
+        List<MatriculationNumber> order = new ArrayList<>(persons.size());
+        persons.forEach(person -> order.add(person.getMatriculationNumber()));
+        return order;
+    }
+
+    private static Path getShardPath(Path manifestFilePath, int shardIndex) {
+        return manifestFilePath.resolveSibling(String.format(SHARD_FILE_NAME_FORMAT, shardIndex));
+    }
+
+    private static Map<Integer, Path> listShardFiles(Path shardDirectory) throws IOException {
+        Map<Integer, Path> shardFiles = new HashMap<>();
+        if (shardDirectory == null || !Files.isDirectory(shardDirectory)) {
+            return shardFiles;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                Matcher matcher = SHARD_FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    shardFiles.put(Integer.parseInt(matcher.group(1)), file);
+                }
+            }
+        }
+        return shardFiles;
+    }
+}
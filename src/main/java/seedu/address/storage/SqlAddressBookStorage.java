@@ -0,0 +1,419 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ * <p>
+ * Persons, their tags and their payments are kept in the {@code persons}, {@code tags} and {@code payments} tables,
+ * keyed by matriculation number, with indexes on payment date and amount. Only the first save after startup
+ * rewrites every row; later saves update, insert or delete just the rows of the persons that changed, in a single
+ * transaction, so the database is never left with half a save in it.
+ * <p>
+ * The connection is opened on first use and kept open. The database engine closes it when the application exits.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage, AutoCloseable {
+
+    /** The suffix the database engine gives to its database files. */
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    public static final String MESSAGE_INVALID_DATABASE_FILE = "Database file names must end with "
+            + DATABASE_FILE_SUFFIX;
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons ("
+                + "matriculation_number VARCHAR(32) PRIMARY KEY, "
+                + "display_order BIGINT NOT NULL, "
+                + "name VARCHAR(1000) NOT NULL, "
+                + "phone VARCHAR(100) NOT NULL, "
+                + "email VARCHAR(1000) NOT NULL, "
+                + "archived BOOLEAN NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS tags ("
+                + "matriculation_number VARCHAR(32) NOT NULL, "
+                + "tag_name VARCHAR(1000) NOT NULL, "
+                + "PRIMARY KEY (matriculation_number, tag_name))",
+        "CREATE TABLE IF NOT EXISTS payments ("
+                + "matriculation_number VARCHAR(32) NOT NULL, "
+                + "ledger_order INT NOT NULL, "
+                + "amount DECIMAL(19, 2) NOT NULL, "
+                + "payment_date DATE NOT NULL, "
+                + "remarks VARCHAR(10000), "
+                + "recorded_at TIMESTAMP(9) NOT NULL, "
+                + "PRIMARY KEY (matriculation_number, ledger_order))",
+        "CREATE INDEX IF NOT EXISTS persons_display_order ON persons (display_order)",
+        "CREATE INDEX IF NOT EXISTS payments_payment_date ON payments (payment_date)",
+        "CREATE INDEX IF NOT EXISTS payments_amount ON payments (amount)"
+    };
+
+    private static final String SELECT_PERSONS =
+            "SELECT matriculation_number, name, phone, email, archived FROM persons ORDER BY display_order";
+    private static final String SELECT_TAGS = "SELECT matriculation_number, tag_name FROM tags";
+    private static final String SELECT_PAYMENTS = "SELECT matriculation_number, amount, payment_date, remarks, "
+            + "recorded_at FROM payments ORDER BY matriculation_number, ledger_order";
+    private static final String SELECT_NEXT_DISPLAY_ORDER = "SELECT COALESCE(MAX(display_order) + 1, 0) FROM persons";
+
+    private static final String INSERT_PERSON = "INSERT INTO persons "
+            + "(matriculation_number, display_order, name, phone, email, archived) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PERSON =
+            "UPDATE persons SET name = ?, phone = ?, email = ?, archived = ? WHERE matriculation_number = ?";
+    private static final String UPDATE_DISPLAY_ORDER =
+            "UPDATE persons SET display_order = ? WHERE matriculation_number = ?";
+    private static final String INSERT_TAG = "INSERT INTO tags (matriculation_number, tag_name) VALUES (?, ?)";
+    private static final String INSERT_PAYMENT = "INSERT INTO payments "
+            + "(matriculation_number, ledger_order, amount, payment_date, remarks, recorded_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_PAYMENTS_OF = "DELETE FROM payments WHERE matriculation_number = ?";
+    private static final String DELETE_TAGS_OF = "DELETE FROM tags WHERE matriculation_number = ?";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE matriculation_number = ?";
+    private static final String[] DELETE_ALL_ROWS = {
+        "DELETE FROM payments", "DELETE FROM tags", "DELETE FROM persons"
+    };
+
+    private final Path filePath;
+    private final PersonChangeTracker changeTracker = new PersonChangeTracker();
+
+    private Connection connection; // null until first used
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} that keeps the address book in the database file at {@code filePath}.
+     */
+    public SqlAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(filePath.getFileName().toString().endsWith(DATABASE_FILE_SUFFIX),
+                MESSAGE_INVALID_DATABASE_FILE);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the database file that holds the address book whose data file would be {@code addressBookFilePath}.
+     */
+    public static Path getDatabaseFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + DATABASE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Databases other than this storage's own are opened just for the read.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     * @throws DataLoadingException if loading the data from the database failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            try (SqlAddressBookStorage otherStorage = new SqlAddressBookStorage(filePath)) {
+                return otherStorage.readAddressBook();
+            }
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(readPersons(getConnection()));
+            changeTracker.reset(addressBook.getPersonList());
+            return Optional.of(addressBook);
+        } catch (SQLException | IllegalValueException e) {
+            logger.warning("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the rows of the persons that changed since the last read or save, or of every person if nothing was
+     * read or written through this storage yet. Databases other than this storage's own are opened just for the
+     * save, and fully rewritten.
+     *
+     * @param filePath location of the database file. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            try (SqlAddressBookStorage otherStorage = new SqlAddressBookStorage(filePath)) {
+                otherStorage.saveAddressBook(addressBook);
+            }
+            return;
+        }
+
+        try {
+            Connection connection = getConnection();
+            if (!changeTracker.isTracking()) {
+                inTransaction(connection, () -> rewriteAll(connection, addressBook.getPersonList()));
+                changeTracker.reset(addressBook.getPersonList());
+                return;
+            }
+
+            PersonChangeTracker.Changes changes = changeTracker.diff(addressBook.getPersonList());
+            if (changes.isEmpty()) {
+                return;
+            }
+            inTransaction(connection, () -> writeChanges(connection, changes, addressBook.getPersonList()));
+            changeTracker.commit(changes);
+        } catch (SQLException e) {
+            throw new IOException("Could not write to database " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the connection to the database, if it is open. It is opened again when next needed.
+     */
+    @Override
+    public synchronized void close() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Failed to close database " + filePath + ": " + e.getMessage());
+        }
+        connection = null;
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            String fileName = filePath.toAbsolutePath().toString();
+            String url = "jdbc:h2:file:" + fileName.substring(0, fileName.length() - DATABASE_FILE_SUFFIX.length());
+            connection = DriverManager.getConnection(url, "sa", "");
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : CREATE_SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+        }
+        return connection;
+    }
+
+    private static List<Person> readPersons(Connection connection) throws SQLException, IllegalValueException {
+        Map<String, List<JsonAdaptedTag>> tags = new HashMap<>();
+        Map<String, List<JsonAdaptedPayment>> payments = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery(SELECT_TAGS)) {
+                while (rows.next()) {
+                    tags.computeIfAbsent(rows.getString(1), unused -> new ArrayList<>())
+                            .add(new JsonAdaptedTag(rows.getString(2)));
+                }
+            }
+            try (ResultSet rows = statement.executeQuery(SELECT_PAYMENTS)) {
+                while (rows.next()) {
+                    payments.computeIfAbsent(rows.getString(1), unused -> new ArrayList<>())
+                            .add(new JsonAdaptedPayment(rows.getBigDecimal(2).toPlainString(),
+                                    rows.getObject(3, LocalDate.class).toString(), rows.getString(4),
+                                    rows.getObject(5, LocalDateTime.class).toString()));
+                }
+            }
+
+            List<Person> persons = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_PERSONS)) {
+                while (rows.next()) {
+                    String matriculationNumber = rows.getString(1);
+                    persons.add(new JsonAdaptedPerson(rows.getString(2), rows.getString(3), rows.getString(4),
+                            matriculationNumber, tags.get(matriculationNumber), rows.getBoolean(5),
+                            payments.get(matriculationNumber)).toModelType());
+                }
+            }
+            return persons;
+        }
+    }
+
+    private static void rewriteAll(Connection connection, List<Person> persons) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : DELETE_ALL_ROWS) {
+                statement.executeUpdate(sql);
+            }
+        }
+        try (PreparedStatement insertPerson = connection.prepareStatement(INSERT_PERSON)) {
+            for (int i = 0; i < persons.size(); i++) {
+                setPersonInsert(insertPerson, persons.get(i), i);
+                insertPerson.addBatch();
+            }
+            insertPerson.executeBatch();
+        }
+        insertDetails(connection, persons);
+    }
+
+    /**
+     * Deletes the rows of removed persons, and upserts the rows of updated persons. An updated person keeps its
+     * place in the display order; a new person is placed after all others. If a new person is in the middle of
+     * {@code persons} instead, such as after a matriculation number was edited, the display order of every person
+     * is set from its place in {@code persons}.
+     */
+    private static void writeChanges(Connection connection, PersonChangeTracker.Changes changes,
+                                     List<Person> persons) throws SQLException {
+        List<String> removedKeys = new ArrayList<>();
+        for (MatriculationNumber removed : changes.getRemovedPersons()) {
+            removedKeys.add(removed.value);
+        }
+        // The tags and payments of updated persons are inserted again below
+        List<String> staleKeys = new ArrayList<>(removedKeys);
+        for (Person updated : changes.getUpdatedPersons()) {
+            staleKeys.add(updated.getMatriculationNumber().value);
+        }
+        deleteRows(connection, DELETE_PAYMENTS_OF, staleKeys);
+        deleteRows(connection, DELETE_TAGS_OF, staleKeys);
+        deleteRows(connection, DELETE_PERSON, removedKeys);
+
+        long nextDisplayOrder;
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(SELECT_NEXT_DISPLAY_ORDER)) {
+            rows.next();
+            nextDisplayOrder = rows.getLong(1);
+        }
+        try (PreparedStatement updatePerson = connection.prepareStatement(UPDATE_PERSON);
+             PreparedStatement insertPerson = connection.prepareStatement(INSERT_PERSON)) {
+            for (Person person : changes.getUpdatedPersons()) {
+                updatePerson.setString(1, person.getName().fullName);
+                updatePerson.setString(2, person.getPhone().value);
+                updatePerson.setString(3, person.getEmail().value);
+                updatePerson.setBoolean(4, person.isArchived());
+                updatePerson.setString(5, person.getMatriculationNumber().value);
+                if (updatePerson.executeUpdate() == 0) {
+                    setPersonInsert(insertPerson, person, nextDisplayOrder++);
+                    insertPerson.executeUpdate();
+                }
+            }
+        }
+        if (!changes.isAppendOnly()) {
+            renumberDisplayOrder(connection, persons);
+        }
+        insertDetails(connection, changes.getUpdatedPersons());
+    }
+
+    private static void renumberDisplayOrder(Connection connection, List<Person> persons) throws SQLException {
+        try (PreparedStatement updateDisplayOrder = connection.prepareStatement(UPDATE_DISPLAY_ORDER)) {
+            for (int i = 0; i < persons.size(); i++) {
+                updateDisplayOrder.setLong(1, i);
+                updateDisplayOrder.setString(2, persons.get(i).getMatriculationNumber().value);
+                updateDisplayOrder.addBatch();
+            }
+            updateDisplayOrder.executeBatch();
+        }
+    }
+
+    private static void deleteRows(Connection connection, String sql, List<String> keys) throws SQLException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement delete = connection.prepareStatement(sql)) {
+            for (String key : keys) {
+                delete.setString(1, key);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        }
+    }
+
+    private static void setPersonInsert(PreparedStatement insertPerson, Person person, long displayOrder)
+            throws SQLException {
+        insertPerson.setString(1, person.getMatriculationNumber().value);
+        insertPerson.setLong(2, displayOrder);
+        insertPerson.setString(3, person.getName().fullName);
+        insertPerson.setString(4, person.getPhone().value);
+        insertPerson.setString(5, person.getEmail().value);
+        insertPerson.setBoolean(6, person.isArchived());
+    }
+
+    /**
+     * Inserts the tag and payment rows of {@code persons}, which must have none in the database yet.
+     */
+    private static void insertDetails(Connection connection, List<Person> persons) throws SQLException {
+        try (PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+             PreparedStatement insertPayment = connection.prepareStatement(INSERT_PAYMENT)) {
+            for (Person person : persons) {
+                String key = person.getMatriculationNumber().value;
+                for (Tag tag : person.getTags()) {
+                    insertTag.setString(1, key);
+                    insertTag.setString(2, tag.tagName);
+                    insertTag.addBatch();
+                }
+                List<Payment> payments = person.getPayments();
+                for (int i = 0; i < payments.size(); i++) {
+                    Payment payment = payments.get(i);
+                    insertPayment.setString(1, key);
+                    insertPayment.setInt(2, i);
+                    insertPayment.setBigDecimal(3, payment.getAmount().asBigDecimal());
+                    insertPayment.setObject(4, payment.getDate());
+                    insertPayment.setString(5, payment.getRemarks());
+                    insertPayment.setObject(6, payment.getRecordedAt());
+                    insertPayment.addBatch();
+                }
+            }
+            insertTag.executeBatch();
+            insertPayment.executeBatch();
+        }
+    }
+
+    /**
+     * Runs {@code work} in a transaction that is committed if it completes, and rolled back if it fails.
+     */
+    private static void inTransaction(Connection connection, SqlWork work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            work.run();
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Work done on the database that may fail.
+     */
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
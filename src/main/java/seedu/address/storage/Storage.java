@@ -2,12 +2,20 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.ClosedYear;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component
@@ -29,4 +37,109 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, either right away or in the background if background saving is enabled.
+     * Failures of background saves are reported to the handler set by {@link #setSaveFailureHandler(Consumer)}.
+     *
+     * @throws IOException if a save done right away fails.
+     */
+    void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Sets the handler that is told about failed background saves.
+     * The handler may be called from a thread other than the one that requested the save.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Blocks until all requested saves have been written.
+     */
+    void flushPendingSaves();
+
+    /**
+     * Writes the requested saves of every opened book and stops their background writers.
+     * Saves can no longer be requested afterwards.
+     */
+    void shutdown();
+
+    /**
+     * Returns true if this storage holds a workspace of books, which can be read and switched to.
+     */
+    boolean supportsWorkspace();
+
+    /**
+     * Switches to the book of the workspace whose data file is at {@code addressBookFilePath}, after writing the
+     * pending saves of the current book. Later reads, saves and backups are those of that book.
+     *
+     * @throws UnsupportedOperationException unless this storage {@link #supportsWorkspace() holds a workspace}.
+     */
+    void switchAddressBook(Path addressBookFilePath);
+
+    /**
+     * Returns the book of the workspace whose data file is at {@code addressBookFilePath}, read in the layout
+     * it is kept in, or {@code Optional.empty()} if it has not been saved yet.
+     *
+     * @throws DataLoadingException if the book could not be read.
+     * @throws UnsupportedOperationException unless this storage {@link #supportsWorkspace() holds a workspace}.
+     */
+    Optional<ReadOnlyAddressBook> readWorkspaceBook(Path addressBookFilePath) throws DataLoadingException;
+
+    /**
+     * Returns the backups of the address book that can be restored, oldest first.
+     * The list is empty if backups are disabled.
+     *
+     * @throws IOException if the backups could not be listed.
+     */
+    List<AddressBookBackup> listBackups() throws IOException;
+
+    /**
+     * Returns the address book as it was when the backup with {@code backupId} was taken,
+     * or {@code Optional.empty()} if there is no such backup.
+     *
+     * @throws DataLoadingException if the backup could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readBackup(int backupId) throws DataLoadingException;
+
+    /**
+     * Writes the payments of {@code persons} that {@code filter} accepts to {@code filePath} in {@code format}
+     * on a background thread, including those archived from the years closed from {@code fromYear} onwards.
+     * {@code persons} must not change afterwards.
+     *
+     * @return the number of payments written, once the file is complete.
+     */
+    CompletableFuture<Integer> exportPayments(List<Person> persons, Predicate<Payment> filter, int fromYear,
+                                              Path filePath, PaymentExporter.Format format);
+
+    /**
+     * Returns the closed years of the address book, earliest first.
+     *
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    List<ClosedYear> getClosedYears() throws DataLoadingException;
+
+    /**
+     * Closes {@code year} by archiving the payments of {@code persons} dated on or before its last day, and
+     * returns their totals. The payments are not removed from {@code persons}.
+     *
+     * @throws IOException if the payments could not be archived, or {@code year} or a later year is already closed.
+     */
+    ClosedYear closeYear(int year, List<Person> persons) throws IOException;
+
+    /**
+     * Reopens {@code year}, the last closed year, undoing {@link #closeYear(int, List)} when the address book
+     * could not be saved without the archived payments afterwards.
+     *
+     * @throws IOException if the archive could not be changed, or {@code year} is not the last closed year.
+     */
+    void reopenYear(int year) throws IOException;
+
+    /**
+     * Returns the archived payments of the member with {@code matriculationNumber} from the years closed from
+     * {@code fromYear} onwards, reading them from the archive.
+     *
+     * @throws DataLoadingException if the archive could not be read.
+     */
+    List<Payment> readArchivedPayments(MatriculationNumber matriculationNumber, int fromYear)
+            throws DataLoadingException;
+
 }
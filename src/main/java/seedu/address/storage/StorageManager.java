@@ -1,8 +1,20 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,6 +22,10 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.ClosedYear;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +35,57 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookSaveWorker saveWorker;
+    private AddressBookBackupManager backupManager;
+    private PaymentArchive paymentArchive; // null until used, if only one book can be used
+    private final Function<Path, WorkspaceBook> bookOpener; // null => only one book can be used
+    private final Map<Path, WorkspaceBook> openedBooks = new HashMap<>();
+    private final PaymentExporter paymentExporter = new PaymentExporter();
+    private Consumer<IOException> saveFailureHandler = e -> { };
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Requested saves are written right away.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Requested saves are handed to {@code saveWorker} and written in the background, unless it is null.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          AddressBookSaveWorker saveWorker) {
+        this(addressBookStorage, userPrefsStorage, saveWorker, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} like {@link #StorageManager(AddressBookStorage, UserPrefsStorage,
+     * AddressBookSaveWorker)} whose backups are kept by {@code backupManager}, unless it is null.
+     * {@code addressBookStorage} is expected to back up its saves through {@code backupManager}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          AddressBookSaveWorker saveWorker, AddressBookBackupManager backupManager) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveWorker = saveWorker;
+        this.backupManager = backupManager;
+        this.bookOpener = null;
+    }
+
+    /**
+     * Creates a {@code StorageManager} for a workspace of books, starting with the book whose data file is at
+     * {@code addressBookFilePath}. Each book is opened by {@code bookOpener} the first time it is used,
+     * and stays open after switching to another book.
+     */
+    public StorageManager(Path addressBookFilePath, UserPrefsStorage userPrefsStorage,
+                          Function<Path, WorkspaceBook> bookOpener) {
+        requireNonNull(addressBookFilePath);
+        requireNonNull(bookOpener);
+        this.userPrefsStorage = userPrefsStorage;
+        this.bookOpener = bookOpener;
+        use(openBook(addressBookFilePath));
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,6 +124,12 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<SalvagedAddressBook> salvageAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to salvage data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.salvageAddressBook();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -75,4 +141,155 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (saveWorker == null) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        logger.fine("Requesting background write to data file: " + getAddressBookFilePath());
+        saveWorker.requestSave(addressBook);
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+        if (saveWorker != null) {
+            saveWorker.setFailureHandler(handler);
+        }
+        for (WorkspaceBook book : openedBooks.values()) {
+            if (book.getSaveWorker() != null) {
+                book.getSaveWorker().setFailureHandler(handler);
+            }
+        }
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        if (saveWorker != null) {
+            saveWorker.flush();
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        Set<AddressBookSaveWorker> saveWorkers = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (saveWorker != null) {
+            saveWorkers.add(saveWorker);
+        }
+        for (WorkspaceBook book : openedBooks.values()) {
+            if (book.getSaveWorker() != null) {
+                saveWorkers.add(book.getSaveWorker());
+            }
+        }
+        logger.fine("Shutting down " + saveWorkers.size() + " save workers");
+        saveWorkers.forEach(AddressBookSaveWorker::shutdown);
+    }
+
+    // ================ Workspace methods ==============================
+
+    @Override
+    public boolean supportsWorkspace() {
+        return bookOpener != null;
+    }
+
+    @Override
+    public void switchAddressBook(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        if (!supportsWorkspace()) {
+            throw new UnsupportedOperationException("This storage holds a single address book");
+        }
+        flushPendingSaves();
+        logger.info("Switching to address book " + addressBookFilePath);
+        use(openBook(addressBookFilePath));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readWorkspaceBook(Path addressBookFilePath) throws DataLoadingException {
+        requireNonNull(addressBookFilePath);
+        if (!supportsWorkspace()) {
+            throw new UnsupportedOperationException("This storage holds a single address book");
+        }
+        logger.fine("Attempting to read address book " + addressBookFilePath);
+        return openBook(addressBookFilePath).getAddressBookStorage().readAddressBook();
+    }
+
+    private synchronized WorkspaceBook openBook(Path addressBookFilePath) {
+        return openedBooks.computeIfAbsent(addressBookFilePath.toAbsolutePath(), filePath -> {
+            WorkspaceBook book = bookOpener.apply(addressBookFilePath);
+            if (book.getSaveWorker() != null) {
+                book.getSaveWorker().setFailureHandler(saveFailureHandler);
+            }
+            return book;
+        });
+    }
+
+    private void use(WorkspaceBook book) {
+        addressBookStorage = book.getAddressBookStorage();
+        saveWorker = book.getSaveWorker();
+        backupManager = book.getBackupManager();
+        paymentArchive = book.getPaymentArchive();
+    }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public List<AddressBookBackup> listBackups() throws IOException {
+        if (backupManager == null) {
+            return Collections.emptyList();
+        }
+        return backupManager.listBackups();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readBackup(int backupId) throws DataLoadingException {
+        if (backupManager == null) {
+            return Optional.empty();
+        }
+        logger.fine("Attempting to read backup " + backupId);
+        return backupManager.readBackup(backupId);
+    }
+
+    // ================ Export methods ==============================
+
+    @Override
+    public CompletableFuture<Integer> exportPayments(List<Person> persons, Predicate<Payment> filter, int fromYear,
+                                                     Path filePath, PaymentExporter.Format format) {
+        logger.fine("Exporting payments to " + filePath);
+        return paymentExporter.export(persons, filter, getPaymentArchive(), fromYear, filePath, format);
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public List<ClosedYear> getClosedYears() throws DataLoadingException {
+        return getPaymentArchive().getClosedYears();
+    }
+
+    @Override
+    public ClosedYear closeYear(int year, List<Person> persons) throws IOException {
+        logger.fine("Closing " + year);
+        return getPaymentArchive().close(year, persons);
+    }
+
+    @Override
+    public void reopenYear(int year) throws IOException {
+        logger.fine("Reopening " + year);
+        getPaymentArchive().reopen(year);
+    }
+
+    @Override
+    public List<Payment> readArchivedPayments(MatriculationNumber matriculationNumber, int fromYear)
+            throws DataLoadingException {
+        return getPaymentArchive().readPayments(matriculationNumber, fromYear);
+    }
+
+    private synchronized PaymentArchive getPaymentArchive() {
+        if (paymentArchive == null) {
+            paymentArchive = new PaymentArchive(PaymentArchive.getArchiveDirectory(getAddressBookFilePath()));
+        }
+        return paymentArchive;
+    }
+
 }
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The storage of one address book in the workspace: the storage it is kept in, the worker that saves it in the
+ * background, the manager of its backups, and the archive of its closed years.
+ */
+public class WorkspaceBook {
+
+    private final AddressBookStorage addressBookStorage;
+    private final AddressBookSaveWorker saveWorker; // null => saves are written right away
+    private final AddressBookBackupManager backupManager; // null => no backups are kept
+    private final PaymentArchive paymentArchive;
+
+    /**
+     * Creates a {@code WorkspaceBook} kept in {@code addressBookStorage}, with an unencrypted archive next to its
+     * data file. {@code saveWorker} and {@code backupManager} may be null if the book is saved right away or not
+     * backed up.
+     */
+    public WorkspaceBook(AddressBookStorage addressBookStorage, AddressBookSaveWorker saveWorker,
+                         AddressBookBackupManager backupManager) {
+        this(addressBookStorage, saveWorker, backupManager,
+                new PaymentArchive(PaymentArchive.getArchiveDirectory(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code WorkspaceBook} like {@link #WorkspaceBook(AddressBookStorage, AddressBookSaveWorker,
+     * AddressBookBackupManager)} whose closed years are kept in {@code paymentArchive}.
+     */
+    public WorkspaceBook(AddressBookStorage addressBookStorage, AddressBookSaveWorker saveWorker,
+                         AddressBookBackupManager backupManager, PaymentArchive paymentArchive) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(paymentArchive);
+        this.addressBookStorage = addressBookStorage;
+        this.saveWorker = saveWorker;
+        this.backupManager = backupManager;
+        this.paymentArchive = paymentArchive;
+    }
+
+    public AddressBookStorage getAddressBookStorage() {
+        return addressBookStorage;
+    }
+
+    public AddressBookSaveWorker getSaveWorker() {
+        return saveWorker;
+    }
+
+    public AddressBookBackupManager getBackupManager() {
+        return backupManager;
+    }
+
+    public PaymentArchive getPaymentArchive() {
+        return paymentArchive;
+    }
+}
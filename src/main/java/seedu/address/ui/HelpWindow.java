@@ -81,6 +81,8 @@ public class HelpWindow extends UiPart<Stage> {
         addHeader("System Commands");
         addBullet("undo — revert the last change");
         addBullet("redo — reapply the last undone change");
+        addBullet("restore [BACKUP_ID] — list the backups, or restore one");
+        addBullet("book [NAME] — list the books, or switch to one");
         addBullet("help — show this help window");
         addBullet("exit — close the application");
     }
@@ -63,9 +63,8 @@ public class PersonCard extends UiPart<Region> {
             archivedLabel.setVisible(false);
         }
 
-        // Latest payment line (by date)
-        String latest = person.getPayments().stream()
-                .max(Comparator.comparing(p -> p.getDate()))
+        // Latest payment line (by date, then by time recorded)
+        String latest = person.getLatestPayment()
                 .map(p -> {
                     String remark = (p.getRemarks() == null || p.getRemarks().isBlank())
                             ? "" : " for " + p.getRemarks();
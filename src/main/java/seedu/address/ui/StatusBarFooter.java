@@ -5,7 +5,9 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
+import seedu.address.logic.AddressBookLoader;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -16,13 +18,48 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label loadStatus;
+    @FXML
+    private ProgressBar loadProgress;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
+        setSaveLocation(saveLocation);
+    }
+
+    /**
+     * Shows {@code saveLocation} as the location the data is saved to.
+     */
+    public void setSaveLocation(Path saveLocation) {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code loadedCount} of {@code totalCount} members have been loaded, or that the data file is still
+     * being read if {@code totalCount} is {@link AddressBookLoader#UNKNOWN_TOTAL}. The progress is hidden once all
+     * members have been loaded.
+     */
+    public void showLoadProgress(int loadedCount, int totalCount) {
+        boolean isLoading = loadedCount != totalCount;
+        loadStatus.setVisible(isLoading);
+        loadStatus.setManaged(isLoading);
+        loadProgress.setVisible(isLoading);
+        loadProgress.setManaged(isLoading);
+        if (!isLoading) {
+            return;
+        }
+
+        if (totalCount == AddressBookLoader.UNKNOWN_TOTAL) {
+            loadStatus.setText("Reading data file...");
+            loadProgress.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        } else {
+            loadStatus.setText(String.format("Loaded %d of %d members", loadedCount, totalCount));
+            loadProgress.setProgress((double) loadedCount / totalCount);
+        }
+    }
+
 }
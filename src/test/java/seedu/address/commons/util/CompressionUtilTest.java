@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
+
+public class CompressionUtilTest {
+
+    private static final byte[] CONTENT = "{ \"persons\" : [ { \"name\" : \"Alice\" }, { \"name\" : \"Bob\" } ] }"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static byte[] compress(Compression compression, int compressionLevel) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressionUtil.compressing(compression, compressionLevel, stream -> stream.write(CONTENT))
+                .writeContent(out);
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] bytes) throws IOException {
+        try (InputStream in = CompressionUtil.decompressIfCompressed(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[16];
+            for (int count = in.read(buffer); count != -1; count = in.read(buffer)) {
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Test
+    public void compressing_none_contentUnchanged() throws Exception {
+        assertArrayEquals(CONTENT, compress(Compression.NONE, StorageSettings.DEFAULT_COMPRESSION_LEVEL));
+    }
+
+    @Test
+    public void decompressIfCompressed_allCompressionsAndLevels_roundTrip() throws Exception {
+        for (Compression compression : Compression.values()) {
+            for (int level : new int[] {StorageSettings.DEFAULT_COMPRESSION_LEVEL, 0, 1, 9}) {
+                byte[] compressed = compress(compression, level);
+                assertEquals(compression, CompressionUtil.detectCompression(
+                        Byte.toUnsignedInt(compressed[0]), Byte.toUnsignedInt(compressed[1])));
+                assertArrayEquals(CONTENT, decompress(compressed));
+            }
+        }
+    }
+
+    @Test
+    public void decompressIfCompressed_shortContent_contentUnchanged() throws Exception {
+        assertArrayEquals(new byte[0], decompress(new byte[0]));
+        assertArrayEquals(new byte[] {'{'}, decompress(new byte[] {'{'}));
+    }
+
+    @Test
+    public void detectCompression_plainJsonStarts_none() {
+        for (char first : new char[] {'{', '[', ' ', '\n', '\r', '\t'}) {
+            assertEquals(Compression.NONE, CompressionUtil.detectCompression(first, '"'));
+            assertEquals(Compression.NONE, CompressionUtil.detectCompression(first, ' '));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_plainFields_split() throws Exception {
+        assertEquals(List.of("a", "b c", "", "d"), CsvUtil.splitLine("a,b c,,d"));
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+        assertEquals(List.of("a", ""), CsvUtil.splitLine("a,"));
+    }
+
+    @Test
+    public void splitLine_quotedFields_quotesRemoved() throws Exception {
+        assertEquals(List.of("Lee, Ann", "say \"hi\"", ""), CsvUtil.splitLine("\"Lee, Ann\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitLine_badQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitLine("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.splitLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void joinLine_roundTrip() throws Exception {
+        List<String> fields = List.of("plain", "Lee, Ann", "say \"hi\"", "");
+        assertEquals(fields, CsvUtil.splitLine(CsvUtil.joinLine(fields)));
+        assertEquals("a,,\"two lines\"", CsvUtil.joinLine(Arrays.asList("a", null, "two\nlines")));
+    }
+}
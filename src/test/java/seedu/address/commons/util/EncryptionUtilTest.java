@@ -0,0 +1,138 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EncryptionUtilTest {
+
+    // Few rounds keep the tests fast; the number of rounds is stored in each file
+    private static final int TEST_ITERATIONS = 1000;
+    private static final Passphrase PASSPHRASE = new Passphrase("correct horse".toCharArray(), TEST_ITERATIONS);
+    private static final byte[] CONTENT = "{ \"persons\" : [ { \"name\" : \"Alice\" } ] }"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    private static byte[] encrypt(byte[] content, Passphrase passphrase) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EncryptionUtil.encrypting(passphrase, stream -> stream.write(content)).writeContent(out);
+        return out.toByteArray();
+    }
+
+    private static byte[] decrypt(byte[] bytes, Passphrase passphrase) throws IOException {
+        try (InputStream in = EncryptionUtil.decryptIfEncrypted(new ByteArrayInputStream(bytes), passphrase)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] randomContent(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+    @Test
+    public void decryptIfEncrypted_sizesAroundChunks_roundTrip() throws Exception {
+        int chunk = EncryptionUtil.CHUNK_SIZE;
+        for (int length : new int[] {0, 1, chunk - 1, chunk, chunk + 1, 2 * chunk, 3 * chunk + 17}) {
+            byte[] content = randomContent(length);
+            assertArrayEquals(content, decrypt(encrypt(content, PASSPHRASE), PASSPHRASE));
+        }
+    }
+
+    @Test
+    public void encrypting_sameContent_differentCiphertextAndNoPlainText() throws Exception {
+        byte[] first = encrypt(CONTENT, PASSPHRASE);
+        assertFalse(Arrays.equals(first, encrypt(CONTENT, PASSPHRASE)));
+        assertFalse(new String(first, StandardCharsets.ISO_8859_1).contains("Alice"));
+    }
+
+    @Test
+    public void decryptIfEncrypted_plainContent_contentUnchanged() throws Exception {
+        assertArrayEquals(CONTENT, decrypt(CONTENT, null));
+        assertArrayEquals(new byte[0], decrypt(new byte[0], PASSPHRASE));
+    }
+
+    @Test
+    public void decryptIfEncrypted_noPassphrase_throwsIoException() throws Exception {
+        byte[] encrypted = encrypt(CONTENT, PASSPHRASE);
+        IOException e = assertThrows(IOException.class, () -> decrypt(encrypted, null));
+        assertEquals(EncryptionUtil.MESSAGE_NO_PASSPHRASE, e.getMessage());
+    }
+
+    @Test
+    public void decryptIfEncrypted_wrongPassphrase_throwsIoException() throws Exception {
+        byte[] encrypted = encrypt(CONTENT, PASSPHRASE);
+        Passphrase wrong = new Passphrase("wrong horse".toCharArray(), TEST_ITERATIONS);
+        IOException e = assertThrows(IOException.class, () -> decrypt(encrypted, wrong));
+        assertEquals(EncryptionUtil.MESSAGE_CANNOT_DECRYPT, e.getMessage());
+    }
+
+    @Test
+    public void decryptIfEncrypted_otherPassphraseObjectSamePassphrase_success() throws Exception {
+        // Another run of the app derives the key again from the salt in the file
+        Passphrase same = new Passphrase("correct horse".toCharArray(), TEST_ITERATIONS);
+        assertArrayEquals(CONTENT, decrypt(encrypt(CONTENT, PASSPHRASE), same));
+    }
+
+    @Test
+    public void decryptIfEncrypted_changedByte_throwsIoException() throws Exception {
+        byte[] encrypted = encrypt(randomContent(2 * EncryptionUtil.CHUNK_SIZE), PASSPHRASE);
+        encrypted[encrypted.length - 100] ^= 1;
+        assertThrows(IOException.class, () -> decrypt(encrypted, PASSPHRASE));
+    }
+
+    @Test
+    public void decryptIfEncrypted_lastChunkDropped_throwsIoException() throws Exception {
+        byte[] content = randomContent(EncryptionUtil.CHUNK_SIZE + 10);
+        byte[] encrypted = encrypt(content, PASSPHRASE);
+        // Cut right after the first, full chunk, which was not encrypted as the last one
+        byte[] truncated = Arrays.copyOf(encrypted, encrypted.length - 10 - 16);
+        assertThrows(IOException.class, () -> decrypt(truncated, PASSPHRASE));
+    }
+
+    @Test
+    public void decryptIfEncrypted_headerOnly_throwsIoException() throws Exception {
+        byte[] encrypted = encrypt(new byte[0], PASSPHRASE);
+        byte[] headerOnly = Arrays.copyOf(encrypted, encrypted.length - 16);
+        assertThrows(IOException.class, () -> decrypt(headerOnly, PASSPHRASE));
+    }
+
+    @Test
+    public void isEncrypted() throws Exception {
+        Path encryptedFile = testFolder.resolve("encrypted");
+        Path plainFile = testFolder.resolve("plain");
+        Files.write(encryptedFile, encrypt(CONTENT, PASSPHRASE));
+        Files.write(plainFile, CONTENT);
+        assertTrue(EncryptionUtil.isEncrypted(encryptedFile));
+        assertFalse(EncryptionUtil.isEncrypted(plainFile));
+        assertFalse(EncryptionUtil.isEncrypted(testFolder.resolve("missing")));
+    }
+
+    @Test
+    public void decryptLine_encryptedLine_roundTrip() throws Exception {
+        String line = EncryptionUtil.encryptToLine("{\"name\":\"Alice\"}", PASSPHRASE);
+        assertFalse(line.contains("\n"));
+        assertEquals("{\"name\":\"Alice\"}", EncryptionUtil.decryptLine(line, PASSPHRASE));
+        assertThrows(IOException.class, () -> EncryptionUtil.decryptLine(line, null));
+        assertThrows(IOException.class, () -> EncryptionUtil.decryptLine("{\"name\":\"Alice\"}", PASSPHRASE));
+        assertThrows(IOException.class, () -> EncryptionUtil.decryptLine(line.substring(0, 40), PASSPHRASE));
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
@@ -17,6 +21,9 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +46,87 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJsonFileAtomically_pretty_sameAsJsonString() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.writeJsonFileAtomically(SERIALIZATION_FILE, false,
+                generator -> JsonUtil.writeValue(generator, serializableTestClass));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void writeJsonFileAtomically_compact_sameAsCompactJsonString() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.writeJsonFileAtomically(SERIALIZATION_FILE, true,
+                generator -> JsonUtil.writeValue(generator, serializableTestClass));
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void writeJsonFileAtomically_writeFails_existingFileUntouched() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IOException.class, () -> JsonUtil.writeJsonFileAtomically(SERIALIZATION_FILE, false,
+                generator -> {
+                    generator.writeStartObject();
+                    throw new IOException("interrupted");
+                }));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(SERIALIZATION_FILE.resolveSibling("serialize.json.tmp")));
+    }
+
+    @Test
+    public void saveJsonFile_unchangedContent_writeAvoided() throws Exception {
+        Path file = testFolder.resolve("prefs.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        long avoidedWriteCount = JsonUtil.getAvoidedWriteCount();
+
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+
+        assertEquals(avoidedWriteCount + 1, JsonUtil.getAvoidedWriteCount());
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void saveJsonFile_sameContentAsRead_writeAvoided() throws Exception {
+        Path file = testFolder.resolve("prefs.json");
+        FileUtil.writeToFile(file, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        SerializableTestClass read = JsonUtil.readJsonFile(file, SerializableTestClass.class).get();
+        long avoidedWriteCount = JsonUtil.getAvoidedWriteCount();
+
+        JsonUtil.saveJsonFile(read, file);
+
+        assertEquals(avoidedWriteCount + 1, JsonUtil.getAvoidedWriteCount());
+    }
+
+    @Test
+    public void saveJsonFile_fileChangedOrDeleted_written() throws Exception {
+        Path file = testFolder.resolve("prefs.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        long avoidedWriteCount = JsonUtil.getAvoidedWriteCount();
+
+        FileUtil.writeToFile(file, "{}");
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+
+        Files.delete(file);
+        JsonUtil.saveJsonFile(serializableTestClass, file);
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(file));
+
+        assertEquals(avoidedWriteCount, JsonUtil.getAvoidedWriteCount());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
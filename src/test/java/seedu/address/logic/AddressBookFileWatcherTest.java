@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PaymentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Model model;
+    private List<Runnable> pending;
+    private AddressBookFileWatcher watcher;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(filePath);
+        pending = new ArrayList<>();
+        watcher = new AddressBookFileWatcher(model, filePath, pending::add);
+        watcher.readInitialContents();
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookFileWatcher(null, filePath));
+        assertThrows(NullPointerException.class, () -> new AddressBookFileWatcher(model, null));
+    }
+
+    @Test
+    public void reload_externalChanges_onlyChangedPersonsApplied() throws Exception {
+        AddressBook changed = getTypicalAddressBook();
+        Person editedCarl = new PersonBuilder(CARL).withPhone("81234567").build();
+        Person paidBenson = BENSON.withAddedPayment(new PaymentBuilder().withAmount("5.00").build());
+        changed.setPerson(CARL, editedCarl);
+        changed.setPerson(BENSON, paidBenson);
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+        Person unchangedAlice = model.getAddressBook().getPersonList().get(0);
+
+        watcher.reload();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook()); // not applied until the model thread runs
+
+        pending.forEach(Runnable::run);
+        assertEquals(changed, model.getAddressBook());
+        assertEquals(paidBenson.getPayments(), model.getAddressBook().getPersonList().get(1).getPayments());
+        assertTrue(unchangedAlice == model.getAddressBook().getPersonList().get(0));
+    }
+
+    @Test
+    public void reload_personsEditedInApp_keptAsEdited() throws Exception {
+        Person aliceEditedInApp = new PersonBuilder(ALICE).withPhone("90000001").build();
+        model.setPerson(ALICE, aliceEditedInApp);
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("90000002").build());
+        Person editedCarl = new PersonBuilder(CARL).withPhone("81234567").build();
+        changed.setPerson(CARL, editedCarl);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+        watcher.reload();
+        pending.forEach(Runnable::run);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, aliceEditedInApp);
+        expected.setPerson(CARL, editedCarl);
+        assertEquals(expected, model.getAddressBook());
+    }
+
+    @Test
+    public void reload_olderStateSavedByApp_newerEditsKept() throws Exception {
+        Person firstEdit = new PersonBuilder(BENSON).withPhone("81111111").build();
+        Person secondEdit = new PersonBuilder(BENSON).withPhone("82222222").build();
+        model.setPerson(BENSON, firstEdit);
+        new JsonAddressBookStorage(filePath).saveAddressBook(model.getAddressBook());
+        model.setPerson(firstEdit, secondEdit);
+        AddressBook expected = new AddressBook(model.getAddressBook());
+
+        watcher.reload();
+        pending.forEach(Runnable::run);
+
+        assertEquals(expected, model.getAddressBook());
+    }
+
+    @Test
+    public void reload_unreadableFile_ignoredUntilReadable() throws Exception {
+        FileUtil.writeToFile(filePath, "{ \"persons\": [");
+        watcher.reload();
+        assertTrue(pending.isEmpty());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+        watcher.reload();
+        pending.forEach(Runnable::run);
+
+        assertEquals(changed, model.getAddressBook());
+    }
+
+    @Test
+    public void reload_otherBookOpen_notApplied() throws Exception {
+        model.setAddressBookFilePath(testFolder.resolve("other.json"));
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+        watcher.reload();
+        pending.forEach(Runnable::run);
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void reload_unchangedFile_nothingApplied() {
+        watcher.reload();
+        assertTrue(pending.isEmpty());
+    }
+}
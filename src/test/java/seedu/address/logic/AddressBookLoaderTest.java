@@ -0,0 +1,174 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WorkspaceBook;
+
+public class AddressBookLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookLoader(null, createStorage("ab.json")));
+        assertThrows(NullPointerException.class, () -> new AddressBookLoader(new ModelManager(), null));
+    }
+
+    @Test
+    public void load_typicalAddressBook_addsPersonsInBatches() throws Exception {
+        StorageManager storage = createStorage("ab.json");
+        storage.saveAddressBook(getTypicalAddressBook());
+        Model model = new ModelManager();
+        AddressBookLoader loader = new AddressBookLoader(model, storage, 3, Runnable::run);
+        List<int[]> progress = new ArrayList<>();
+        loader.setProgressListener((loadedCount, totalCount) -> progress.add(new int[] {loadedCount, totalCount}));
+
+        assertFalse(loader.isLoaded());
+        loader.load();
+
+        assertTrue(loader.isLoaded());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        int total = getTypicalAddressBook().getPersonList().size();
+        assertEquals(Arrays.asList(0, AddressBookLoader.UNKNOWN_TOTAL), toList(progress.get(0)));
+        assertEquals(Arrays.asList(3, total), toList(progress.get(1)));
+        assertEquals(Arrays.asList(total, total), toList(progress.get(progress.size() - 1)));
+    }
+
+    @Test
+    public void load_modelThreadNotRun_notLoaded() throws Exception {
+        StorageManager storage = createStorage("ab.json");
+        storage.saveAddressBook(getTypicalAddressBook());
+        Model model = new ModelManager();
+        List<Runnable> pending = new ArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader(model, storage, 100, pending::add);
+
+        loader.load();
+        assertFalse(loader.isLoaded());
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        pending.forEach(Runnable::run);
+        assertTrue(loader.isLoaded());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void whenLoaded_beforeAndAfterLoading_runOnceLoaded() throws Exception {
+        StorageManager storage = createStorage("ab.json");
+        storage.saveAddressBook(getTypicalAddressBook());
+        Model model = new ModelManager();
+        AddressBookLoader loader = new AddressBookLoader(model, storage, 3, Runnable::run);
+        List<Integer> personCounts = new ArrayList<>();
+        Runnable countPersons = () -> personCounts.add(model.getAddressBook().getPersonList().size());
+
+        loader.whenLoaded(countPersons);
+        assertTrue(personCounts.isEmpty());
+
+        loader.load();
+        loader.whenLoaded(countPersons);
+        int total = getTypicalAddressBook().getPersonList().size();
+        assertEquals(Arrays.asList(total, total), personCounts);
+    }
+
+    @Test
+    public void preload_otherBooks_cachedInModel() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path chessPath = testFolder.resolve("chess.json");
+        Path invalidPath = testFolder.resolve("invalid.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(chessPath).saveAddressBook(new AddressBook());
+        Files.write(invalidPath, "not json".getBytes());
+        StorageManager storage = new StorageManager(filePath,
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")),
+                bookFilePath -> new WorkspaceBook(new JsonAddressBookStorage(bookFilePath), null, null));
+        Model model = new ModelManager();
+        model.setAddressBookFilePath(filePath);
+        AddressBookLoader loader = new AddressBookLoader(model, storage, 3, Runnable::run);
+
+        loader.preload(filePath);
+
+        assertEquals(new AddressBook(), model.getCachedAddressBook(chessPath).get());
+        assertFalse(model.getCachedAddressBook(invalidPath).isPresent());
+        assertFalse(model.getCachedAddressBook(filePath).isPresent());
+    }
+
+    @Test
+    public void load_missingFile_loadsSampleData() {
+        Model model = new ModelManager();
+        AddressBookLoader loader = new AddressBookLoader(model, createStorage("missing.json"), 2, Runnable::run);
+        loader.load();
+
+        assertTrue(loader.isLoaded());
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void load_damagedFile_intactPersonsLoadedAndReported() throws Exception {
+        StorageManager storage = createStorage("ab.json");
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path filePath = storage.getAddressBookFilePath();
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getEmail().value, "not an email"));
+        Model model = new ModelManager();
+        List<String> reports = new ArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader(model, storage, 2, Runnable::run);
+        loader.setLoadReportHandler(reports::add);
+
+        loader.load();
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        assertEquals(expected, model.getAddressBook());
+        assertEquals(1, reports.size());
+        assertTrue(reports.get(0).startsWith(String.format(AddressBookLoader.MESSAGE_SALVAGED, 1,
+                filePath + ".quarantine")));
+
+        // The data file is repaired
+        assertEquals(expected, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void load_invalidFile_loadsEmptyAddressBook() throws IOException {
+        Path filePath = testFolder.resolve("invalid.json");
+        Files.write(filePath, "not json".getBytes());
+        Model model = new ModelManager();
+        List<int[]> progress = new ArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader(model, createStorage("invalid.json"), 2, Runnable::run);
+        loader.setProgressListener((loadedCount, totalCount) -> progress.add(new int[] {loadedCount, totalCount}));
+        loader.load();
+
+        assertTrue(loader.isLoaded());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(Arrays.asList(0, 0), toList(progress.get(progress.size() - 1)));
+    }
+
+    private StorageManager createStorage(String fileName) {
+        return new StorageManager(new JsonAddressBookStorage(testFolder.resolve(fileName)),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+
+    private static List<Integer> toList(int[] progress) {
+        return Arrays.asList(progress[0], progress[1]);
+    }
+}
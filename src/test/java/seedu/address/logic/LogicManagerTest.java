@@ -19,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddMemberCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -88,6 +89,46 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandNotChangingData_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_stillLoading_throwsCommandException() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // The batches are never run on the model thread, so loading never finishes
+        AddressBookLoader loader = new AddressBookLoader(model, storage, 1, runnable -> { });
+        loader.load();
+        logic = new LogicManager(model, storage, loader);
+
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_STILL_LOADING);
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_loaded_success() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookLoader loader = new AddressBookLoader(new ModelManager(), storage, 1, Runnable::run);
+        loader.load();
+        logic = new LogicManager(model, storage, loader);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
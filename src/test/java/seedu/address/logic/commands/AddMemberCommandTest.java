@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -125,6 +127,26 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> getCachedAddressBook(Path addressBookFilePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cacheAddressBook(Path addressBookFilePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void switchAddressBook(Path addressBookFilePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -175,6 +197,11 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void clearHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canRedo() {
             throw new AssertionError("This method should not be called.");
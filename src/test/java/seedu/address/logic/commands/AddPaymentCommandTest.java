@@ -278,6 +278,21 @@ public class AddPaymentCommandTest {
         @Override public void addPerson(Person person) {
             throw new AssertionError();
         }
+        @Override public void addPersons(List<Person> persons) {
+            throw new AssertionError();
+        }
+        @Override public java.util.Optional<seedu.address.model.ReadOnlyAddressBook> getCachedAddressBook(
+                java.nio.file.Path addressBookFilePath) {
+            throw new AssertionError();
+        }
+        @Override public void cacheAddressBook(
+                java.nio.file.Path addressBookFilePath, seedu.address.model.ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
+        @Override public void switchAddressBook(
+                java.nio.file.Path addressBookFilePath, seedu.address.model.ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
         @Override public boolean hasPerson(Person person) {
             throw new AssertionError();
         }
@@ -328,6 +343,11 @@ public class AddPaymentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void clearHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canRedo() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WorkspaceBook;
+
+public class BookCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Storage storage;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new StorageManager(filePath, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                bookFilePath -> new WorkspaceBook(new JsonAddressBookStorage(bookFilePath), null, null));
+        storage.saveAddressBook(getTypicalAddressBook());
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(filePath);
+    }
+
+    @Test
+    public void execute_noStorage_throwsCommandException() {
+        assertThrows(CommandException.class, BookCommand.MESSAGE_NO_WORKSPACE, () ->
+                new BookCommand("chess").execute(model));
+    }
+
+    @Test
+    public void execute_singleAddressBookStorage_throwsCommandException() {
+        Storage singleStorage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        assertThrows(CommandException.class, BookCommand.MESSAGE_NO_WORKSPACE, () ->
+                new BookCommand("chess").execute(model, singleStorage));
+        assertEquals(filePath, model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_list_openBookFirst() throws Exception {
+        new JsonAddressBookStorage(testFolder.resolve("chess.json")).saveAddressBook(new AddressBook());
+
+        String feedback = BookCommand.forListing().execute(model, storage).getFeedbackToUser();
+        assertEquals(BookCommand.MESSAGE_LIST_HEADER + String.format("%naddressbook (open)%nchess"), feedback);
+    }
+
+    @Test
+    public void execute_newBook_createdAndSwitchedTo() throws Exception {
+        Path chessPath = testFolder.resolve("chess.json");
+
+        CommandResult result = new BookCommand("chess").execute(model, storage);
+
+        assertEquals(String.format(BookCommand.MESSAGE_CREATED, "chess"), result.getFeedbackToUser());
+        assertEquals(chessPath, model.getAddressBookFilePath());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(chessPath, storage.getAddressBookFilePath());
+        assertTrue(Files.exists(chessPath));
+        assertEquals(getTypicalAddressBook(), model.getCachedAddressBook(filePath).get());
+    }
+
+    @Test
+    public void execute_existingBook_switchedTo() throws Exception {
+        AddressBook chess = new AddressBook();
+        chess.addPerson(ALICE);
+        new JsonAddressBookStorage(testFolder.resolve("chess.json")).saveAddressBook(chess);
+
+        CommandResult result = new BookCommand("chess").execute(model, storage);
+        assertEquals(String.format(BookCommand.MESSAGE_SWITCHED, "chess", 1), result.getFeedbackToUser());
+        assertEquals(chess, model.getAddressBook());
+
+        // Switching back uses the book kept in memory
+        Files.delete(filePath);
+        new BookCommand("addressbook").execute(model, storage);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(filePath, storage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_openBook_throwsCommandException() {
+        assertThrows(CommandException.class, String.format(BookCommand.MESSAGE_ALREADY_OPEN, "addressbook"), () ->
+                new BookCommand("addressbook").execute(model, storage));
+    }
+
+    @Test
+    public void execute_unreadableBook_throwsCommandException() throws Exception {
+        Files.write(testFolder.resolve("chess.json"), "not json".getBytes());
+
+        assertThrows(CommandException.class, () -> new BookCommand("chess").execute(model, storage));
+        assertEquals(filePath, model.getAddressBookFilePath());
+        assertEquals(filePath, storage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new BookCommand("chess").isMutating());
+        assertFalse(BookCommand.forListing().isMutating());
+    }
+
+    @Test
+    public void equals() {
+        BookCommand chessCommand = new BookCommand("chess");
+
+        assertTrue(chessCommand.equals(chessCommand));
+        assertTrue(chessCommand.equals(new BookCommand("chess")));
+        assertTrue(BookCommand.forListing().equals(BookCommand.forListing()));
+
+        assertFalse(chessCommand.equals(null));
+        assertFalse(chessCommand.equals(new BookCommand("rowing")));
+        assertFalse(chessCommand.equals(BookCommand.forListing()));
+        assertFalse(chessCommand.equals(new UndoCommand()));
+    }
+}
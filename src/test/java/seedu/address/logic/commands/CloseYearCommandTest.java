@@ -0,0 +1,168 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ExportCommand.Members;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PaymentExporter.Format;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class CloseYearCommandTest {
+
+    private static final Payment DUES_2023 = payment("30", LocalDate.of(2023, 8, 1), "dues");
+    private static final Payment SHIRT_2024 = payment("12.50", LocalDate.of(2024, 12, 31), "shirt");
+    private static final Payment DUES_2025 = payment("30", LocalDate.of(2025, 1, 1), "dues");
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Storage storage;
+
+    private static Payment payment(String amount, LocalDate date, String remarks) {
+        return new Payment(Amount.parse(amount), date, remarks, date.atTime(9, 0));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Ann Lee").withMatriculationNumber("A1234567X")
+                .withPayments(DUES_2023, SHIRT_2024, DUES_2025).build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob Tan").withMatriculationNumber("A7654321Y")
+                .withPayments(DUES_2025).build());
+        model = new ModelManager(addressBook, new UserPrefs());
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void execute_endedYear_paymentsArchived() throws Exception {
+        model.saveSnapshot();
+        CommandResult result = new CloseYearCommand(2024).execute(model, storage);
+
+        assertEquals(String.format(CloseYearCommand.MESSAGE_SUCCESS, 2024, 2, 1, "42.50"),
+                result.getFeedbackToUser());
+        Person ann = model.getAddressBook().getPersonList().get(0);
+        assertEquals(List.of(DUES_2025), ann.getPayments());
+        assertEquals(List.of(DUES_2025), model.getAddressBook().getPersonList().get(1).getPayments());
+        assertEquals(List.of(DUES_2023, SHIRT_2024),
+                storage.readArchivedPayments(ann.getMatriculationNumber(), 2023));
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_endedYear_addressBookSavedWithoutArchivedPayments() throws Exception {
+        new CloseYearCommand(2024).execute(model, storage);
+
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertEquals(List.of(DUES_2025), saved.getPersonList().get(0).getPayments());
+    }
+
+    @Test
+    public void execute_addressBookNotSaved_yearReopened() throws Exception {
+        Path dataFile = Files.createDirectory(testFolder.resolve("addressbook.json"));
+        Files.createFile(dataFile.resolve("other"));
+        AddressBook before = new AddressBook(model.getAddressBook());
+
+        assertThrows(CommandException.class, () -> new CloseYearCommand(2024).execute(model, storage));
+        assertTrue(storage.getClosedYears().isEmpty());
+        assertEquals(before, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_yearNotEnded_throwsCommandException() {
+        int year = LocalDate.now().getYear();
+        assertThrows(CommandException.class, String.format(CloseYearCommand.MESSAGE_NOT_ENDED, year), () ->
+                new CloseYearCommand(year).execute(model, storage));
+    }
+
+    @Test
+    public void execute_yearAlreadyClosed_throwsCommandException() throws Exception {
+        new CloseYearCommand(2024).execute(model, storage);
+        assertThrows(CommandException.class, String.format(CloseYearCommand.MESSAGE_ALREADY_CLOSED, 2024), () ->
+                new CloseYearCommand(2023).execute(model, storage));
+    }
+
+    @Test
+    public void execute_noStorage_throwsCommandException() {
+        assertThrows(CommandException.class, CloseYearCommand.MESSAGE_NO_STORAGE, () ->
+                new CloseYearCommand(2024).execute(model));
+    }
+
+    @Test
+    public void viewPayment_closedYear_showsArchivedTotalsAndPayments() throws Exception {
+        new CloseYearCommand(2024).execute(model, storage);
+
+        String feedback = new ViewPaymentCommand(Index.fromOneBased(1)).execute(model, storage)
+                .getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ViewPaymentCommand.MESSAGE_ARCHIVED_TOTALS,
+                String.format(ViewPaymentCommand.MESSAGE_ARCHIVED_TOTAL, 2024, 2, "42.50"))));
+
+        feedback = ViewPaymentCommand.forYear(Index.fromOneBased(1), 2024).execute(model, storage)
+                .getFeedbackToUser();
+        assertTrue(feedback.contains("- " + SHIRT_2024));
+        assertFalse(feedback.contains("- " + DUES_2023));
+        assertEquals(String.format(ViewPaymentCommand.MESSAGE_NO_PAYMENTS_IN_YEAR, "Bob Tan", 2024),
+                ViewPaymentCommand.forYear(Index.fromOneBased(2), 2024).execute(model, storage)
+                        .getFeedbackToUser());
+    }
+
+    @Test
+    public void findPayment_closedYear_findsArchivedPayments() throws Exception {
+        new CloseYearCommand(2024).execute(model, storage);
+
+        FindPaymentCommand findDues = new FindPaymentCommand(Index.fromOneBased(1), null, "dues", null);
+        String feedback = findDues.execute(model, storage).getFeedbackToUser();
+        assertTrue(feedback.contains("2023-08-01"));
+        assertTrue(feedback.contains("2025-01-01"));
+        assertFalse(findDues.execute(model).getFeedbackToUser().contains("2023-08-01"));
+    }
+
+    @Test
+    public void export_closedYear_archivedPaymentsInRangeExported() throws Exception {
+        new CloseYearCommand(2024).execute(model, storage);
+
+        Path file = testFolder.resolve("payments.csv");
+        new ExportCommand(file, Format.CSV, LocalDate.of(2024, 1, 1), null, Members.ALL).execute(model, storage)
+                .getFollowUp().orElseThrow().toCompletableFuture().join();
+        assertEquals(List.of("matric,amount,date,remarks,recordedAt",
+                "A1234567X,12.50,2024-12-31,shirt,2024-12-31T09:00",
+                "A1234567X,30.00,2025-01-01,dues,2025-01-01T09:00",
+                "A7654321Y,30.00,2025-01-01,dues,2025-01-01T09:00"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void equals() {
+        CloseYearCommand closeYear = new CloseYearCommand(2024);
+        assertTrue(closeYear.equals(closeYear));
+        assertTrue(closeYear.equals(new CloseYearCommand(2024)));
+        assertFalse(closeYear.equals(new CloseYearCommand(2023)));
+        assertFalse(closeYear.equals(null));
+        assertFalse(closeYear.equals(2024));
+    }
+}
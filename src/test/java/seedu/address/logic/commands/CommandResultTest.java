@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -60,4 +62,14 @@ public class CommandResultTest {
                 + ", exit=" + commandResult.isExit() + "}";
         assertEquals(expected, commandResult.toString());
     }
+
+    @Test
+    public void getFollowUp() {
+        assertTrue(new CommandResult("feedback").getFollowUp().isEmpty());
+
+        CompletableFuture<String> followUp = new CompletableFuture<>();
+        CommandResult commandResult = new CommandResult("feedback", followUp);
+        assertEquals(followUp, commandResult.getFollowUp().orElseThrow());
+        assertFalse(commandResult.isShowHelp() || commandResult.isExit());
+    }
 }
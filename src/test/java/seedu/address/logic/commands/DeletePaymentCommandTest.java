@@ -147,6 +147,25 @@ public class DeletePaymentCommandTest {
             throw new AssertionError();
         }
 
+        @Override public void addPersons(List<Person> persons) {
+            throw new AssertionError();
+        }
+
+        @Override public java.util.Optional<ReadOnlyAddressBook> getCachedAddressBook(
+                java.nio.file.Path addressBookFilePath) {
+            throw new AssertionError();
+        }
+
+        @Override public void cacheAddressBook(
+                java.nio.file.Path addressBookFilePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
+
+        @Override public void switchAddressBook(
+                java.nio.file.Path addressBookFilePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
+
         @Override public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError();
         }
@@ -175,6 +194,10 @@ public class DeletePaymentCommandTest {
             throw new AssertionError();
         }
 
+        @Override public void clearHistory() {
+            throw new AssertionError();
+        }
+
         @Override public boolean canRedo() {
             throw new AssertionError();
         }
@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Members;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PaymentExporter.Format;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Storage storage;
+
+    private static Payment payment(String amount, LocalDate date) {
+        return new Payment(Amount.parse(amount), date, null, date.atTime(9, 0));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Ann Lee").withMatriculationNumber("A1234567X")
+                .withPayments(payment("10", LocalDate.of(2024, 12, 31)), payment("20", LocalDate.of(2025, 1, 1)),
+                        payment("30", LocalDate.of(2025, 6, 30)), payment("40", LocalDate.of(2025, 7, 1)))
+                .build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob Tan").withMatriculationNumber("A7654321Y")
+                .withPayments(payment("50", LocalDate.of(2025, 3, 1))).build().withArchived(true));
+        model = new ModelManager(addressBook, new UserPrefs());
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    private String exportAndWait(ExportCommand command, int memberCount, Path file) throws Exception {
+        CommandResult result = command.execute(model, storage);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, memberCount, file), result.getFeedbackToUser());
+        return result.getFollowUp().orElseThrow().toCompletableFuture().join();
+    }
+
+    @Test
+    public void execute_dateRangeAndActiveMembers_matchingPaymentsExported() throws Exception {
+        Path file = testFolder.resolve("payments.csv");
+        ExportCommand command = new ExportCommand(file, Format.CSV, LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 6, 30), Members.ACTIVE);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, file), exportAndWait(command, 1, file));
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(List.of("matric,amount,date,remarks,recordedAt",
+                "A1234567X,20.00,2025-01-01,,2025-01-01T09:00",
+                "A1234567X,30.00,2025-06-30,,2025-06-30T09:00"), lines);
+    }
+
+    @Test
+    public void execute_archivedMembers_onlyTheirPaymentsExported() throws Exception {
+        Path file = testFolder.resolve("payments.jsonl");
+        ExportCommand command = new ExportCommand(file, Format.JSONL, null, null, Members.ARCHIVED);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), exportAndWait(command, 1, file));
+        assertEquals(List.of("{\"matric\":\"A7654321Y\",\"amount\":\"50.00\",\"date\":\"2025-03-01\","
+                + "\"recordedAt\":\"2025-03-01T09:00\"}"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_unwritableFile_failureReported() throws Exception {
+        Path file = Files.createDirectory(testFolder.resolve("payments.csv"));
+        Files.createFile(file.resolve("other"));
+
+        String followUp = exportAndWait(new ExportCommand(file, Format.CSV, null, null, Members.ALL), 2, file);
+        assertTrue(followUp.startsWith(String.format(ExportCommand.MESSAGE_FAILED, file, "")));
+    }
+
+    @Test
+    public void execute_noStorage_throwsCommandException() {
+        assertThrows(CommandException.class, ExportCommand.MESSAGE_NO_STORAGE, () ->
+                new ExportCommand(Path.of("a.csv"), Format.CSV, null, null, Members.ALL).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand command = new ExportCommand(Path.of("a.csv"), Format.CSV, LocalDate.of(2025, 1, 1), null,
+                Members.ALL);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ExportCommand(Path.of("a.csv"), Format.CSV, LocalDate.of(2025, 1, 1), null,
+                Members.ALL)));
+        assertFalse(command.equals(new ExportCommand(Path.of("a.csv"), Format.CSV, null, null, Members.ALL)));
+        assertFalse(command.equals(new ExportCommand(Path.of("a.csv"), Format.CSV, LocalDate.of(2025, 1, 1), null,
+                Members.ACTIVE)));
+        assertFalse(command.equals(null));
+        assertFalse(command.isMutating());
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -183,6 +184,21 @@ public class FindPaymentCommandTest {
         @Override public void addPerson(Person person) {
             throw new AssertionError();
         }
+        @Override public void addPersons(List<Person> persons) {
+            throw new AssertionError();
+        }
+        @Override public java.util.Optional<seedu.address.model.ReadOnlyAddressBook> getCachedAddressBook(
+                java.nio.file.Path addressBookFilePath) {
+            throw new AssertionError();
+        }
+        @Override public void cacheAddressBook(
+                java.nio.file.Path addressBookFilePath, seedu.address.model.ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
+        @Override public void switchAddressBook(
+                java.nio.file.Path addressBookFilePath, seedu.address.model.ReadOnlyAddressBook addressBook) {
+            throw new AssertionError();
+        }
         @Override public boolean hasPerson(Person person) {
             throw new AssertionError();
         }
@@ -225,6 +241,9 @@ public class FindPaymentCommandTest {
         @Override public void clearRedo() {
             throw new AssertionError();
         }
+        @Override public void clearHistory() {
+            throw new AssertionError();
+        }
         @Override public boolean canRedo() {
             throw new AssertionError();
         }
@@ -0,0 +1,186 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class ImportCommandTest {
+
+    private static final String MEMBER_HEADER = "name,phone,email,matric,tags";
+    private static final String FULL_HEADER = "matric,name,phone,email,tags,amount,date,remarks";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        Path file = testFolder.resolve("import.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+
+    private Person findPerson(String matric) {
+        return model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getMatriculationNumber().equals(new MatriculationNumber(matric)))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void execute_membersAndPayments_allAdded() throws Exception {
+        Path file = writeCsv(FULL_HEADER,
+                "A1234567X,\"Ann Lee\",91234567,ann@example.com,friends;treasurer,,,",
+                "A1234567X,,,,,12.50,2025-01-02,\"shirt, size M\"",
+                "",
+                ALICE.getMatriculationNumber() + ",,,,,30,2025-02-03,");
+        int size = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 2, file), result.getFeedbackToUser());
+        assertEquals(size + 1, model.getAddressBook().getPersonList().size());
+        Person ann = findPerson("A1234567X");
+        assertEquals("Ann Lee", ann.getName().fullName);
+        assertEquals(2, ann.getTags().size());
+        assertTrue(ann.getTags().contains(new Tag("treasurer")));
+        Payment annPayment = ann.getPayments().get(0);
+        assertEquals(Amount.parse("12.50"), annPayment.getAmount());
+        assertEquals("shirt, size M", annPayment.getRemarks());
+        assertEquals(ALICE.getPaymentCount() + 1, findPerson(ALICE.getMatriculationNumber().toString())
+                .getPaymentCount());
+        // existing members keep their place, and new members come last
+        assertEquals(ALICE.getMatriculationNumber(), model.getAddressBook().getPersonList().get(0)
+                .getMatriculationNumber());
+        assertEquals(ann, model.getAddressBook().getPersonList().get(size));
+    }
+
+    @Test
+    public void execute_invalidLines_nothingImportedAndLinesReported() throws Exception {
+        Path file = writeCsv(MEMBER_HEADER,
+                "Ann Lee,91234567,ann@example.com,A1234567X,",
+                "Bob,123,bob@example.com,A7654321X,",
+                "Cat,91234567,cat@example.com,A2345678X",
+                "Ann Again,91234567,ann@example.com,A1234567X,",
+                "Alice,91234567,alice@example.com," + ALICE.getMatriculationNumber() + ",");
+        AddressBook before = new AddressBook(model.getAddressBook());
+
+        CommandException e = Assertions.assertThrows(CommandException.class, () ->
+                new ImportCommand(file).execute(model));
+
+        String[] lines = e.getMessage().split("\n");
+        assertEquals(String.format(ImportCommand.MESSAGE_INVALID_LINES, 4, file), lines[0]);
+        assertTrue(lines[1].startsWith("Line 3: "));
+        assertEquals(String.format(ImportCommand.MESSAGE_INVALID_LINE, 4,
+                String.format(ImportCommand.MESSAGE_FIELD_COUNT, 5, 4)), lines[2]);
+        assertEquals(String.format(ImportCommand.MESSAGE_INVALID_LINE, 5,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_MEMBER, "A1234567X")), lines[3]);
+        assertEquals(String.format(ImportCommand.MESSAGE_INVALID_LINE, 6,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_MEMBER, ALICE.getMatriculationNumber())), lines[4]);
+        assertEquals(before, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_paymentForUnknownMember_throwsCommandException() throws Exception {
+        Path file = writeCsv("matric,amount,date", "A7654321X,10,2025-01-01");
+        CommandException e = Assertions.assertThrows(CommandException.class, () ->
+                new ImportCommand(file).execute(model));
+        assertTrue(e.getMessage().endsWith(String.format(ImportCommand.MESSAGE_INVALID_LINE, 2,
+                String.format(ImportCommand.MESSAGE_UNKNOWN_MEMBER, "A7654321X"))));
+    }
+
+    @Test
+    public void execute_manyInvalidLines_firstReported() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(MEMBER_HEADER);
+        int lineCount = ImportCommand.BATCH_SIZE + 10;
+        for (int i = 0; i < lineCount; i++) {
+            lines.add("Member,9123456,member@example.com,A1234567X,");
+        }
+        Path file = writeCsv(lines.toArray(String[]::new));
+
+        CommandException e = Assertions.assertThrows(CommandException.class, () ->
+                new ImportCommand(file).execute(model));
+
+        String[] reported = e.getMessage().split("\n");
+        assertEquals(ImportCommand.MAX_REPORTED_LINES + 2, reported.length);
+        assertTrue(reported[1].startsWith("Line 2: "));
+        assertEquals(String.format(ImportCommand.MESSAGE_MORE_INVALID_LINES,
+                lineCount - ImportCommand.MAX_REPORTED_LINES), reported[reported.length - 1]);
+    }
+
+    @Test
+    public void execute_manyMembers_allAddedInOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(MEMBER_HEADER);
+        int memberCount = ImportCommand.BATCH_SIZE + 10;
+        for (int i = 0; i < memberCount; i++) {
+            lines.add(String.format("Member,9%07d,member@example.com,A1%06dX,", i, i));
+        }
+        Path file = writeCsv(lines.toArray(String[]::new));
+        int size = model.getAddressBook().getPersonList().size();
+
+        new ImportCommand(file).execute(model);
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(size + memberCount, persons.size());
+        assertEquals(new MatriculationNumber("A1000000X"), persons.get(size).getMatriculationNumber());
+        assertEquals(String.format("A1%06dX", memberCount - 1),
+                persons.get(persons.size() - 1).getMatriculationNumber().toString());
+    }
+
+    @Test
+    public void execute_badHeader_throwsCommandException() throws Exception {
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_MISSING_COLUMNS, () ->
+                new ImportCommand(writeCsv("name,phone,email", "Ann,91234567,ann@example.com")).execute(model));
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_UNKNOWN_COLUMN, "address"), () ->
+                new ImportCommand(writeCsv("matric,address")).execute(model));
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_EMPTY_FILE,
+                testFolder.resolve("import.csv")), () -> new ImportCommand(writeCsv()).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () ->
+                new ImportCommand(testFolder.resolve("missing.csv")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertTrue(importCommand.isMutating());
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.BackupSettings;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookBackupManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class RestoreCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBookBackupManager backupManager;
+    private Storage storage;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        backupManager = new AddressBookBackupManager(testFolder.resolve("backups"), new BackupSettings());
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")), null, backupManager);
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noStorage_throwsCommandException() {
+        assertThrows(CommandException.class, RestoreCommand.MESSAGE_NO_BACKUPS, () ->
+                new RestoreCommand(1).execute(model));
+    }
+
+    @Test
+    public void execute_listNoBackups_showsNoBackupsMessage() throws Exception {
+        CommandResult result = RestoreCommand.forListing().execute(model, storage);
+        assertEquals(RestoreCommand.MESSAGE_NO_BACKUPS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_listBackups_newestFirst() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        backupManager.backUp(addressBook);
+        addressBook.addPerson(ALICE);
+        backupManager.backUp(addressBook);
+
+        String feedback = RestoreCommand.forListing().execute(model, storage).getFeedbackToUser();
+        assertTrue(feedback.startsWith(RestoreCommand.MESSAGE_LIST_HEADER));
+        assertTrue(feedback.indexOf("2. ") < feedback.indexOf("1. "));
+        assertTrue(feedback.contains("(full)"));
+        assertTrue(feedback.contains("(changes)"));
+    }
+
+    @Test
+    public void execute_existingBackup_restoresAddressBook() throws Exception {
+        AddressBook backedUp = new AddressBook();
+        backedUp.addPerson(ALICE);
+        backupManager.backUp(backedUp);
+
+        CommandResult result = new RestoreCommand(1).execute(model, storage);
+
+        assertEquals(String.format(RestoreCommand.MESSAGE_SUCCESS, 1), result.getFeedbackToUser());
+        assertEquals(backedUp, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_unknownBackup_throwsCommandException() throws Exception {
+        backupManager.backUp(new AddressBook());
+        assertThrows(CommandException.class, String.format(RestoreCommand.MESSAGE_BACKUP_NOT_FOUND, 7), () ->
+                new RestoreCommand(7).execute(model, storage));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void isMutating() {
+        assertTrue(new RestoreCommand(1).isMutating());
+        assertFalse(RestoreCommand.forListing().isMutating());
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreFirst = new RestoreCommand(1);
+
+        assertTrue(restoreFirst.equals(restoreFirst));
+        assertTrue(restoreFirst.equals(new RestoreCommand(1)));
+        assertTrue(RestoreCommand.forListing().equals(RestoreCommand.forListing()));
+
+        assertFalse(restoreFirst.equals(null));
+        assertFalse(restoreFirst.equals(new RestoreCommand(2)));
+        assertFalse(restoreFirst.equals(RestoreCommand.forListing()));
+        assertFalse(restoreFirst.equals(new UndoCommand()));
+    }
+}
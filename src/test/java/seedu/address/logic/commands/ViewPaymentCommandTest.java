@@ -32,4 +32,12 @@ public class ViewPaymentCommandTest {
         assertNotEquals(a, null);
         assertNotEquals(a, "not-a-command");
     }
+
+    @Test
+    public void equals_differentYear_returnsFalse() {
+        ViewPaymentCommand a = ViewPaymentCommand.forYear(Index.fromOneBased(1), 2024);
+        assertEquals(a, ViewPaymentCommand.forYear(Index.fromOneBased(1), 2024));
+        assertNotEquals(a, ViewPaymentCommand.forYear(Index.fromOneBased(1), 2023));
+        assertNotEquals(a, new ViewPaymentCommand(Index.fromOneBased(1)));
+    }
 }
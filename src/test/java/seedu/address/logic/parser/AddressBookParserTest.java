@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,16 +17,22 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddMemberCommand;
 import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.logic.commands.CloseYearCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListArchivedCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.storage.PaymentExporter;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -70,6 +77,35 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_restore() throws Exception {
+        assertEquals(RestoreCommand.forListing(), parser.parseCommand(RestoreCommand.COMMAND_WORD));
+        assertEquals(new RestoreCommand(3), parser.parseCommand(RestoreCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_book() throws Exception {
+        assertEquals(BookCommand.forListing(), parser.parseCommand(BookCommand.COMMAND_WORD));
+        assertEquals(new BookCommand("chess"), parser.parseCommand(BookCommand.COMMAND_WORD + " chess"));
+    }
+
+    @Test
+    public void parseCommand_closeYear() throws Exception {
+        assertEquals(new CloseYearCommand(2024), parser.parseCommand(CloseYearCommand.COMMAND_WORD + " 2024"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Path.of("payments.csv"), PaymentExporter.Format.CSV, null, null,
+                ExportCommand.Members.ALL), parser.parseCommand(ExportCommand.COMMAND_WORD + " payments.csv"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Path.of("members.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " members.csv"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BookCommand;
+import seedu.address.storage.AddressBookWorkspace;
+
+public class BookCommandParserTest {
+
+    private final BookCommandParser parser = new BookCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsListingCommand() {
+        assertParseSuccess(parser, "", BookCommand.forListing());
+        assertParseSuccess(parser, "   \t ", BookCommand.forListing());
+    }
+
+    @Test
+    public void parse_validName_returnsBookCommand() {
+        assertParseSuccess(parser, " chess-club ", new BookCommand("chess-club"));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddressBookWorkspace.MESSAGE_BOOK_NAME_CONSTRAINTS + "\n" + BookCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " chess club", expectedMessage);
+        assertParseFailure(parser, " ../chess", expectedMessage);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CloseYearCommand;
+
+public class CloseYearCommandParserTest {
+
+    private final CloseYearCommandParser parser = new CloseYearCommandParser();
+
+    @Test
+    public void parse_year_success() {
+        assertParseSuccess(parser, " 2024 ", new CloseYearCommand(2024));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CloseYearCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "24", expectedMessage);
+        assertParseFailure(parser, "2024 2025", expectedMessage);
+        assertParseFailure(parser, "year", expectedMessage);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Members;
+import seedu.address.storage.PaymentExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_allPaymentsOfAllMembers() {
+        assertParseSuccess(parser, " exports/payments.csv ",
+                new ExportCommand(Path.of("exports/payments.csv"), Format.CSV, null, null, Members.ALL));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " payments.jsonl from/2025-01-01 to/2025-06-30 members/Archived",
+                new ExportCommand(Path.of("payments.jsonl"), Format.JSONL, LocalDate.of(2025, 1, 1),
+                        LocalDate.of(2025, 6, 30), Members.ARCHIVED));
+        assertParseSuccess(parser, " payments.csv to/2025-06-30",
+                new ExportCommand(Path.of("payments.csv"), Format.CSV, null, LocalDate.of(2025, 6, 30),
+                        Members.ALL));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " from/2025-01-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " payments.txt", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+        assertParseFailure(parser, " payments.csv from/2025-1-1", ExportCommandParser.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " payments.csv from/2025-02-01 to/2025-01-31",
+                ExportCommandParser.MESSAGE_EMPTY_RANGE);
+        assertParseFailure(parser, " payments.csv members/former", ExportCommandParser.MESSAGE_INVALID_MEMBERS);
+        assertParseFailure(parser, " payments.csv to/2025-01-01 to/2025-01-02",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TO_DATE));
+    }
+}
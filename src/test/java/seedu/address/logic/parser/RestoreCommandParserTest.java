@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RestoreCommand;
+
+public class RestoreCommandParserTest {
+
+    private final RestoreCommandParser parser = new RestoreCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsListingCommand() {
+        assertParseSuccess(parser, "", RestoreCommand.forListing());
+        assertParseSuccess(parser, "   \t ", RestoreCommand.forListing());
+    }
+
+    @Test
+    public void parse_validBackupId_returnsRestoreCommand() {
+        assertParseSuccess(parser, " 12 ", new RestoreCommand(12));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -3", expectedMessage);
+        assertParseFailure(parser, " latest", expectedMessage);
+        assertParseFailure(parser, " 1 2", expectedMessage);
+    }
+}
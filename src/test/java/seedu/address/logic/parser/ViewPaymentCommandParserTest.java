@@ -35,4 +35,17 @@ public class ViewPaymentCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse("1.2"));
         assertThrows(ParseException.class, () -> parser.parse(""));
     }
+
+    @Test
+    public void parse_indexAndYear_success() throws Exception {
+        assertEquals(ViewPaymentCommand.forYear(Index.fromOneBased(2), 2024), parser.parse("2 y/2024"));
+    }
+
+    @Test
+    public void parse_invalidYear_failure() {
+        assertThrows(ParseException.class, () -> parser.parse("1 y/24"));
+        assertThrows(ParseException.class, () -> parser.parse("1 y/"));
+        assertThrows(ParseException.class, () -> parser.parse("all y/2024"));
+        assertThrows(ParseException.class, () -> parser.parse("1 y/2023 y/2024"));
+    }
 }
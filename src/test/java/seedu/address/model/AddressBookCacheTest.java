@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+public class AddressBookCacheTest {
+
+    private static final Path FIRST = Paths.get("data", "first.json");
+    private static final Path SECOND = Paths.get("data", "second.json");
+    private static final Path THIRD = Paths.get("data", "third.json");
+
+    @Test
+    public void put_full_leastRecentlyUsedEvicted() {
+        AddressBookCache cache = new AddressBookCache(2);
+        cache.put(FIRST, new AddressBook());
+        cache.put(SECOND, new AddressBook());
+        cache.get(FIRST);
+        cache.put(THIRD, new AddressBook());
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains(FIRST));
+        assertFalse(cache.contains(SECOND));
+        assertTrue(cache.contains(THIRD));
+    }
+
+    @Test
+    public void contains_doesNotMarkAsUsed() {
+        AddressBookCache cache = new AddressBookCache(2);
+        cache.put(FIRST, new AddressBook());
+        cache.put(SECOND, new AddressBook());
+        cache.contains(FIRST);
+        cache.put(THIRD, new AddressBook());
+
+        assertFalse(cache.contains(FIRST));
+    }
+
+    @Test
+    public void put_keepsCopy() {
+        AddressBookCache cache = new AddressBookCache(1);
+        AddressBook addressBook = new AddressBook();
+        cache.put(FIRST, addressBook);
+        addressBook.addPerson(ALICE);
+
+        assertEquals(new AddressBook(), cache.get(FIRST).get());
+        assertTrue(cache.contains(FIRST.toAbsolutePath()));
+    }
+}
@@ -72,6 +72,43 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void switchAddressBook_otherBook_currentBookCachedAndHistoryCleared() {
+        Path firstPath = Paths.get("data", "first.json");
+        Path secondPath = Paths.get("data", "second.json");
+        AddressBook first = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook second = new AddressBookBuilder().withPerson(BENSON).build();
+        modelManager.switchAddressBook(firstPath, first);
+        modelManager.saveSnapshot();
+
+        modelManager.switchAddressBook(secondPath, second);
+
+        assertEquals(secondPath, modelManager.getAddressBookFilePath());
+        assertEquals(second, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+        assertEquals(first, modelManager.getCachedAddressBook(firstPath).get());
+        assertFalse(modelManager.getCachedAddressBook(secondPath).isPresent());
+
+        modelManager.switchAddressBook(firstPath, modelManager.getCachedAddressBook(firstPath).get());
+        assertEquals(first, modelManager.getAddressBook());
+        assertEquals(second, modelManager.getCachedAddressBook(secondPath).get());
+    }
+
+    @Test
+    public void cacheAddressBook_currentOrAlreadyCached_notReplaced() {
+        Path currentPath = modelManager.getAddressBookFilePath();
+        Path otherPath = Paths.get("data", "other.json");
+        AddressBook older = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook newer = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+
+        modelManager.cacheAddressBook(currentPath, older);
+        assertFalse(modelManager.getCachedAddressBook(currentPath).isPresent());
+
+        modelManager.cacheAddressBook(otherPath, newer);
+        modelManager.cacheAddressBook(otherPath, older);
+        assertEquals(newer, modelManager.getCachedAddressBook(otherPath).get());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -0,0 +1,91 @@
+package seedu.address.model.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PaymentBuilder;
+
+public class PaymentLedgerTest {
+
+    private static final Payment OLDER = new PaymentBuilder().withAmount("10.00").withDate("2024-01-01").build();
+    private static final Payment NEWER = new PaymentBuilder().withAmount("2.50").withDate("2024-06-01").build();
+
+    @Test
+    public void of_payments_summarised() {
+        PaymentLedger ledger = PaymentLedger.of(List.of(NEWER, OLDER));
+        assertTrue(ledger.isLoaded());
+        assertEquals(2, ledger.size());
+        assertEquals(new BigDecimal("12.50"), ledger.getTotal());
+        assertEquals(Optional.of(NEWER), ledger.getLatest());
+    }
+
+    @Test
+    public void of_noPayments_emptySummary() {
+        PaymentLedger ledger = PaymentLedger.of(new ArrayList<>());
+        assertTrue(ledger.isEmpty());
+        assertEquals(BigDecimal.ZERO, ledger.getTotal());
+        assertEquals(Optional.empty(), ledger.getLatest());
+    }
+
+    @Test
+    public void getPayments_lazyLedger_loadedOnce() {
+        int[] loadCount = {0};
+        PaymentLedger ledger = PaymentLedger.lazy(2, new BigDecimal("12.50"), Optional.of(NEWER), () -> {
+            loadCount[0]++;
+            return List.of(OLDER, NEWER);
+        });
+
+        assertFalse(ledger.isLoaded());
+        assertTrue(ledger.getLoaderIfNotLoaded().isPresent());
+        assertEquals(List.of(OLDER, NEWER), ledger.getPayments());
+        assertEquals(List.of(OLDER, NEWER), ledger.getPayments());
+        assertEquals(1, loadCount[0]);
+        assertTrue(ledger.isLoaded());
+        assertFalse(ledger.getLoaderIfNotLoaded().isPresent());
+    }
+
+    @Test
+    public void withAdded_lazyLedger_staysLazy() {
+        PaymentLedger ledger = PaymentLedger.lazy(1, new BigDecimal("2.50"), Optional.of(NEWER), () -> List.of(NEWER));
+
+        PaymentLedger added = ledger.withAdded(OLDER);
+
+        assertFalse(added.isLoaded());
+        assertFalse(ledger.isLoaded());
+        assertEquals(2, added.size());
+        assertEquals(new BigDecimal("12.50"), added.getTotal());
+        assertEquals(Optional.of(NEWER), added.getLatest());
+        assertEquals(List.of(NEWER, OLDER), added.getPayments());
+    }
+
+    @Test
+    public void withAdded_loadedLedger_staysLoaded() {
+        PaymentLedger added = PaymentLedger.of(List.of(OLDER)).withAdded(NEWER);
+        assertTrue(added.isLoaded());
+        assertEquals(List.of(OLDER, NEWER), added.getPayments());
+        assertEquals(Optional.of(NEWER), added.getLatest());
+    }
+
+    @Test
+    public void withAddedAll_lazyLedger_staysLazy() {
+        PaymentLedger ledger = PaymentLedger.lazy(1, new BigDecimal("10.00"), Optional.of(OLDER), () -> List.of(OLDER));
+
+        PaymentLedger added = ledger.withAddedAll(List.of(NEWER, OLDER));
+
+        assertFalse(added.isLoaded());
+        assertEquals(3, added.size());
+        assertEquals(new BigDecimal("22.50"), added.getTotal());
+        assertEquals(Optional.of(NEWER), added.getLatest());
+        assertEquals(List.of(OLDER, NEWER, OLDER), added.getPayments());
+        assertSame(ledger, ledger.withAddedAll(List.of()));
+    }
+}
@@ -28,6 +28,12 @@ public class MatriculationNumberTest {
         assertEquals("A1234567B", m.value);
     }
 
+    @Test
+    public void ofValidated_anyValue_keptAsGiven() {
+        assertEquals(new MatriculationNumber("A1234567X"), MatriculationNumber.ofValidated("A1234567X"));
+        assertEquals("a1234567b", MatriculationNumber.ofValidated("a1234567b").value);
+    }
+
     @Test
     public void isValidMatriculationNumber_validExamples_returnTrue() {
         assertTrue(MatriculationNumber.isValidMatriculationNumber("A1234567X"));
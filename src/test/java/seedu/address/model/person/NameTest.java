@@ -32,6 +32,14 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name("John@"));
     }
 
+    @Test
+    @DisplayName("ofValidated(value) -> Name holding value, unchecked")
+    public void ofValidated_anyName_notChecked() {
+        assertEquals(new Name("John"), Name.ofValidated("John"));
+        assertEquals("John2", Name.ofValidated("John2").fullName);
+        assertThrows(NullPointerException.class, () -> Name.ofValidated(null));
+    }
+
     // ---------------------------
     // Validation behavior
     // ---------------------------
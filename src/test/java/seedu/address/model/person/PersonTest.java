@@ -12,8 +12,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +30,20 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void withPaymentsAfter_earlierPaymentsDropped() {
+        Payment old = new Payment(Amount.parse("10"), LocalDate.of(2024, 12, 31), null,
+                LocalDateTime.of(2025, 1, 2, 9, 0));
+        Payment kept = new Payment(Amount.parse("20"), LocalDate.of(2025, 1, 1), null,
+                LocalDateTime.of(2025, 1, 2, 9, 0));
+        Person person = new PersonBuilder().withPayments(old, kept).build().withArchived(true);
+
+        Person after = person.withPaymentsAfter(LocalDate.of(2024, 12, 31));
+        assertEquals(List.of(kept), after.getPayments());
+        assertTrue(after.isArchived());
+        assertTrue(after.isSamePerson(person));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
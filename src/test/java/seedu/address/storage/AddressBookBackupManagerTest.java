@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.BackupSettings;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookBackupManagerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T10:15:30Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBookBackupManager createManager(int fullBackupInterval, int retainedChains, int detailedChains) {
+        return new AddressBookBackupManager(testFolder.resolve("backups"),
+                new BackupSettings(true, fullBackupInterval, retainedChains, detailedChains), CLOCK);
+    }
+
+    private static List<Integer> getIds(List<AddressBookBackup> backups) {
+        return backups.stream().map(AddressBookBackup::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getBackupDirectory_dataFile_siblingDirectory() {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.backups"),
+                AddressBookBackupManager.getBackupDirectory(dataFile));
+    }
+
+    @Test
+    public void listBackups_noBackupDirectory_emptyList() throws Exception {
+        assertTrue(createManager(5, 2, 1).listBackups().isEmpty());
+    }
+
+    @Test
+    public void backUp_firstBackup_writesFullBackup() throws Exception {
+        AddressBookBackupManager manager = createManager(5, 2, 1);
+        manager.backUp(getTypicalAddressBook());
+
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 10, 15, 30);
+        assertEquals(Arrays.asList(new AddressBookBackup(1, createdAt, true)), manager.listBackups());
+        assertEquals(getTypicalAddressBook(), new AddressBook(manager.readBackup(1).get()));
+    }
+
+    @Test
+    public void backUp_changes_eachBackupRestorable() throws Exception {
+        AddressBookBackupManager manager = createManager(5, 2, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        manager.backUp(addressBook);
+        AddressBook first = new AddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        manager.backUp(addressBook);
+        AddressBook second = new AddressBook(addressBook);
+
+        addressBook.removePerson(BENSON);
+        manager.backUp(addressBook);
+
+        // Nothing changed, so nothing is backed up
+        manager.backUp(addressBook);
+
+        List<AddressBookBackup> backups = manager.listBackups();
+        assertEquals(Arrays.asList(1, 2, 3), getIds(backups));
+        assertTrue(backups.get(0).isFull());
+        assertFalse(backups.get(1).isFull());
+        assertEquals(first, new AddressBook(manager.readBackup(1).get()));
+        assertEquals(second, new AddressBook(manager.readBackup(2).get()));
+        assertEquals(addressBook, new AddressBook(manager.readBackup(3).get()));
+        assertFalse(manager.readBackup(4).isPresent());
+    }
+
+    @Test
+    public void readBackup_editedMatriculationNumber_orderKept() throws Exception {
+        AddressBookBackupManager manager = createManager(5, 2, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        manager.backUp(addressBook);
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withMatriculationNumber("A7654321Z").build());
+        manager.backUp(addressBook);
+
+        assertEquals(addressBook, new AddressBook(manager.readBackup(2).get()));
+    }
+
+    @Test
+    public void backUp_fullBackupIntervalReached_startsNewChain() throws Exception {
+        AddressBookBackupManager manager = createManager(1, 5, 5);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        manager.backUp(addressBook);
+        addressBook.addPerson(BENSON);
+        manager.backUp(addressBook);
+        addressBook.addPerson(HOON);
+        manager.backUp(addressBook);
+        manager.awaitMaintenance();
+
+        List<AddressBookBackup> backups = manager.listBackups();
+        assertEquals(Arrays.asList(true, false, true),
+                backups.stream().map(AddressBookBackup::isFull).collect(Collectors.toList()));
+        assertEquals(addressBook, new AddressBook(manager.readBackup(3).get()));
+    }
+
+    @Test
+    public void backUp_newManager_continuesIdsInNewChain() throws Exception {
+        createManager(5, 2, 2).backUp(getTypicalAddressBook());
+        AddressBookBackupManager manager = createManager(5, 2, 2);
+        manager.backUp(getTypicalAddressBook());
+
+        List<AddressBookBackup> backups = manager.listBackups();
+        assertEquals(Arrays.asList(1, 2), getIds(backups));
+        assertTrue(backups.get(1).isFull());
+    }
+
+    @Test
+    public void backUp_oldChains_compactedAndDeleted() throws Exception {
+        AddressBookBackupManager manager = createManager(1, 2, 1);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        manager.backUp(addressBook); // 1, full
+        addressBook.addPerson(BENSON);
+        manager.backUp(addressBook); // 2, changes
+        AddressBook second = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        manager.backUp(addressBook); // 3, full, compacts 1 and 2 into 2
+        manager.awaitMaintenance();
+
+        assertEquals(Arrays.asList(2, 3), getIds(manager.listBackups()));
+        assertTrue(manager.listBackups().get(0).isFull());
+        assertFalse(manager.readBackup(1).isPresent());
+        assertEquals(second, new AddressBook(manager.readBackup(2).get()));
+
+        addressBook.removePerson(ALICE);
+        manager.backUp(addressBook); // 4, changes
+        AddressBook fourth = new AddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        manager.backUp(addressBook); // 5, full, deletes 2 and compacts 3 and 4 into 4
+        manager.awaitMaintenance();
+
+        assertEquals(Arrays.asList(4, 5), getIds(manager.listBackups()));
+        assertEquals(fourth, new AddressBook(manager.readBackup(4).get()));
+        assertEquals(addressBook, new AddressBook(manager.readBackup(5).get()));
+        try (Stream<Path> files = Files.list(manager.getBackupDirectory())) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void backingUp_saveToDataFile_backsUp() throws Exception {
+        AddressBookBackupManager manager = createManager(5, 2, 1);
+        AddressBookStorage storage = manager.backingUp(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")));
+
+        storage.saveAddressBook(getTypicalAddressBook(), testFolder.resolve("other.json"));
+        assertTrue(manager.listBackups().isEmpty());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(manager.readBackup(1).get()));
+    }
+
+    @Test
+    public void backingUp_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createManager(5, 2, 1).backingUp(null));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class AddressBookChecksumTest {
+
+    @Test
+    public void of_addressBook_sameAsUpdatingWithEachPerson() {
+        AddressBookChecksum checksum = new AddressBookChecksum();
+        for (Person person : getTypicalAddressBook().getPersonList()) {
+            new JsonAdaptedPerson(person).addTo(checksum);
+        }
+        assertEquals(checksum.getValue(), AddressBookChecksum.of(getTypicalAddressBook()));
+        assertEquals(new AddressBookChecksum().getValue(), AddressBookChecksum.of(new AddressBook()));
+    }
+
+    @Test
+    public void of_differentPersonsOrOrder_differentChecksum() {
+        AddressBook aliceFirst = new AddressBook();
+        aliceFirst.addPerson(ALICE);
+        aliceFirst.addPerson(BENSON);
+        AddressBook bensonFirst = new AddressBook();
+        bensonFirst.addPerson(BENSON);
+        bensonFirst.addPerson(ALICE);
+
+        assertNotEquals(AddressBookChecksum.of(aliceFirst), AddressBookChecksum.of(bensonFirst));
+        assertNotEquals(AddressBookChecksum.of(aliceFirst), AddressBookChecksum.of(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void update_charactersMovedBetweenFields_differentChecksum() {
+        AddressBookChecksum first = new AddressBookChecksum();
+        first.update("Alice Pauline", "94351253", "alice@example.com", "A1234567X");
+        AddressBookChecksum second = new AddressBookChecksum();
+        second.update("Alice Paulin", "e94351253", "alice@example.com", "A1234567X");
+        AddressBookChecksum missingField = new AddressBookChecksum();
+        missingField.update("Alice Pauline", "94351253", "alice@example.com", null);
+        AddressBookChecksum emptyField = new AddressBookChecksum();
+        emptyField.update("Alice Pauline", "94351253", "alice@example.com", "");
+
+        assertNotEquals(first.getValue(), second.getValue());
+        assertNotEquals(missingField.getValue(), emptyField.getValue());
+    }
+}
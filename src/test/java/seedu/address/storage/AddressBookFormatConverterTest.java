@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convertIfNeeded_missingFile_preferredFormat() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertEquals(DataFormat.BINARY, AddressBookFormatConverter.convertIfNeeded(filePath, DataFormat.BINARY));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void convertIfNeeded_bothDirections_dataKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(DataFormat.BINARY, AddressBookFormatConverter.convertIfNeeded(filePath, DataFormat.BINARY));
+        assertEquals(Optional.of(DataFormat.BINARY), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        assertEquals(DataFormat.JSON, AddressBookFormatConverter.convertIfNeeded(filePath, DataFormat.JSON));
+        assertEquals(Optional.of(DataFormat.JSON), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_unreadableFile_keptInCurrentFormat() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "not json");
+
+        assertEquals(DataFormat.JSON, AddressBookFormatConverter.convertIfNeeded(filePath, DataFormat.BINARY));
+        assertEquals("not json", FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void prepareStorage_singleFileToShards_dataAndJournalMoved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage singleFileStorage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        singleFileStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        singleFileStorage.saveAddressBook(original); // kept in the journal only
+
+        StorageSettings shardedSettings = new StorageSettings(DataFormat.JSON).withShardCount(3);
+        AddressBookStorage shardedStorage = AddressBookFormatConverter.prepareStorage(filePath,
+                shardedSettings);
+
+        assertEquals(ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME), shardedStorage.getAddressBookFilePath());
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(singleFileStorage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(shardedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareStorage_shardsToSingleFile_dataMoved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        StorageSettings shardedSettings = new StorageSettings(DataFormat.JSON).withShardCount(3);
+        AddressBook original = getTypicalAddressBook();
+        AddressBookFormatConverter.prepareStorage(filePath, shardedSettings).saveAddressBook(original);
+
+        AddressBookStorage singleFileStorage = AddressBookFormatConverter.prepareStorage(filePath,
+                new StorageSettings(DataFormat.BINARY));
+
+        assertEquals(filePath, singleFileStorage.getAddressBookFilePath());
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardDirectory(filePath)));
+        assertEquals(Optional.of(DataFormat.BINARY), AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(singleFileStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareStorage_unreadableSingleFile_keptInSingleFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "not json");
+
+        AddressBookStorage storage = AddressBookFormatConverter.prepareStorage(filePath,
+                new StorageSettings(DataFormat.JSON).withShardCount(3));
+
+        assertEquals(filePath, storage.getAddressBookFilePath());
+        assertEquals("not json", FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void prepareStorage_singleFileToDatabase_dataAndJournalMoved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage singleFileStorage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        singleFileStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        singleFileStorage.saveAddressBook(original); // kept in the journal only
+
+        AddressBookStorage databaseStorage = AddressBookFormatConverter.prepareStorage(filePath,
+                new StorageSettings(DataFormat.SQL));
+
+        assertEquals(SqlAddressBookStorage.getDatabaseFilePath(filePath), databaseStorage.getAddressBookFilePath());
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(singleFileStorage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(databaseStorage.readAddressBook().get()));
+        ((SqlAddressBookStorage) databaseStorage).close();
+    }
+
+    @Test
+    public void prepareStorage_databaseToShards_dataMoved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        try (SqlAddressBookStorage databaseStorage = (SqlAddressBookStorage) AddressBookFormatConverter
+                .prepareStorage(filePath, new StorageSettings(DataFormat.SQL))) {
+            databaseStorage.saveAddressBook(original);
+        }
+
+        AddressBookStorage shardedStorage = AddressBookFormatConverter.prepareStorage(filePath,
+                new StorageSettings(DataFormat.JSON).withShardCount(3));
+
+        assertEquals(ShardedAddressBookStorage.getShardDirectory(filePath)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME), shardedStorage.getAddressBookFilePath());
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath)));
+        assertEquals(original, new AddressBook(shardedStorage.readAddressBook().get()));
+    }
+}
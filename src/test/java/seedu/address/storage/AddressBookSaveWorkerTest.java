@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaveWorkerTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_burstOfRequests_writesLatestStateOnce() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        worker.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        worker.requestSave(addressBook);
+        addressBook.addPerson(IDA);
+        worker.requestSave(addressBook);
+        assertEquals(0, storage.saveCount);
+
+        worker.flush();
+        assertEquals(1, storage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_requestDuringDelay_writePushedBack() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, 500, LONG_DELAY_MILLIS);
+
+        worker.requestSave(getTypicalAddressBook());
+        Thread.sleep(300);
+        worker.requestSave(getTypicalAddressBook());
+        Thread.sleep(300); // past the delay after the first request, but not after the second
+        assertEquals(0, storage.saveCount);
+
+        waitUntilWritten(worker);
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void requestSave_steadyRequests_writtenWithinMaxDelay() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, 300, 500);
+
+        // each request comes before the previous one's delay is over, so only the maximum delay ends the wait
+        for (int i = 0; i < 15; i++) {
+            worker.requestSave(getTypicalAddressBook());
+            Thread.sleep(100);
+        }
+        assertTrue(storage.saveCount >= 1);
+    }
+
+    @Test
+    public void requestSave_laterChangesToSource_notWritten() throws Exception {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        worker.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        worker.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_nothingRequested_doesNotWrite() {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, LONG_DELAY_MILLIS);
+
+        worker.requestSave(getTypicalAddressBook());
+        worker.flush();
+        worker.flush();
+
+        assertEquals(1, storage.saveCount);
+        assertFalse(worker.hasPendingSave());
+    }
+
+    @Test
+    public void requestSave_writeFails_reportsFailureAndStaysDirty() {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        storage.failure = new IOException("disk full");
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, LONG_DELAY_MILLIS);
+        List<IOException> reported = new ArrayList<>();
+        worker.setFailureHandler(reported::add);
+
+        worker.requestSave(getTypicalAddressBook());
+        worker.flush();
+
+        assertEquals(List.of(storage.failure), reported);
+        assertTrue(worker.hasPendingSave());
+
+        // the state that failed to be written is written by the next flush
+        storage.failure = null;
+        worker.flush();
+        assertEquals(2, storage.saveCount);
+        assertFalse(worker.hasPendingSave());
+    }
+
+    @Test
+    public void shutdown_pendingState_writtenOnce() {
+        CountingStorage storage = new CountingStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaveWorker worker = new AddressBookSaveWorker(storage, LONG_DELAY_MILLIS);
+
+        worker.requestSave(getTypicalAddressBook());
+        worker.shutdown();
+        worker.shutdown();
+
+        assertEquals(1, storage.saveCount);
+        assertFalse(worker.hasPendingSave());
+    }
+
+    private static void waitUntilWritten(AddressBookSaveWorker worker) throws InterruptedException {
+        for (int i = 0; i < 100 && worker.hasPendingSave(); i++) {
+            Thread.sleep(50);
+        }
+        assertFalse(worker.hasPendingSave());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts its writes and can be made to fail them.
+     */
+    private static class CountingStorage extends JsonAddressBookStorage {
+        private int saveCount;
+        private IOException failure;
+
+        CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AddressBookWorkspaceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isValidBookName() {
+        assertTrue(AddressBookWorkspace.isValidBookName("chess-club_2"));
+        assertFalse(AddressBookWorkspace.isValidBookName(""));
+        assertFalse(AddressBookWorkspace.isValidBookName("-chess"));
+        assertFalse(AddressBookWorkspace.isValidBookName("chess club"));
+        assertFalse(AddressBookWorkspace.isValidBookName("../chess"));
+        assertFalse(AddressBookWorkspace.isValidBookName("a".repeat(51)));
+    }
+
+    @Test
+    public void getBookFilePath_sameFolderAndExtension() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("chess.json"), AddressBookWorkspace.getBookFilePath(filePath, "chess"));
+        assertEquals("chess", AddressBookWorkspace.getBookName(testFolder.resolve("chess.json")));
+        assertThrows(IllegalArgumentException.class, () -> AddressBookWorkspace.getBookFilePath(filePath, "../x"));
+    }
+
+    @Test
+    public void listBooks_allLayouts_mostRecentlyChangedFirst() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        touch(testFolder.resolve("rowing.json"), 3000);
+        touch(testFolder.resolve("rowing.json.journal"), 9000);
+        Files.createDirectories(testFolder.resolve("chess.json.shards"));
+        touch(testFolder.resolve("chess.json.shards"), 2000);
+        touch(testFolder.resolve("drama.json.mv.db"), 1000);
+        Files.createDirectories(testFolder.resolve("rowing.json.backups"));
+        touch(testFolder.resolve("notes.txt"), 5000);
+
+        assertEquals(Arrays.asList(testFolder.resolve("rowing.json"), testFolder.resolve("chess.json"),
+                testFolder.resolve("drama.json")), AddressBookWorkspace.listBooks(filePath));
+    }
+
+    @Test
+    public void listBooks_missingFolder_empty() throws Exception {
+        assertTrue(AddressBookWorkspace.listBooks(testFolder.resolve("missing").resolve("ab.json")).isEmpty());
+    }
+
+    private static void touch(Path path, long modifiedMillis) throws Exception {
+        if (!Files.exists(path)) {
+            Files.createFile(path);
+        }
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modifiedMillis));
+    }
+}
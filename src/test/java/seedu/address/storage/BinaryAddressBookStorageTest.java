@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PaymentBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Person paidAlice = ALICE
+                .withAddedPayment(new PaymentBuilder().withAmount("12.50").withRemarks("Spring fee").build())
+                .withAddedPayment(new PaymentBuilder().withAmount("0.05").withDate("1969-12-31").build());
+        original.setPerson(ALICE, paidAlice);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(paidAlice.getPayments(), readBack.getPersonList().get(0).getPayments());
+        assertEquals(paidAlice.getTags(), readBack.getPersonList().get(0).getTags());
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(BinaryAddressBookStorage.isBinaryAddressBookFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_lazyPayments_loadedOnlyWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        Person paidAlice = ALICE
+                .withAddedPayment(new PaymentBuilder().withAmount("12.50").withDate("2024-03-01").build())
+                .withAddedPayment(new PaymentBuilder().withAmount("7.25").withDate("2024-05-01")
+                        .withRemarks("Latest").build())
+                .withAddedPayment(new PaymentBuilder().withAmount("0.05").withDate("2023-12-31").build());
+        original.setPerson(ALICE, paidAlice);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, false, true);
+        ReadOnlyAddressBook readBack = lazyStorage.readAddressBook().get();
+        Person lazyAlice = readBack.getPersonList().get(0);
+        PaymentLedger ledger = lazyAlice.getPaymentLedger();
+
+        assertFalse(ledger.isLoaded());
+        assertEquals(3, lazyAlice.getPaymentCount());
+        assertEquals(paidAlice.getPaymentTotal(), lazyAlice.getPaymentTotal());
+        assertEquals(paidAlice.getLatestPayment(), lazyAlice.getLatestPayment());
+        assertFalse(ledger.isLoaded());
+
+        // Payments that were never needed are written back without being loaded
+        Path copyPath = testFolder.resolve("copy.bin");
+        lazyStorage.saveAddressBook(readBack, copyPath);
+        assertFalse(ledger.isLoaded());
+        assertTrue(Arrays.equals(Files.readAllBytes(filePath), Files.readAllBytes(copyPath)));
+
+        assertEquals(paidAlice.getPayments(), lazyAlice.getPayments());
+        assertTrue(ledger.isLoaded());
+    }
+
+    @Test
+    public void readAddressBook_lazyPaymentsInvalidAmount_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(ALICE.withAddedPayment(new PaymentBuilder().withAmount("1.00").build()));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // Without remarks, the only payment is the last 32 bytes of the file, starting with its amount in cents
+        byte[] bytes = Files.readAllBytes(filePath);
+        Arrays.fill(bytes, bytes.length - 32, bytes.length - 24, (byte) 0);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath, false, true).readAddressBook());
+    }
+
+    @Test
+    public void decode_directBuffer_sameAsHeapBuffer() throws Exception {
+        // a direct buffer has no backing array, like a memory-mapped file
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.encode(getTypicalAddressBook(), bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.size());
+        direct.put(bytes.toByteArray()).flip();
+
+        assertEquals(getTypicalAddressBook(), BinaryAddressBookCodec.decode(direct));
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryPath) * 2 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(BinaryAddressBookStorage.isBinaryAddressBookFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookCodec.MAGIC);
+        out.writeShort(BinaryAddressBookCodec.VERSION + 1);
+        out.writeInt(0);
+        out.writeInt(0);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        ReadOnlyAddressBook duplicates = () -> FXCollections.observableArrayList(ALICE, ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(duplicates);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.Compression;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PaymentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage createStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")), compactionThreshold);
+    }
+
+    private ReadOnlyAddressBook readFresh(int compactionThreshold) throws DataLoadingException {
+        return createStorage(compactionThreshold).readAddressBook().get();
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotWithoutJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(readFresh(10)));
+    }
+
+    @Test
+    public void saveAddressBook_laterSaves_appendOnlyChangedPersons() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(storage.getAddressBookFilePath());
+
+        Person paidAlice = ALICE.withAddedPayment(new PaymentBuilder().withAmount("12.50").build());
+        original.setPerson(ALICE, paidAlice);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched, one entry per changed person
+        assertEquals(snapshot, FileUtil.readFromFile(storage.getAddressBookFilePath()));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        // saving an unchanged address book appends nothing
+        storage.saveAddressBook(new AddressBook(original));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = readFresh(100);
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(paidAlice.getPayments(), readBack.getPersonList().get(0).getPayments());
+    }
+
+    @Test
+    public void saveAddressBook_encrypted_entriesEncryptedAndReplayed() throws Exception {
+        Passphrase passphrase = new Passphrase("correct horse".toCharArray());
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath,
+                false, false, Compression.NONE, StorageSettings.DEFAULT_COMPRESSION_LEVEL, passphrase), 100,
+                passphrase);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        String journal = FileUtil.readFromFile(storage.getJournalFilePath());
+        assertEquals(2, journal.lines().count());
+        assertFalse(journal.contains(HOON.getName().fullName));
+        assertFalse(journal.contains(BENSON.getMatriculationNumber().value));
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath,
+                false, false, Compression.NONE, StorageSettings.DEFAULT_COMPRESSION_LEVEL, passphrase), 100,
+                passphrase);
+        assertEquals(original, new AddressBook(restarted.readAddressBook().get()));
+        assertThrows(DataLoadingException.class, () -> readFresh(100));
+    }
+
+    @Test
+    public void saveAddressBook_removedPerson_replayedAsRemoval() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(readFresh(100)));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        AddressBook snapshotOnly = new AddressBook(
+                new JsonAddressBookStorage(storage.getAddressBookFilePath()).readAddressBook().get());
+        assertEquals(original, snapshotOnly);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"operation\":\"put\",\"matricul");
+
+        assertEquals(original, new AddressBook(readFresh(100)));
+    }
+
+    @Test
+    public void readAddressBook_corruptEntryBeforeLastLine_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "not json\n");
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(100).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_editedMatriculationNumberAndUndoneRemoval_orderKept() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withMatriculationNumber("A7654321Z").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(readFresh(100)));
+
+        // undoing a removal puts the person back where it was
+        AddressBook beforeRemoval = new AddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(beforeRemoval);
+        assertEquals(beforeRemoval, new AddressBook(readFresh(100)));
+    }
+
+    @Test
+    public void readAddressBook_entryWithoutPosition_appended() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // entries of older journals have no position
+        FileUtil.appendToFile(storage.getJournalFilePath(), JsonUtil.toCompactJsonString(
+                new JsonAdaptedJournalEntry(JsonAdaptedJournalEntry.OPERATION_PUT, HOON.getMatriculationNumber().value,
+                        new JsonAdaptedPerson(HOON), null)) + "\n");
+        original.addPerson(HOON);
+        assertEquals(original, new AddressBook(readFresh(100)));
+    }
+
+    @Test
+    public void salvageAddressBook_corruptEntries_skippedAndQuarantined() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(storage.getJournalFilePath(), "not json\n");
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String changedIda = JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.put(IDA, 0))
+                .replace(IDA.getPhone().value, "81234567");
+        FileUtil.appendToFile(storage.getJournalFilePath(), changedIda + "\n");
+        original.setPerson(BENSON, BENSON.withAddedPayment(new PaymentBuilder().build()));
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage restarted = createStorage(100);
+        SalvagedAddressBook salvaged = restarted.salvageAddressBook().get();
+
+        assertEquals(original, new AddressBook(salvaged.getAddressBook()));
+        assertEquals(Arrays.asList(
+                String.format(JournaledAddressBookStorage.MESSAGE_ENTRY_PROBLEM, 1,
+                        JournaledAddressBookStorage.MESSAGE_NOT_AN_ENTRY),
+                String.format(JournaledAddressBookStorage.MESSAGE_ENTRY_PROBLEM, 3,
+                        JsonSerializableAddressBook.MESSAGE_CHANGED_AFTER_SAVING)), salvaged.getProblems());
+        assertEquals(2, Files.readAllLines(salvaged.getQuarantineFilePath()).size());
+
+        // The next save replaces the damaged journal with a new snapshot
+        restarted.saveAddressBook(salvaged.getAddressBook());
+        assertFalse(Files.exists(restarted.getJournalFilePath()));
+        assertEquals(original, new AddressBook(readFresh(100)));
+    }
+
+    @Test
+    public void readAddressBook_continuesJournalAfterRestart() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage restarted = createStorage(100);
+        AddressBook reloaded = new AddressBook(restarted.readAddressBook().get());
+        reloaded.addPerson(IDA);
+        restarted.saveAddressBook(reloaded);
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(reloaded, new AddressBook(readFresh(100)));
+    }
+}
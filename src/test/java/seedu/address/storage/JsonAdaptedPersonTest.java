@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -12,6 +14,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.MatriculationNumber;
 import seedu.address.model.person.Name;
@@ -47,6 +50,34 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void isIntact() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(BENSON));
+        assertTrue(JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).isIntact());
+
+        // no checksum
+        assertTrue(new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_MATRICULATIONNUM, VALID_TAGS,
+            null, null).isIntact());
+
+        // changed after saving
+        String changedJson = json.replace(VALID_PHONE, "91234567");
+        assertFalse(JsonUtil.fromJsonString(changedJson, JsonAdaptedPerson.class).isIntact());
+    }
+
+    @Test
+    public void toModelType_checksumVerified_fieldsNotChecked() throws Exception {
+        JsonAdaptedPerson person =
+            new JsonAdaptedPerson(INVALID_NAME, INVALID_PHONE, INVALID_EMAIL,
+                INVALID_MATRICULATIONNUM, VALID_TAGS, null, null);
+        assertEquals(INVALID_NAME, person.toModelType(true).getName().fullName);
+
+        JsonAdaptedPerson missingName =
+            new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL,
+                VALID_MATRICULATIONNUM, VALID_TAGS, null, null);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> missingName.toModelType(true));
+    }
+
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,19 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.StorageSettings.Compression;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.EncryptionUtil;
+import seedu.address.commons.util.Passphrase;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +67,18 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_memoryMapped_sameAsStreamed() throws Exception {
+        Path typicalPersonsFile = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook mapped = new JsonAddressBookStorage(typicalPersonsFile, false, true)
+                .readAddressBook().get();
+        assertEquals(new AddressBook(new JsonAddressBookStorage(typicalPersonsFile).readAddressBook().get()),
+                new AddressBook(mapped));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json"), false, true).readAddressBook());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +105,127 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_singleLineAndReadable() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_smallerAndReadableByPlainStorage() throws Exception {
+        Path plainPath = testFolder.resolve("Plain.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+
+        for (Compression compression : new Compression[] {Compression.GZIP, Compression.DEFLATE}) {
+            Path compressedPath = testFolder.resolve(compression + ".json");
+            new JsonAddressBookStorage(compressedPath, false, false, compression, 9).saveAddressBook(original);
+
+            assertTrue(Files.size(compressedPath) < Files.size(plainPath));
+            // Compression is detected on read, whatever the storage is set up to write
+            assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+            assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath, false, true)
+                    .readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_encrypted_readableOnlyWithPassphrase() throws Exception {
+        Path filePath = testFolder.resolve("Encrypted.json");
+        AddressBook original = getTypicalAddressBook();
+        Passphrase passphrase = new Passphrase("correct horse".toCharArray());
+        JsonAddressBookStorage encryptedStorage = new JsonAddressBookStorage(filePath, false, false,
+                Compression.GZIP, 9, passphrase);
+
+        encryptedStorage.saveAddressBook(original);
+
+        assertFalse(Files.readString(filePath, StandardCharsets.ISO_8859_1)
+                .contains(ALICE.getName().fullName));
+        assertEquals(original, new AddressBook(encryptedStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, false, true,
+                Compression.NONE, 0, passphrase).readAddressBook().get()));
+
+        // Without the passphrase, the file can be neither read nor replaced
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(filePath);
+        assertThrows(DataLoadingException.class, plainStorage::readAddressBook);
+        assertThrows(DataLoadingException.class, plainStorage::salvageAddressBook);
+        assertThrows(IOException.class, String.format(JsonAddressBookStorage.MESSAGE_ENCRYPTED_FILE, filePath),
+                () -> plainStorage.saveAddressBook(new AddressBook()));
+        assertEquals(original, new AddressBook(encryptedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_plainFileWithPassphrase_encryptedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        JsonAddressBookStorage encryptedStorage = new JsonAddressBookStorage(filePath, false, false,
+                Compression.NONE, 0, new Passphrase("correct horse".toCharArray()));
+
+        ReadOnlyAddressBook read = encryptedStorage.readAddressBook().get();
+        encryptedStorage.saveAddressBook(read);
+
+        assertTrue(EncryptionUtil.isEncrypted(filePath));
+        assertEquals(original, new AddressBook(encryptedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_invalidCompressionLevel_throwsIoException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false, false, Compression.GZIP, 10);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(getTypicalAddressBook()));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void salvageAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("missing.json")).salvageAddressBook().isPresent());
+    }
+
+    @Test
+    public void salvageAddressBook_intactFile_nothingQuarantined() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        SalvagedAddressBook salvaged = storage.salvageAddressBook().get();
+        assertEquals(getTypicalAddressBook(), salvaged.getAddressBook());
+        assertFalse(salvaged.hasProblems());
+        assertFalse(Files.exists(QuarantineFile.getQuarantineFilePath(storage.getAddressBookFilePath())));
+    }
+
+    @Test
+    public void salvageAddressBook_damagedFile_damagedPartsQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        String content = Files.readString(filePath).replace(ALICE.getEmail().value, "not an email");
+        String truncated = content.substring(0, content.length() - 100);
+        Files.writeString(filePath, truncated);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        SalvagedAddressBook salvaged = storage.salvageAddressBook().get();
+
+        // Alice is damaged, and the last person is cut off
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        expected.removePerson(expected.getPersonList().get(expected.getPersonList().size() - 1));
+        assertEquals(expected, salvaged.getAddressBook());
+        assertEquals(2, salvaged.getProblems().size());
+        Path quarantineFilePath = QuarantineFile.getQuarantineFilePath(filePath);
+        assertEquals(quarantineFilePath, salvaged.getQuarantineFilePath());
+        List<String> entries = Files.readAllLines(quarantineFilePath);
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(0).contains("not an email"));
+        assertEquals(truncated, Files.readString(filePath.resolveSibling("addressbook.json"
+                + QuarantineFile.CORRUPT_COPY_SUFFIX)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonPersonCodecTest {
+
+    private static final Person PERSON_WITH_PAYMENTS = new PersonBuilder(TypicalPersons.ALICE)
+        .withPayments(
+            new Payment(Amount.parse("12.50"), LocalDate.of(2025, 1, 2), "shirt \"M\"",
+                LocalDateTime.of(2025, 1, 2, 10, 30, 0, 123_456_789)),
+            new Payment(Amount.parse("3"), LocalDate.of(2025, 2, 3), null, LocalDateTime.of(2025, 2, 3, 9, 0)))
+        .build();
+
+    private static String write(Person person, boolean useCodec) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(json)) {
+            generator.useDefaultPrettyPrinter();
+            if (useCodec) {
+                JsonPersonCodec.writePerson(person, generator);
+            } else {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+        }
+        return json.toString();
+    }
+
+    private static Person read(String json, boolean isChecksumVerified) throws Exception {
+        JsonParser parser = new JsonFactory().createParser(json);
+        parser.nextToken();
+        return JsonPersonCodec.readPerson(parser, new AddressBookChecksum(), isChecksumVerified);
+    }
+
+    @Test
+    public void writePerson_sameAsAdaptedPerson() throws Exception {
+        for (Person person : List.of(PERSON_WITH_PAYMENTS, TypicalPersons.BENSON,
+                TypicalPersons.CARL.withArchived(true))) {
+            assertEquals(write(person, false), write(person, true));
+        }
+    }
+
+    @Test
+    public void readPerson_writtenPerson_sameAsAdaptedPerson() throws Exception {
+        String json = write(PERSON_WITH_PAYMENTS, true);
+        Person adapted = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        assertEquals(adapted, read(json, false));
+        assertEquals(PERSON_WITH_PAYMENTS, read(json, true));
+        assertEquals(PERSON_WITH_PAYMENTS.getPayments(), read(json, false).getPayments());
+    }
+
+    @Test
+    public void readPerson_checksumAdded_sameAsAdaptedPerson() throws Exception {
+        String json = write(PERSON_WITH_PAYMENTS, true);
+        AddressBookChecksum fromCodec = new AddressBookChecksum();
+        JsonParser parser = new JsonFactory().createParser(json);
+        parser.nextToken();
+        JsonPersonCodec.readPerson(parser, fromCodec, true);
+
+        AddressBookChecksum fromAdapted = new AddressBookChecksum();
+        JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).addTo(fromAdapted);
+        assertEquals(fromAdapted.getValue(), fromCodec.getValue());
+    }
+
+    @Test
+    public void readPerson_unknownAndMissingOptionalFields_success() throws Exception {
+        String json = "{ \"note\" : { \"a\" : [ 1, 2 ] }, \"name\" : \"Ann Lee\", \"phone\" : \"91234567\", "
+            + "\"email\" : \"ann@example.com\", \"matriculationNumber\" : \"A1234567X\", \"tags\" : null, "
+            + "\"payments\" : [ { \"amount\" : \"1.00\", \"date\" : \"2025-01-01\", \"extra\" : true } ] }";
+        Person person = read(json, false);
+        assertEquals(new Name("Ann Lee"), person.getName());
+        assertEquals(0, person.getTags().size());
+        assertEquals(false, person.isArchived());
+        assertEquals(Amount.parse("1"), person.getPayments().get(0).getAmount());
+    }
+
+    @Test
+    public void readPerson_invalidFields_throwsIllegalValueException() {
+        String valid = "\"name\" : \"Ann Lee\", \"email\" : \"ann@example.com\", \"matriculationNumber\" : "
+            + "\"A1234567X\"";
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+            read("{ " + valid + ", \"phone\" : \"123\" }", false));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+            Phone.class.getSimpleName()), () -> read("{ " + valid + " }", true));
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_CONSTRAINTS, () ->
+            read("{ " + valid + ", \"phone\" : \"91234567\", \"tags\" : [ \"a b\" ] }", true));
+        assertThrows(IllegalValueException.class, "Invalid amount: x", () ->
+            read("{ " + valid + ", \"phone\" : \"91234567\", \"payments\" : [ { \"amount\" : \"x\", "
+                + "\"date\" : \"2025-01-01\" } ] }", true));
+    }
+
+    @Test
+    public void readPerson_notAPerson_throwsIoException() {
+        assertThrows(IOException.class, () -> read("42", false));
+        assertThrows(IOException.class, () -> read("{ \"name\" : [ \"Ann\" ] }", false));
+        assertThrows(IOException.class, () -> read("{ \"name\" : \"Ann\"", false));
+    }
+
+    @Test
+    public void readFrom_codecAndAdaptedPersons_sameAddressBook() throws Exception {
+        AddressBook addressBook = new AddressBook(TypicalPersons.getTypicalAddressBook());
+        addressBook.addPerson(new Person(new Name("Ann Lee"), PERSON_WITH_PAYMENTS.getPhone(),
+            PERSON_WITH_PAYMENTS.getEmail(), new MatriculationNumber("A7654321X"), PERSON_WITH_PAYMENTS.getTags(),
+            true, PERSON_WITH_PAYMENTS.getPayments()));
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(json)) {
+            JsonSerializableAddressBook.writeTo(addressBook, generator, false);
+        }
+
+        assertEquals(addressBook, JsonSerializableAddressBook.readFrom(
+            new JsonFactory().createParser(json.toString()), true));
+        assertEquals(addressBook, JsonSerializableAddressBook.readFrom(
+            new JsonFactory().createParser(json.toString()), false));
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(TypicalPersons.ALICE);
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(json)) {
+            JsonSerializableAddressBook.writeTo(addressBook, generator);
+        }
+        String alice = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        String duplicated = json.toString().replace(alice, alice + "," + alice);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+            JsonSerializableAddressBook.readFrom(new JsonFactory().createParser(duplicated)));
+    }
+}
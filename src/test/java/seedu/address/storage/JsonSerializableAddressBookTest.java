@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -23,6 +35,14 @@ public class JsonSerializableAddressBookTest {
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook"
         + ".json");
 
+    // A person whose name would not pass validation
+    private static final String INVALID_NAME = "R@chel";
+    private static final String PERSON_JSON = "{ \"name\" : \"" + INVALID_NAME + "\", \"phone\" : \"94351253\", "
+        + "\"email\" : \"rachel@example.com\", \"matriculationNumber\" : \"A1234567X\" }";
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -39,6 +59,154 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void readFrom_typicalPersonsFile_sameAsToModelType() throws Exception {
+        AddressBook streamed = JsonUtil.<AddressBook>readJsonFile(TYPICAL_PERSONS_FILE,
+            JsonSerializableAddressBook::readFrom).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), streamed);
+        assertEquals(streamed.getPersonList(), JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+            JsonSerializableAddressBook.class).get().toModelType().getPersonList());
+    }
+
+    @Test
+    public void readFrom_invalidPersonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+            JsonSerializableAddressBook::readFrom));
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+            JsonSerializableAddressBook::readFrom));
+    }
+
+    @Test
+    public void readFrom_notAnObject_throwsIoException() throws Exception {
+        JsonParser parser = new JsonFactory().createParser("[ ]");
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readFrom(parser));
+    }
+
+    @Test
+    public void readFrom_unknownFieldsAndTruncatedFile() throws Exception {
+        String json = "{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ] }";
+        assertEquals(new AddressBook(), JsonSerializableAddressBook.readFrom(new JsonFactory().createParser(json)));
+
+        JsonParser truncated = new JsonFactory().createParser("{ \"persons\" : [ ");
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.readFrom(truncated));
+    }
+
+    @Test
+    public void writeTo_typicalPersons_readBackWithChecksum() throws Exception {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(json)) {
+            JsonSerializableAddressBook.writeTo(TypicalPersons.getTypicalAddressBook(), generator);
+        }
+
+        String checksum = AddressBookChecksum.of(TypicalPersons.getTypicalAddressBook());
+        assertTrue(json.toString().contains("\"checksum\":\"" + checksum + "\""));
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+            JsonSerializableAddressBook.readFrom(new JsonFactory().createParser(json.toString())));
+    }
+
+    @Test
+    public void readFrom_matchingChecksum_fieldsNotChecked() throws Exception {
+        AddressBook addressBook = JsonSerializableAddressBook.readFrom(new JsonFactory().createParser(
+            withChecksum(AddressBookChecksum.VALIDATOR_VERSION, personChecksum())));
+        assertEquals(INVALID_NAME, addressBook.getPersonList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readFrom_mismatchedChecksum_fieldsChecked() throws Exception {
+        JsonParser parser = new JsonFactory().createParser(
+            withChecksum(AddressBookChecksum.VALIDATOR_VERSION, "crc32c:00000000"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+            JsonSerializableAddressBook.readFrom(parser));
+    }
+
+    @Test
+    public void readFrom_checksumOfOtherValidatorVersion_fieldsChecked() throws Exception {
+        JsonParser parser = new JsonFactory().createParser(
+            withChecksum(AddressBookChecksum.VALIDATOR_VERSION - 1, personChecksum()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+            JsonSerializableAddressBook.readFrom(parser));
+    }
+
+    @Test
+    public void readFrom_checksumAfterPersons_fieldsChecked() throws Exception {
+        String json = "{ \"persons\" : [ " + PERSON_JSON + " ], \"validatorVersion\" : "
+            + AddressBookChecksum.VALIDATOR_VERSION + ", \"checksum\" : \"" + personChecksum() + "\" }";
+        JsonParser parser = new JsonFactory().createParser(json);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+            JsonSerializableAddressBook.readFrom(parser));
+    }
+
+    @Test
+    public void readFrom_editedAfterSaving_editsChecked() throws Exception {
+        String json = TypicalPersons.getTypicalAddressBook().getPersonList().stream()
+            .map(JsonAdaptedPerson::new)
+            .map(person -> {
+                try {
+                    return JsonUtil.toJsonString(person);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            })
+            .collect(Collectors.joining(", ", "{ \"validatorVersion\" : " + AddressBookChecksum.VALIDATOR_VERSION
+                + ", \"checksum\" : \"" + AddressBookChecksum.of(TypicalPersons.getTypicalAddressBook())
+                + "\", \"persons\" : [ ", " ] }"));
+        String lowerCaseMatriculationNumber = json.replace(TypicalPersons.ALICE.getMatriculationNumber().value,
+            TypicalPersons.ALICE.getMatriculationNumber().value.toLowerCase());
+
+        // Edited matriculation numbers are normalized as they would be without a checksum
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readFrom(
+            new JsonFactory().createParser(lowerCaseMatriculationNumber)));
+    }
+
+    @Test
+    public void salvageFrom_damagedRecords_onlyIntactPersonsRead() throws Exception {
+        String alice = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        String benson = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(TypicalPersons.BENSON));
+        String changedBenson = benson.replace(TypicalPersons.BENSON.getPhone().value, "81234567");
+        String json = "{ \"persons\" : [ " + alice + ", " + PERSON_JSON + ", " + alice + ", 42, " + changedBenson
+            + ", " + benson + " ] }";
+        QuarantineFile quarantine = new QuarantineFile(testFolder.resolve("addressbook.json"));
+
+        AddressBook salvaged = JsonSerializableAddressBook.salvageFrom(new JsonFactory().createParser(json),
+            quarantine);
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(TypicalPersons.ALICE);
+        expected.addPerson(TypicalPersons.BENSON);
+        assertEquals(expected, salvaged);
+        String aliceMatriculationNumber = TypicalPersons.ALICE.getMatriculationNumber().value;
+        String bensonMatriculationNumber = TypicalPersons.BENSON.getMatriculationNumber().value;
+        assertEquals(Arrays.asList(
+            String.format(JsonSerializableAddressBook.MESSAGE_RECORD_PROBLEM, 2, "A1234567X", Name.MESSAGE_CONSTRAINTS),
+            String.format(JsonSerializableAddressBook.MESSAGE_RECORD_PROBLEM, 3, aliceMatriculationNumber,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON),
+            String.format(JsonSerializableAddressBook.MESSAGE_RECORD_PROBLEM, 4, "?",
+                JsonSerializableAddressBook.MESSAGE_NOT_A_PERSON),
+            String.format(JsonSerializableAddressBook.MESSAGE_RECORD_PROBLEM, 5, bensonMatriculationNumber,
+                JsonSerializableAddressBook.MESSAGE_CHANGED_AFTER_SAVING)), quarantine.getProblems());
+    }
+
+    @Test
+    public void salvageFrom_truncatedContent_personsBeforeTruncationRead() throws Exception {
+        String alice = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        String benson = JsonUtil.toCompactJsonString(new JsonAdaptedPerson(TypicalPersons.BENSON));
+        String json = "{ \"persons\" : [ " + alice + ", " + benson.substring(0, benson.length() / 2);
+        QuarantineFile quarantine = new QuarantineFile(testFolder.resolve("addressbook.json"));
+
+        AddressBook salvaged = JsonSerializableAddressBook.salvageFrom(new JsonFactory().createParser(json),
+            quarantine);
+
+        assertEquals(Arrays.asList(TypicalPersons.ALICE), salvaged.getPersonList());
+        assertEquals(1, quarantine.getProblems().size());
+        String expectedStart = String.format(JsonSerializableAddressBook.MESSAGE_UNREADABLE_REST, 1, "");
+        assertTrue(quarantine.getProblems().get(0).startsWith(
+            expectedStart.substring(0, expectedStart.length() - 1)));
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
@@ -47,4 +215,15 @@ public class JsonSerializableAddressBookTest {
             dataFromFile::toModelType);
     }
 
+    private static String withChecksum(int validatorVersion, String checksum) {
+        return "{ \"validatorVersion\" : " + validatorVersion + ", \"checksum\" : \"" + checksum + "\", "
+            + "\"persons\" : [ " + PERSON_JSON + " ] }";
+    }
+
+    private static String personChecksum() {
+        AddressBookChecksum checksum = new AddressBookChecksum();
+        checksum.update(INVALID_NAME, "94351253", "rachel@example.com", "A1234567X");
+        return checksum.getValue();
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
@@ -13,7 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.Passphrase;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -99,6 +103,21 @@ public class JsonUserPrefsStorageTest {
         }
     }
 
+    @Test
+    public void storageSettings_withPassphrase_passphraseNotSaved() throws IOException {
+        StorageSettings settings = new StorageSettings().withShardCount(4)
+                .withPassphrase(new Passphrase("correct horse".toCharArray()));
+        assertTrue(settings.isEncrypted());
+
+        String json = JsonUtil.toJsonString(settings);
+        assertFalse(json.contains("correct horse"));
+        assertFalse(json.contains("passphrase"));
+
+        StorageSettings readBack = JsonUtil.fromJsonString(json, StorageSettings.class);
+        assertEquals(settings, readBack);
+        assertFalse(readBack.isEncrypted());
+    }
+
     @Test
     public void saveUserPrefs_allInOrder_success() throws DataLoadingException, IOException {
 
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int MANY_PERSONS = 5 * ParallelPersonConverter.SEQUENTIAL_THRESHOLD + 3;
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withMatriculationNumber(String.format("A%07dX", i)).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> toJsonAdapted(List<Person> persons) {
+        List<JsonAdaptedPerson> adapted = new ArrayList<>();
+        persons.forEach(person -> adapted.add(new JsonAdaptedPerson(person)));
+        return adapted;
+    }
+
+    private static JsonAdaptedPerson invalidPerson() {
+        return new JsonAdaptedPerson("R@chel", null, null, "A0000000Z", null, null, null);
+    }
+
+    @Test
+    public void convert_manyPersons_keepsOrder() throws Exception {
+        List<Person> persons = createPersons(MANY_PERSONS);
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+
+        converter.convert(toJsonAdapted(persons.subList(0, 100)));
+        converter.convert(toJsonAdapted(persons.subList(100, MANY_PERSONS)));
+
+        assertEquals(persons, converter.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void convert_duplicateInLaterBatch_throwsIllegalValueException() throws Exception {
+        List<Person> persons = createPersons(MANY_PERSONS);
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        converter.convert(toJsonAdapted(persons.subList(0, 10)));
+
+        List<JsonAdaptedPerson> batch = toJsonAdapted(persons.subList(10, MANY_PERSONS));
+        batch.add(new JsonAdaptedPerson(persons.get(3)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                converter.convert(batch));
+    }
+
+    @Test
+    public void convert_invalidPersonBeforeDuplicate_reportsInvalidPerson() {
+        List<JsonAdaptedPerson> batch = toJsonAdapted(createPersons(MANY_PERSONS));
+        batch.add(MANY_PERSONS - 1, batch.get(MANY_PERSONS - 2));
+        batch.add(ParallelPersonConverter.SEQUENTIAL_THRESHOLD * 2, invalidPerson());
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new ParallelPersonConverter().convert(batch));
+    }
+
+    @Test
+    public void convert_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        List<JsonAdaptedPerson> batch = toJsonAdapted(createPersons(MANY_PERSONS));
+        batch.add(MANY_PERSONS - 1, invalidPerson());
+        batch.add(ParallelPersonConverter.SEQUENTIAL_THRESHOLD * 2, batch.get(0));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new ParallelPersonConverter().convert(batch));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.Passphrase;
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.ClosedYear;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.person.MatriculationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PaymentArchiveTest {
+
+    private static final Payment DUES_2023 = payment("30", LocalDate.of(2023, 8, 1));
+    private static final Payment SHIRT_2024 = payment("12.50", LocalDate.of(2024, 12, 31));
+    private static final Payment DUES_2025 = payment("30", LocalDate.of(2025, 1, 1));
+    private static final Person ANN = new PersonBuilder().withName("Ann Lee").withMatriculationNumber("A1234567X")
+            .withPayments(DUES_2023, SHIRT_2024, DUES_2025).build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Tan").withMatriculationNumber("A7654321Y")
+            .withPayments(DUES_2025).build();
+
+    @TempDir
+    public Path testFolder;
+
+    private static Payment payment(String amount, LocalDate date) {
+        return new Payment(Amount.parse(amount), date, "remark", date.atTime(LocalTime.NOON));
+    }
+
+    @Test
+    public void getArchiveDirectory_nextToDataFile() {
+        assertEquals(testFolder.resolve("addressbook.json.archive"),
+                PaymentArchive.getArchiveDirectory(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void getClosedYears_noArchive_empty() throws Exception {
+        assertTrue(new PaymentArchive(testFolder.resolve("missing")).getClosedYears().isEmpty());
+    }
+
+    @Test
+    public void close_paymentsUpToLastDayArchived() throws Exception {
+        PaymentArchive archive = new PaymentArchive(testFolder);
+        ClosedYear closedYear = archive.close(2024, List.of(ANN, BOB));
+
+        assertEquals(2024, closedYear.getYear());
+        assertEquals(1, closedYear.getTotals().size());
+        assertEquals(new ClosedYear.Total(2, new BigDecimal("42.50")),
+                closedYear.getTotal(ANN.getMatriculationNumber()).get());
+        assertTrue(closedYear.getTotal(BOB.getMatriculationNumber()).isEmpty());
+        assertTrue(Files.exists(testFolder.resolve("payments-2024.json.gz")));
+        assertEquals(List.of(closedYear), archive.getClosedYears());
+    }
+
+    @Test
+    public void readPayments_freshArchive_readsSegments() throws Exception {
+        new PaymentArchive(testFolder).close(2024, List.of(ANN, BOB));
+
+        PaymentArchive archive = new PaymentArchive(testFolder);
+        assertEquals(List.of(2024), archive.getClosedYears().stream().map(ClosedYear::getYear)
+                .collect(Collectors.toList()));
+        assertEquals(List.of(DUES_2023, SHIRT_2024), archive.readPayments(ANN.getMatriculationNumber(), 2023));
+        assertEquals(List.of(DUES_2023, SHIRT_2024), archive.readPayments(ANN.getMatriculationNumber(), 2024));
+        assertTrue(archive.readPayments(ANN.getMatriculationNumber(), 2025).isEmpty());
+        assertTrue(archive.readPayments(BOB.getMatriculationNumber(), 2024).isEmpty());
+        assertTrue(archive.readPayments(new MatriculationNumber("A0000000Z"), 2024).isEmpty());
+    }
+
+    @Test
+    public void close_yearAlreadyClosed_throwsFileAlreadyExistsException() throws Exception {
+        PaymentArchive archive = new PaymentArchive(testFolder);
+        archive.close(2024, List.of(ANN));
+
+        assertThrows(FileAlreadyExistsException.class, () -> archive.close(2024, List.of(ANN)));
+        assertThrows(FileAlreadyExistsException.class, () -> archive.close(2023, List.of(ANN)));
+        assertEquals(2025, archive.close(2025, List.of(BOB)).getYear());
+    }
+
+    @Test
+    public void readPayments_encryptedArchive_needsPassphrase() throws Exception {
+        Passphrase passphrase = new Passphrase("secret".toCharArray());
+        new PaymentArchive(testFolder, passphrase).close(2024, List.of(ANN));
+
+        assertEquals(List.of(DUES_2023, SHIRT_2024), new PaymentArchive(testFolder, passphrase)
+                .readPayments(ANN.getMatriculationNumber(), 2024));
+        assertThrows(DataLoadingException.class, () -> new PaymentArchive(testFolder).getClosedYears());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.payment.Amount;
+import seedu.address.model.payment.Payment;
+import seedu.address.model.payment.PaymentLedger;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PaymentExporter.Format;
+import seedu.address.testutil.PersonBuilder;
+
+public class PaymentExporterTest {
+
+    private static final Payment SHIRT = new Payment(Amount.parse("12.50"), LocalDate.of(2025, 1, 2),
+            "shirt, size \"M\"", LocalDateTime.of(2025, 1, 2, 9, 30));
+    private static final Payment DUES = new Payment(Amount.parse("30"), LocalDate.of(2025, 2, 3), null,
+            LocalDateTime.of(2025, 2, 3, 10, 0));
+    private static final Person ANN = new PersonBuilder().withName("Ann Lee").withMatriculationNumber("A1234567X")
+            .withPayments(SHIRT, DUES).build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Tan").withMatriculationNumber("A7654321Y")
+            .build();
+
+    @TempDir
+    public Path testFolder;
+
+    private static String write(List<Person> persons, Format format) throws Exception {
+        StringWriter writer = new StringWriter();
+        PaymentExporter.write(persons, payment -> true, format, writer);
+        return writer.toString();
+    }
+
+    @Test
+    public void write_csv_onePaymentPerLine() throws Exception {
+        assertEquals("matric,amount,date,remarks,recordedAt\n"
+                + "A1234567X,12.50,2025-01-02,\"shirt, size \"\"M\"\"\",2025-01-02T09:30\n"
+                + "A1234567X,30.00,2025-02-03,,2025-02-03T10:00\n", write(List.of(ANN, BOB), Format.CSV));
+    }
+
+    @Test
+    public void write_jsonLines_onePaymentPerLine() throws Exception {
+        assertEquals("{\"matric\":\"A1234567X\",\"amount\":\"12.50\",\"date\":\"2025-01-02\","
+                + "\"remarks\":\"shirt, size \\\"M\\\"\",\"recordedAt\":\"2025-01-02T09:30\"}\n"
+                + "{\"matric\":\"A1234567X\",\"amount\":\"30.00\",\"date\":\"2025-02-03\","
+                + "\"recordedAt\":\"2025-02-03T10:00\"}\n", write(List.of(ANN, BOB), Format.JSONL));
+        assertEquals("", write(List.of(BOB), Format.JSONL));
+    }
+
+    @Test
+    public void write_lazyLedger_staysUnloaded() throws Exception {
+        PaymentLedger ledger = PaymentLedger.lazy(1, new BigDecimal("30.00"), Optional.of(DUES), () -> List.of(DUES));
+        Person person = new Person(ANN.getName(), ANN.getPhone(), ANN.getEmail(), ANN.getMatriculationNumber(),
+                ANN.getTags(), false, ledger);
+
+        assertTrue(write(List.of(person), Format.CSV).contains("A1234567X,30.00"));
+        assertFalse(ledger.isLoaded());
+    }
+
+    @Test
+    public void export_filtered_fileWritten() throws Exception {
+        Path file = testFolder.resolve("exports").resolve("payments.csv");
+        int count = new PaymentExporter().export(List.of(ANN, BOB), payment -> payment.getRemarks() == null, file,
+                Format.CSV).join();
+
+        assertEquals(1, count);
+        assertEquals(List.of("matric,amount,date,remarks,recordedAt", "A1234567X,30.00,2025-02-03,,2025-02-03T10:00"),
+                Files.readAllLines(file));
+    }
+
+    @Test
+    public void export_unwritableFile_completesExceptionally() throws Exception {
+        // A directory that is not empty cannot be replaced by the file
+        Path directory = Files.createDirectory(testFolder.resolve("payments.csv"));
+        Files.createFile(directory.resolve("other"));
+        Assertions.assertThrows(CompletionException.class, () ->
+                new PaymentExporter().export(List.of(ANN), payment -> true, directory, Format.CSV).join());
+    }
+
+    @Test
+    public void forFile() {
+        assertEquals(Optional.of(Format.CSV), Format.forFile(Path.of("data", "Payments.CSV")));
+        assertEquals(Optional.of(Format.JSONL), Format.forFile(Path.of("payments.jsonl")));
+        assertEquals(Optional.empty(), Format.forFile(Path.of("payments.json")));
+    }
+}
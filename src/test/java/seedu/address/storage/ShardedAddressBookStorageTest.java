@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private ShardedAddressBookStorage createStorage(int shardCount) {
+        return new ShardedAddressBookStorage(testFolder.resolve("addressbook.shards"),
+                new StorageSettings(DataFormat.JSON).withShardCount(shardCount));
+    }
+
+    private Path getShardPath(int shardIndex) {
+        return testFolder.resolve("addressbook.shards").resolve(String.format("shard-%03d", shardIndex));
+    }
+
+    @Test
+    public void getShardDirectory_dataFile_siblingDirectory() {
+        assertEquals(testFolder.resolve("addressbook.json.shards"),
+                ShardedAddressBookStorage.getShardDirectory(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage(SHARD_COUNT).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = createStorage(SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(createStorage(SHARD_COUNT).readAddressBook().get());
+        assertEquals(original, readBack);
+        // The order of the persons across shards is restored from the manifest
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardRewritten() throws Exception {
+        ShardedAddressBookStorage storage = createStorage(SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path manifestPath = storage.getAddressBookFilePath();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Files.setLastModifiedTime(getShardPath(i), OLD_TIME);
+        }
+        Files.setLastModifiedTime(manifestPath, OLD_TIME);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        int aliceShard = ShardedAddressBookStorage.getShardIndex(ALICE.getMatriculationNumber(), SHARD_COUNT);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertEquals(i != aliceShard, Files.getLastModifiedTime(getShardPath(i)).equals(OLD_TIME));
+        }
+        // The order of the persons did not change, so neither did the manifest
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(manifestPath));
+        assertEquals(addressBook, new AddressBook(createStorage(SHARD_COUNT).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personAddedAndRemoved_manifestRewritten() throws Exception {
+        ShardedAddressBookStorage storage = createStorage(SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.setLastModifiedTime(storage.getAddressBookFilePath(), OLD_TIME);
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(storage.getAddressBookFilePath()));
+        AddressBook readBack = new AddressBook(createStorage(SHARD_COUNT).readAddressBook().get());
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_shardCountChanged_repartitionedOnSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage(SHARD_COUNT).saveAddressBook(original);
+
+        ShardedAddressBookStorage resizedStorage = createStorage(2);
+        AddressBook readBack = new AddressBook(resizedStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        resizedStorage.saveAddressBook(readBack);
+
+        assertTrue(Files.exists(getShardPath(1)));
+        assertFalse(Files.exists(getShardPath(2)));
+        assertFalse(Files.exists(getShardPath(3)));
+        assertEquals(original, new AddressBook(createStorage(2).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_personInWrongShard_throwsDataLoadingException() throws Exception {
+        createStorage(SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        int aliceShard = ShardedAddressBookStorage.getShardIndex(ALICE.getMatriculationNumber(), SHARD_COUNT);
+        Path otherShard = getShardPath((aliceShard + 1) % SHARD_COUNT);
+        Files.copy(getShardPath(aliceShard), otherShard, StandardCopyOption.REPLACE_EXISTING);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(SHARD_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = createStorage(SHARD_COUNT);
+        FileUtil.createParentDirsOfFile(storage.getAddressBookFilePath());
+        FileUtil.writeToFile(storage.getAddressBookFilePath(), "{\"version\" : 1, \"shardCount\" : 0}");
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void deleteFiles_savedAddressBook_directoryRemoved() throws Exception {
+        ShardedAddressBookStorage storage = createStorage(SHARD_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.deleteFiles();
+        assertFalse(Files.exists(testFolder.resolve("addressbook.shards")));
+    }
+}
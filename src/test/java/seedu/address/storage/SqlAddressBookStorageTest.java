@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PaymentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidSuffix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SqlAddressBookStorage(testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void getDatabaseFilePath_siblingOfDataFile() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json" + SqlAddressBookStorage.DATABASE_FILE_SUFFIX),
+                SqlAddressBookStorage.getDatabaseFilePath(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("missing.mv.db"))) {
+            assertFalse(storage.readAddressBook().isPresent());
+        }
+        assertFalse(Files.exists(testFolder.resolve("missing.mv.db")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        Person paidAlice = ALICE
+                .withAddedPayment(new PaymentBuilder().withAmount("12.50").withRemarks("Spring fee").build())
+                .withAddedPayment(new PaymentBuilder().withAmount("0.05").withDate("1969-12-31").build());
+        original.setPerson(ALICE, paidAlice);
+
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(original);
+        }
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+            assertEquals(original, new AddressBook(readBack));
+            assertEquals(paidAlice.getPayments(), readBack.getPersonList().get(0).getPayments());
+            assertEquals(paidAlice.getTags(), readBack.getPersonList().get(0).getTags());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_changedPersons_onlyTheirRowsWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook addressBook = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(addressBook);
+
+            Person editedCarl = new PersonBuilder(CARL).withPhone("81234567").withTags("treasurer").build()
+                    .withAddedPayment(new PaymentBuilder().withAmount("3.00").build());
+            addressBook.setPerson(CARL, editedCarl);
+            addressBook.removePerson(BENSON);
+            addressBook.addPerson(HOON);
+            storage.saveAddressBook(addressBook);
+        }
+
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            // edited persons keep their place, and added persons come last
+            assertEquals(addressBook.getPersonList(), storage.readAddressBook().get().getPersonList());
+
+            addressBook.removePerson(HOON);
+            storage.saveAddressBook(addressBook);
+            assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_editedMatriculationNumber_placeKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook addressBook = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(addressBook);
+            addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withMatriculationNumber("A7654321Z").build());
+            storage.saveAddressBook(addressBook);
+            addressBook.addPerson(HOON);
+            storage.saveAddressBook(addressBook);
+        }
+
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_otherDatabase_rewrittenWithoutChangingOwn() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        Path otherFilePath = testFolder.resolve("other.mv.db");
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(getTypicalAddressBook());
+            AddressBook other = new AddressBook();
+            other.addPerson(HOON);
+            storage.saveAddressBook(other, otherFilePath);
+
+            assertTrue(Files.exists(otherFilePath));
+            assertEquals(other, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+            assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+}
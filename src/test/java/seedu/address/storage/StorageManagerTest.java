@@ -1,10 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +67,78 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void requestSaveAddressBook_backgroundSaving_writtenAfterFlush() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new AddressBookSaveWorker(addressBookStorage));
+        AddressBook original = getTypicalAddressBook();
+
+        backgroundStorage.requestSaveAddressBook(original);
+        backgroundStorage.flushPendingSaves();
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void switchAddressBook_workspace_savesGoToOpenBook() throws Exception {
+        Path firstPath = testFolder.resolve("first.json");
+        Path secondPath = testFolder.resolve("second.json");
+        List<Path> openedPaths = new ArrayList<>();
+        StorageManager workspaceStorage = new StorageManager(firstPath,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), filePath -> {
+                    openedPaths.add(filePath);
+                    JsonAddressBookStorage bookStorage = new JsonAddressBookStorage(filePath);
+                    return new WorkspaceBook(bookStorage, new AddressBookSaveWorker(bookStorage), null);
+                });
+        assertTrue(workspaceStorage.supportsWorkspace());
+        AddressBook first = getTypicalAddressBook();
+        workspaceStorage.requestSaveAddressBook(first);
+
+        assertFalse(workspaceStorage.readWorkspaceBook(secondPath).isPresent());
+        workspaceStorage.switchAddressBook(secondPath); // writes the pending save of the first book
+        assertEquals(first, new AddressBook(new JsonAddressBookStorage(firstPath).readAddressBook().get()));
+        assertEquals(secondPath, workspaceStorage.getAddressBookFilePath());
+
+        workspaceStorage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(workspaceStorage.readAddressBook().get()));
+        assertEquals(first, new AddressBook(workspaceStorage.readWorkspaceBook(firstPath).get()));
+        workspaceStorage.switchAddressBook(firstPath);
+        assertEquals(Arrays.asList(firstPath, secondPath), openedPaths); // books stay open
+    }
+
+    @Test
+    public void shutdown_workspace_stopsSaveWorkersOfAllOpenedBooks() throws Exception {
+        Path firstPath = testFolder.resolve("first.json");
+        Path secondPath = testFolder.resolve("second.json");
+        List<AddressBookSaveWorker> saveWorkers = new ArrayList<>();
+        StorageManager workspaceStorage = new StorageManager(firstPath,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), filePath -> {
+                    JsonAddressBookStorage bookStorage = new JsonAddressBookStorage(filePath);
+                    AddressBookSaveWorker saveWorker = new AddressBookSaveWorker(bookStorage);
+                    saveWorkers.add(saveWorker);
+                    return new WorkspaceBook(bookStorage, saveWorker, null);
+                });
+        workspaceStorage.switchAddressBook(secondPath);
+        AddressBook second = getTypicalAddressBook();
+        workspaceStorage.requestSaveAddressBook(second);
+
+        workspaceStorage.shutdown(); // writes the pending save of the second book
+        assertEquals(second, new AddressBook(new JsonAddressBookStorage(secondPath).readAddressBook().get()));
+        for (AddressBookSaveWorker saveWorker : saveWorkers) {
+            assertThrows(RejectedExecutionException.class, () -> saveWorker.requestSave(second));
+        }
+    }
+
+    @Test
+    public void switchAddressBook_singleAddressBook_throwsUnsupportedOperationException() {
+        assertFalse(storageManager.supportsWorkspace());
+        assertThrows(UnsupportedOperationException.class, () ->
+                storageManager.switchAddressBook(getTempFilePath("other")));
+        assertThrows(UnsupportedOperationException.class, () ->
+                storageManager.readWorkspaceBook(getTempFilePath("other")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());